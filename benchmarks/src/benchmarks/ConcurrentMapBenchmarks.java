@@ -0,0 +1,70 @@
+package benchmarks;
+
+import maps.ConcurrentChainedHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reads from one map shared by all benchmark threads.
+ *
+ * Scores are per batch of {@code size} gets, in throughput mode, so with reads that scale the
+ * total score grows in proportion to the thread count; compare runs with e.g. {@code -t 1} and
+ * {@code -t 4}. {@link ConcurrentHashMap} is included as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+public class ConcurrentMapBenchmarks {
+    @Param({"ConcurrentChainedHashMap", "ConcurrentHashMap"})
+    public String implementation;
+
+    @Param({"100000"})
+    public int size;
+
+    private Integer[] keys;
+    private Map<Integer, Integer> filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(373);
+        this.keys = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.keys[i] = rand.nextInt();
+        }
+        switch (this.implementation) {
+            case "ConcurrentChainedHashMap":
+                this.filled = new ConcurrentChainedHashMap<>();
+                break;
+            case "ConcurrentHashMap":
+                this.filled = new ConcurrentHashMap<>();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        }
+        for (Integer key : this.keys) {
+            this.filled.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (Integer key : this.keys) {
+            blackhole.consume(this.filled.get(key));
+        }
+    }
+}
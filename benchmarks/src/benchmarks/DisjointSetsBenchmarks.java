@@ -0,0 +1,84 @@
+package benchmarks;
+
+import disjointsets.ArrayDisjointSets;
+import disjointsets.DisjointSets;
+import disjointsets.QuickFindDisjointSets;
+import disjointsets.UnionBySizeCompressingDisjointSets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks union and find on the disjoint sets implementations in the mazes module, using the
+ * same access pattern as Kruskal's algorithm: random unions followed by finds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DisjointSetsBenchmarks {
+    @Param({"ArrayDisjointSets", "UnionBySizeCompressingDisjointSets", "QuickFindDisjointSets"})
+    public String implementation;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private Integer[] items;
+    private int[] pairs;
+    private DisjointSets<Integer> filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(373);
+        this.items = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.items[i] = i;
+        }
+        this.pairs = new int[this.size * 2];
+        for (int i = 0; i < this.pairs.length; i++) {
+            this.pairs[i] = rand.nextInt(this.size);
+        }
+        this.filled = unionAll();
+    }
+
+    private DisjointSets<Integer> createDisjointSets() {
+        switch (this.implementation) {
+            case "ArrayDisjointSets":
+                return new ArrayDisjointSets<>();
+            case "UnionBySizeCompressingDisjointSets":
+                return new UnionBySizeCompressingDisjointSets<>();
+            case "QuickFindDisjointSets":
+                return new QuickFindDisjointSets<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        }
+    }
+
+    @Benchmark
+    public DisjointSets<Integer> unionAll() {
+        DisjointSets<Integer> sets = createDisjointSets();
+        for (Integer item : this.items) {
+            sets.makeSet(item);
+        }
+        for (int i = 0; i < this.pairs.length; i += 2) {
+            sets.union(this.items[this.pairs[i]], this.items[this.pairs[i + 1]]);
+        }
+        return sets;
+    }
+
+    @Benchmark
+    public void findSet(Blackhole blackhole) {
+        for (int i = 0; i < this.pairs.length; i++) {
+            blackhole.consume(this.filled.findSet(this.items[this.pairs[i]]));
+        }
+    }
+}
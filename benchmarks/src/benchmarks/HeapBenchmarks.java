@@ -0,0 +1,94 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import priorityqueues.ArrayHeapMinPQ;
+import priorityqueues.DaryHeapMinPQ;
+import priorityqueues.ExtrinsicMinPQ;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link ExtrinsicMinPQ} implementations in the heap module.
+ *
+ * Each invocation processes {@code size} items, so scores are per batch rather than per operation.
+ *
+ * Removing and changing priorities need a full heap, and a fresh one each time, since removal
+ * empties it. Filling it in a per-invocation setup would add JMH's own timing overhead to every
+ * call, so instead those benchmarks fill the heap themselves: subtract the score of {@link #add}
+ * from theirs to get the cost of the operation alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HeapBenchmarks {
+    @Param({"ArrayHeapMinPQ", "DaryHeapMinPQ"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private double[] priorities;
+    private int[] changedItems;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random rand = new Random(373);
+        this.priorities = new double[this.size];
+        this.changedItems = new int[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.priorities[i] = rand.nextDouble();
+            this.changedItems[i] = rand.nextInt(this.size);
+        }
+    }
+
+    private ExtrinsicMinPQ<Integer> createMinPQ() {
+        switch (this.implementation) {
+            case "ArrayHeapMinPQ":
+                return new ArrayHeapMinPQ<>();
+            case "DaryHeapMinPQ":
+                return new DaryHeapMinPQ<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        }
+    }
+
+    private ExtrinsicMinPQ<Integer> filledMinPQ() {
+        ExtrinsicMinPQ<Integer> pq = createMinPQ();
+        for (int i = 0; i < this.size; i++) {
+            pq.add(i, this.priorities[i]);
+        }
+        return pq;
+    }
+
+    @Benchmark
+    public ExtrinsicMinPQ<Integer> add() {
+        return filledMinPQ();
+    }
+
+    @Benchmark
+    public void addThenRemoveMin(Blackhole blackhole) {
+        ExtrinsicMinPQ<Integer> pq = filledMinPQ();
+        while (!pq.isEmpty()) {
+            blackhole.consume(pq.removeMin());
+        }
+    }
+
+    @Benchmark
+    public ExtrinsicMinPQ<Integer> addThenChangePriority() {
+        ExtrinsicMinPQ<Integer> pq = filledMinPQ();
+        for (int i = 0; i < this.size; i++) {
+            pq.changePriority(this.changedItems[i], this.priorities[i]);
+        }
+        return pq;
+    }
+}
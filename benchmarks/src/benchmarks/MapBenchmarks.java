@@ -0,0 +1,83 @@
+package benchmarks;
+
+import maps.AVLTreeMap;
+import maps.BoxedIntHashMap;
+import maps.ChainedHashMap;
+import maps.ConcurrentChainedHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks put and get on the map implementations in the maps module.
+ *
+ * Each invocation processes {@code size} keys, so scores are per batch rather than per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapBenchmarks {
+    @Param({"ChainedHashMap", "ConcurrentChainedHashMap", "BoxedIntHashMap", "AVLTreeMap"})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Integer[] keys;
+    private Map<Integer, Integer> filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rand = new Random(373);
+        this.keys = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.keys[i] = rand.nextInt();
+        }
+        this.filled = createMap();
+        for (Integer key : this.keys) {
+            this.filled.put(key, key);
+        }
+    }
+
+    private Map<Integer, Integer> createMap() {
+        switch (this.implementation) {
+            case "ChainedHashMap":
+                return new ChainedHashMap<>();
+            case "ConcurrentChainedHashMap":
+                return new ConcurrentChainedHashMap<>();
+            case "BoxedIntHashMap":
+                return new BoxedIntHashMap<>();
+            case "AVLTreeMap":
+                return new AVLTreeMap<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + this.implementation);
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> put() {
+        Map<Integer, Integer> map = createMap();
+        for (Integer key : this.keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (Integer key : this.keys) {
+            blackhole.consume(this.filled.get(key));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package benchmarks;
+
+import graphs.EdgeWithData;
+import graphs.minspantrees.BoruvkaMinimumSpanningTreeFinder;
+import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
+import graphs.minspantrees.MinimumSpanningTree;
+import graphs.minspantrees.PrimMinimumSpanningTreeFinder;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPath;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.logic.MazeGraph;
+import mazes.logic.MazeSolver;
+import mazes.logic.PreparedMaze;
+import mazes.logic.carvers.KruskalMazeCarver;
+import mazes.logic.generators.GridGenerator;
+import mazes.logic.generators.HexagonGenerator;
+import mazes.logic.generators.MazeBaseGenerator;
+import mazes.logic.generators.VoronoiGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the MST finders and Dijkstra's algorithm on generated mazes.
+ *
+ * The mazes are generated once per trial with fixed seeds; only the graph algorithms are timed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MazeBenchmarks {
+    private static final Rectangle BOUNDS = new Rectangle(0, 0, 4000, 4000);
+
+    @Param({"Grid", "Hexagon", "Voronoi"})
+    public String generator;
+
+    private MazeGraph randomlyWeightedGraph;
+    private MazeGraph carvedGraph;
+    private Set<Wall> pathways;
+    private PreparedMaze prepared;
+    private Room start;
+    private Room end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Maze maze = createGenerator().generateBaseMaze(BOUNDS);
+        this.start = maze.getStart();
+        this.end = maze.getEnd();
+
+        Random rand = new Random(373);
+        List<EdgeWithData<Room, Wall>> weighted = new ArrayList<>();
+        for (Wall wall : maze.getRemovableWalls()) {
+            weighted.add(new EdgeWithData<>(wall.getRoom1(), wall.getRoom2(), rand.nextDouble(), wall));
+        }
+        this.randomlyWeightedGraph = new MazeGraph(weighted);
+
+        this.pathways = new KruskalMazeCarver(new KruskalMinimumSpanningTreeFinder<>(), 373)
+            .carveMaze(maze).pathways();
+        List<EdgeWithData<Room, Wall>> carved = new ArrayList<>();
+        for (Wall wall : this.pathways) {
+            carved.add(new EdgeWithData<>(wall.getRoom1(), wall.getRoom2(), wall.getDistance(), wall));
+        }
+        this.carvedGraph = new MazeGraph(carved);
+        this.prepared = new PreparedMaze(this.pathways);
+    }
+
+    private MazeBaseGenerator createGenerator() {
+        switch (this.generator) {
+            case "Grid":
+                return new GridGenerator(200, 200);
+            case "Hexagon":
+                return new HexagonGenerator(150);
+            case "Voronoi":
+                return new VoronoiGenerator(20000, 10, 5, 5, 373);
+            default:
+                throw new IllegalArgumentException("Unknown generator: " + this.generator);
+        }
+    }
+
+    @Benchmark
+    public MinimumSpanningTree<Room, EdgeWithData<Room, Wall>> kruskal() {
+        return new KruskalMinimumSpanningTreeFinder<MazeGraph, Room, EdgeWithData<Room, Wall>>()
+            .findMinimumSpanningTree(this.randomlyWeightedGraph);
+    }
+
+    @Benchmark
+    public MinimumSpanningTree<Room, EdgeWithData<Room, Wall>> kruskalLazyHeap() {
+        return new KruskalMinimumSpanningTreeFinder<MazeGraph, Room, EdgeWithData<Room, Wall>>(
+            KruskalMinimumSpanningTreeFinder.EdgeOrder.LAZY_HEAP)
+            .findMinimumSpanningTree(this.randomlyWeightedGraph);
+    }
+
+    @Benchmark
+    public MinimumSpanningTree<Room, EdgeWithData<Room, Wall>> boruvka() {
+        return new BoruvkaMinimumSpanningTreeFinder<MazeGraph, Room, EdgeWithData<Room, Wall>>()
+            .findMinimumSpanningTree(this.randomlyWeightedGraph);
+    }
+
+    @Benchmark
+    public MinimumSpanningTree<Room, EdgeWithData<Room, Wall>> prim() {
+        return new PrimMinimumSpanningTreeFinder<MazeGraph, Room, EdgeWithData<Room, Wall>>()
+            .findMinimumSpanningTree(this.randomlyWeightedGraph);
+    }
+
+    @Benchmark
+    public ShortestPath<Room, EdgeWithData<Room, Wall>> dijkstra() {
+        return new DijkstraShortestPathFinder<MazeGraph, Room, EdgeWithData<Room, Wall>>()
+            .findShortestPath(this.carvedGraph, this.start, this.end);
+    }
+
+    @Benchmark
+    public Optional<List<Wall>> solveMaze() {
+        return new MazeSolver(new DijkstraShortestPathFinder<>()).solveMaze(this.pathways, this.start, this.end);
+    }
+
+    @Benchmark
+    public Optional<List<Wall>> solvePreparedMaze() {
+        return new MazeSolver(new DijkstraShortestPathFinder<>()).solveMaze(this.prepared, this.start, this.end);
+    }
+}
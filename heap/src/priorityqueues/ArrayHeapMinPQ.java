@@ -46,9 +46,12 @@ public class ArrayHeapMinPQ<T> implements ExtrinsicMinPQ<T> {
     @Override
     public T removeMin() {
         T min = peekMin();
-        items.set(1, items.get(size));
         map.remove(min);
-        map.put(peekMin(), 1);
+        if (size > 1) {
+            // Move the last item to the root; with only one item, the root is the one being removed.
+            items.set(1, items.get(size));
+            map.put(peekMin(), 1);
+        }
         items.remove(size);
         size--;
         if (size > 1) {
@@ -0,0 +1,189 @@
+package priorityqueues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An {@link ExtrinsicMinPQ} backed by a primitive d-ary heap.
+ *
+ * Each item is assigned an int handle; the heap itself ({@link IndexedIntMinPQ}) only ever sees
+ * handles and {@code double} priorities, so swaps never box. Items are mapped to their handles by
+ * an open-addressed (linear probing) hash table that uses backward-shift deletion instead of
+ * tombstones. Handles freed by {@code removeMin} are recycled.
+ *
+ * Like {@link ArrayHeapMinPQ}, this implementation accepts a null item.
+ */
+public class DaryHeapMinPQ<T> implements ExtrinsicMinPQ<T> {
+    private static final Object NULL_ITEM = new Object();
+    private static final int INITIAL_TABLE_CAPACITY = 16;
+    private static final int NO_HANDLE = -1;
+
+    final IndexedIntMinPQ heap;
+
+    // Open-addressed item -> handle index. A null key marks an empty slot.
+    private Object[] keys;
+    private int[] keyHandles;
+    private int mask;
+
+    // handle -> item, plus a stack of recycled handles
+    Object[] items;
+    private int[] freeHandles;
+    private int freeCount;
+    private int nextHandle;
+
+    public DaryHeapMinPQ() {
+        this(IndexedIntMinPQ.DEFAULT_ARITY);
+    }
+
+    /**
+     * @param arity the number of children per heap node, e.g., 2, 4 or 8
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    public DaryHeapMinPQ(int arity) {
+        this.heap = new IndexedIntMinPQ(arity, INITIAL_TABLE_CAPACITY / 2);
+        this.keys = new Object[INITIAL_TABLE_CAPACITY];
+        this.keyHandles = new int[INITIAL_TABLE_CAPACITY];
+        this.mask = INITIAL_TABLE_CAPACITY - 1;
+        this.items = new Object[INITIAL_TABLE_CAPACITY / 2];
+        this.freeHandles = new int[INITIAL_TABLE_CAPACITY / 2];
+        this.freeCount = 0;
+        this.nextHandle = 0;
+    }
+
+    @Override
+    public void add(T item, double priority) {
+        Object key = maskNull(item);
+        int slot = findSlot(key);
+        if (keys[slot] != null) {
+            throw new IllegalArgumentException("Already contains " + item);
+        }
+        int handle = allocateHandle();
+        items[handle] = key;
+        keys[slot] = key;
+        keyHandles[slot] = handle;
+        heap.add(handle, priority);
+        if (heap.size() * 2 > keys.length) {
+            resizeTable(keys.length * 2);
+        }
+    }
+
+    @Override
+    public boolean contains(T item) {
+        return handleOf(maskNull(item)) != NO_HANDLE;
+    }
+
+    @Override
+    public T peekMin() {
+        if (heap.isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return unmaskNull(items[heap.peekMin()]);
+    }
+
+    @Override
+    public T removeMin() {
+        if (heap.isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        int handle = heap.removeMin();
+        Object key = items[handle];
+        items[handle] = null;
+        deleteSlot(findSlot(key));
+        freeHandles[freeCount] = handle;
+        freeCount++;
+        return unmaskNull(key);
+    }
+
+    @Override
+    public void changePriority(T item, double priority) {
+        int handle = handleOf(maskNull(item));
+        if (handle == NO_HANDLE) {
+            throw new NoSuchElementException("PQ does not contain " + item);
+        }
+        heap.changePriority(handle, priority);
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    private int allocateHandle() {
+        if (freeCount > 0) {
+            freeCount--;
+            return freeHandles[freeCount];
+        }
+        if (nextHandle == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+        }
+        int handle = nextHandle;
+        nextHandle++;
+        return handle;
+    }
+
+    private int handleOf(Object key) {
+        int slot = findSlot(key);
+        return keys[slot] == null ? NO_HANDLE : keyHandles[slot];
+    }
+
+    /**
+     * Returns the slot containing the given key, or the empty slot where it would be inserted.
+     */
+    private int findSlot(Object key) {
+        int slot = indexFor(key);
+        while (keys[slot] != null && !Objects.equals(keys[slot], key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties the given slot, then shifts back any later entries in the same probe run that
+     * could now be found earlier, so that lookups never need tombstones.
+     */
+    private void deleteSlot(int gap) {
+        int slot = (gap + 1) & mask;
+        while (keys[slot] != null) {
+            int ideal = indexFor(keys[slot]);
+            if (((slot - ideal) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                keyHandles[gap] = keyHandles[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = null;
+    }
+
+    private void resizeTable(int newCapacity) {
+        Object[] oldKeys = keys;
+        int[] oldHandles = keyHandles;
+        keys = new Object[newCapacity];
+        keyHandles = new int[newCapacity];
+        mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                keyHandles[slot] = oldHandles[i];
+            }
+        }
+    }
+
+    private int indexFor(Object key) {
+        // Fibonacci hashing spreads poor hash codes (e.g., small Integers) across the table.
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static Object maskNull(Object item) {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmaskNull(Object key) {
+        return key == NULL_ITEM ? null : (T) key;
+    }
+}
@@ -0,0 +1,220 @@
+package priorityqueues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A d-ary min-heap over dense, non-negative int handles.
+ *
+ * The heap itself is stored as two parallel arrays, one holding the priority of each heap slot
+ * and one holding the handle in that slot, plus a third array mapping each handle back to its
+ * slot. None of the operations box or allocate (apart from growing the arrays), which makes this
+ * suitable for hot loops such as Dijkstra's algorithm over int-indexed vertices.
+ *
+ * Handles are expected to be small (e.g., vertex ids in {@code [0, n)}), since the handle-to-slot
+ * array is sized to fit the largest handle seen so far.
+ */
+public class IndexedIntMinPQ {
+    public static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int ABSENT = -1;
+
+    private final int arity;
+    double[] priorities;
+    int[] handles;
+    private int[] positions;
+    int size;
+
+    public IndexedIntMinPQ() {
+        this(DEFAULT_ARITY, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param arity the number of children per heap node. Must be at least 2.
+     * @param initialCapacity the expected number of distinct handles
+     * @throws IllegalArgumentException if arity is less than 2 or initialCapacity is negative
+     */
+    public IndexedIntMinPQ(int arity, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2, but was " + arity);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must be non-negative");
+        }
+        int capacity = Math.max(initialCapacity, 1);
+        this.arity = arity;
+        this.priorities = new double[capacity];
+        this.handles = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(this.positions, ABSENT);
+        this.size = 0;
+    }
+
+    /**
+     * Adds a handle with the given priority value.
+     * @throws IllegalArgumentException if handle is negative or is already present in the PQ
+     */
+    public void add(int handle, double priority) {
+        if (handle < 0) {
+            throw new IllegalArgumentException("Handle must be non-negative, but was " + handle);
+        }
+        if (contains(handle)) {
+            throw new IllegalArgumentException("Already contains " + handle);
+        }
+        ensureHandleCapacity(handle);
+        if (size == handles.length) {
+            int newLength = handles.length * 2;
+            handles = Arrays.copyOf(handles, newLength);
+            priorities = Arrays.copyOf(priorities, newLength);
+        }
+        siftUp(size, handle, priority);
+        size++;
+    }
+
+    /** Returns true if the PQ contains the given handle; false otherwise. */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < positions.length && positions[handle] != ABSENT;
+    }
+
+    /**
+     * Returns the handle with the least-valued priority.
+     * @throws NoSuchElementException if the PQ is empty
+     */
+    public int peekMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return handles[0];
+    }
+
+    /**
+     * Returns the least priority value currently in the PQ.
+     * @throws NoSuchElementException if the PQ is empty
+     */
+    public double peekMinPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Removes and returns the handle with the least-valued priority.
+     * @throws NoSuchElementException if the PQ is empty
+     */
+    public int removeMin() {
+        int min = peekMin();
+        positions[min] = ABSENT;
+        size--;
+        if (size > 0) {
+            siftDown(0, handles[size], priorities[size]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns the current priority of the given handle.
+     * @throws NoSuchElementException if the handle is not present in the PQ
+     */
+    public double priority(int handle) {
+        if (!contains(handle)) {
+            throw new NoSuchElementException("PQ does not contain " + handle);
+        }
+        return priorities[positions[handle]];
+    }
+
+    /**
+     * Changes the priority of the given handle.
+     * @throws NoSuchElementException if the handle is not present in the PQ
+     */
+    public void changePriority(int handle, double priority) {
+        if (!contains(handle)) {
+            throw new NoSuchElementException("PQ does not contain " + handle);
+        }
+        int slot = positions[handle];
+        if (priority < priorities[slot]) {
+            siftUp(slot, handle, priority);
+        } else {
+            siftDown(slot, handle, priority);
+        }
+    }
+
+    /** Returns the number of handles in the PQ. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns true if the PQ is empty; false otherwise. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes all handles from the PQ, keeping the allocated arrays for reuse. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[handles[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    /** Returns the number of children per heap node. */
+    public int arity() {
+        return arity;
+    }
+
+    /*
+    Both sift methods move a "hole" through the heap instead of swapping, so each level costs one
+    array write per array rather than three.
+    */
+
+    private void siftUp(int slot, int handle, double priority) {
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            place(slot, handles[parent], priorities[parent]);
+            slot = parent;
+        }
+        place(slot, handle, priority);
+    }
+
+    private void siftDown(int slot, int handle, double priority) {
+        while (true) {
+            int firstChild = slot * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int minChild = firstChild;
+            double minPriority = priorities[firstChild];
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (priorities[child] < minPriority) {
+                    minChild = child;
+                    minPriority = priorities[child];
+                }
+            }
+            if (minPriority >= priority) {
+                break;
+            }
+            place(slot, handles[minChild], minPriority);
+            slot = minChild;
+        }
+        place(slot, handle, priority);
+    }
+
+    private void place(int slot, int handle, double priority) {
+        handles[slot] = handle;
+        priorities[slot] = priority;
+        positions[handle] = slot;
+    }
+
+    private void ensureHandleCapacity(int handle) {
+        if (handle >= positions.length) {
+            int oldLength = positions.length;
+            int newLength = Math.max(handle + 1, oldLength * 2);
+            positions = Arrays.copyOf(positions, newLength);
+            Arrays.fill(positions, oldLength, newLength, ABSENT);
+        }
+    }
+}
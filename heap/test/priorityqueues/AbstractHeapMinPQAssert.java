@@ -19,6 +19,11 @@ public abstract class AbstractHeapMinPQAssert<T>
     protected abstract int extractStartIndex(ExtrinsicMinPQ<T> actual);
     protected abstract List<PriorityNode<T>> extractHeap(ExtrinsicMinPQ<T> actual);
 
+    /** Returns the number of children per node; override for d-ary heaps. */
+    protected int extractNumChildren(ExtrinsicMinPQ<T> actual) {
+        return DEFAULT_NUM_CHILDREN;
+    }
+
     public AbstractHeapMinPQAssert<T> isValid() {
         String message = getErrorMessageIfInvalid();
         if (message != null) {
@@ -31,10 +36,16 @@ public abstract class AbstractHeapMinPQAssert<T>
     protected String getErrorMessageIfInvalid() {
         List<PriorityNode<T>> heap = extractHeap(this.actual);
         int startIndex = extractStartIndex(this.actual);
-        return getErrorMessageIfInvalid(heap, startIndex, startIndex + this.actual.size());
+        int numChildren = extractNumChildren(this.actual);
+        return getErrorMessageIfInvalid(heap, startIndex, startIndex + this.actual.size(), numChildren);
     }
 
     static <T> String getErrorMessageIfInvalid(List<PriorityNode<T>> heap, int startIndex, int endIndex) {
+        return getErrorMessageIfInvalid(heap, startIndex, endIndex, DEFAULT_NUM_CHILDREN);
+    }
+
+    static <T> String getErrorMessageIfInvalid(List<PriorityNode<T>> heap, int startIndex, int endIndex,
+                                               int numChildren) {
         if (heap.size() < endIndex) {
             return String.format("Heap's internal ArrayList size (%d) is too small for heap's contents? " +
                     "(Expected at least %d.)",
@@ -43,7 +54,7 @@ public abstract class AbstractHeapMinPQAssert<T>
 
         Map<Integer, String> brokenIndices = new TreeMap<>();
         for (int i = startIndex; i < endIndex; i++) {
-            String message = checkIndex(heap, i, startIndex, endIndex);
+            String message = checkIndex(heap, i, startIndex, endIndex, numChildren);
             if (message != null) {
                 brokenIndices.put(i, message);
             }
@@ -61,11 +72,12 @@ public abstract class AbstractHeapMinPQAssert<T>
         return b.toString().stripTrailing();
     }
 
-    private static final int NUM_CHILDREN = 2;
-    private static <T> String checkIndex(List<PriorityNode<T>> heap, int parentIndex, int startIndex, int endIndex) {
+    private static final int DEFAULT_NUM_CHILDREN = 2;
+    private static <T> String checkIndex(List<PriorityNode<T>> heap, int parentIndex, int startIndex, int endIndex,
+                                         int numChildren) {
         PriorityNode<T> parentNode = heap.get(parentIndex);
-        int firstChildIndex = (parentIndex - startIndex + 1) * NUM_CHILDREN + startIndex - 1;
-        int lastChildIndex = Math.min(NUM_CHILDREN + firstChildIndex, endIndex);
+        int firstChildIndex = (parentIndex - startIndex) * numChildren + startIndex + 1;
+        int lastChildIndex = Math.min(numChildren + firstChildIndex, endIndex);
         if (parentNode == null ||
             childrenOfIndexAreInvalid(heap, parentNode, firstChildIndex, lastChildIndex)) {
 
@@ -93,6 +93,21 @@ public class ArrayHeapMinPQTests extends BaseTest {
             pq.removeMin();
             return pq;
         }
+
+        @Test
+        void contains_withRemovedItem_returnsFalse() {
+            ExtrinsicMinPQ<String> pq = setUpMinPQ();
+            assertThat(pq.contains("Wednesday")).isFalse();
+            assertThat(pq).isValid();
+        }
+
+        @Test
+        void add_removedItem_doesntThrowIllegalArgument() {
+            ExtrinsicMinPQ<String> pq = setUpMinPQ();
+            pq.add("Wednesday", 4);
+            assertThat(pq.removeMin()).isEqualTo("Wednesday");
+            assertThat(pq).isValid();
+        }
     }
 
     @Nested
@@ -0,0 +1,36 @@
+package priorityqueues;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of AbstractHeapMinPQAssert that extracts the proper fields from a
+ * DaryHeapMinPQ implementation.
+ */
+public class DaryHeapMinPQAssert<T> extends AbstractHeapMinPQAssert<T> {
+
+    public DaryHeapMinPQAssert(DaryHeapMinPQ<T> actual) {
+        super(actual, DaryHeapMinPQAssert.class);
+    }
+
+    @Override
+    protected int extractStartIndex(ExtrinsicMinPQ<T> actual) {
+        return 0;
+    }
+
+    @Override
+    protected int extractNumChildren(ExtrinsicMinPQ<T> actual) {
+        return ((DaryHeapMinPQ<T>) actual).heap.arity();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<PriorityNode<T>> extractHeap(ExtrinsicMinPQ<T> actual) {
+        DaryHeapMinPQ<T> pq = (DaryHeapMinPQ<T>) actual;
+        List<PriorityNode<T>> nodes = new ArrayList<>();
+        for (int i = 0; i < pq.heap.size; i++) {
+            nodes.add(new PriorityNode<>((T) pq.items[pq.heap.handles[i]], pq.heap.priorities[i]));
+        }
+        return nodes;
+    }
+}
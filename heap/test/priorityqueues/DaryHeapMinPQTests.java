@@ -0,0 +1,94 @@
+package priorityqueues;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the ArrayHeapMinPQ tests against DaryHeapMinPQ, plus a few randomized checks for each
+ * supported arity.
+ */
+public class DaryHeapMinPQTests extends ArrayHeapMinPQTests {
+
+    @Override
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new DaryHeapMinPQ<>(4);
+    }
+
+    @Override
+    protected <T> AbstractHeapMinPQAssert<T> assertThat(ExtrinsicMinPQ<T> pq) {
+        return new DaryHeapMinPQAssert<>((DaryHeapMinPQ<T>) pq);
+    }
+
+    @Nested
+    class Randomized {
+        @Test
+        void removeMinRepeatedly_afterShuffledAdds_returnsSortedOrder() {
+            for (int arity : new int[]{2, 4, 8}) {
+                ExtrinsicMinPQ<Integer> pq = new DaryHeapMinPQ<>(arity);
+                List<Integer> values = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+                Collections.shuffle(values, new Random(arity));
+                for (int value : values) {
+                    pq.add(value, value);
+                }
+                assertThat(pq).isValid();
+                assertThat(removeAll(pq)).isSorted().hasSize(1000);
+            }
+        }
+
+        @Test
+        void changePriority_manyTimes_keepsHeapValid() {
+            for (int arity : new int[]{2, 4, 8}) {
+                ExtrinsicMinPQ<Integer> pq = new DaryHeapMinPQ<>(arity);
+                Random rand = new Random(arity);
+                double[] priorities = new double[500];
+                for (int i = 0; i < 500; i++) {
+                    priorities[i] = rand.nextDouble();
+                    pq.add(i, priorities[i]);
+                }
+                for (int i = 0; i < 2000; i++) {
+                    int item = rand.nextInt(500);
+                    priorities[item] = rand.nextDouble();
+                    pq.changePriority(item, priorities[item]);
+                }
+                assertThat(pq).isValid();
+
+                List<Integer> output = removeAll(pq);
+                List<Double> removedPriorities = new ArrayList<>();
+                for (int item : output) {
+                    removedPriorities.add(priorities[item]);
+                }
+                assertThat(output).hasSize(500);
+                assertThat(removedPriorities).isSorted();
+            }
+        }
+
+        @Test
+        void contains_afterRemoveAndReAdd_tracksItems() {
+            ExtrinsicMinPQ<Integer> pq = createMinPQ();
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 100; i++) {
+                    pq.add(i, 100 - i);
+                }
+                for (int i = 99; i >= 50; i--) {
+                    assertThat(pq.removeMin()).isEqualTo(i);
+                    assertThat(pq.contains(i)).isFalse();
+                }
+                assertThat(pq.contains(0)).isTrue();
+                removeAll(pq);
+                assertThat(pq.isEmpty()).isTrue();
+            }
+        }
+
+        @Test
+        void constructor_withArityLessThan2_throwsIllegalArgument() {
+            assertThatThrownBy(() -> new DaryHeapMinPQ<String>(1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package maps;
 
-import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Stack;
+import java.util.Objects;
 
 /**
  * AVL-tree implementation of the map ADT.
  *
+ * Iterates over its entries in increasing order of keys, and supports ordered queries: the
+ * closest keys to a given one ({@link #floorKey}, {@link #ceilingKey}), and views of the entries
+ * within a range of keys ({@link #subMap}, {@link #headMap}, {@link #tailMap}). Views read the tree
+ * directly instead of copying it, so changes to the map show through them, and changes through
+ * them show in the map.
+ *
+ * Iterators are fail-fast: once the map has been structurally changed other than through the
+ * iterator's own {@code remove}, they throw a {@link ConcurrentModificationException}. The
+ * entries they return are the tree's own, so {@code setValue} on them changes the map.
+ *
  * Does not allow null keys.
  */
 public class AVLTreeMap<K extends Comparable<K>, V> extends AbstractIterableMap<K, V> {
     private AVLNode<K, V> overallRoot;
     private int size;
+    // The number of structural changes (keys added or removed), for failing iterators fast.
+    private int modCount;
 
     public AVLTreeMap() {
         this.size = 0;
@@ -72,6 +86,7 @@ public class AVLTreeMap<K extends Comparable<K>, V> extends AbstractIterableMap<
     private AVLNode<K, V> put(K key, V value, AVLNode<K, V> current, AVLNode<K, V> output) {
         if (current == null) {
             this.size++;
+            this.modCount++;
             return new AVLNode<>(key, value);
         }
 
@@ -154,11 +169,62 @@ public class AVLTreeMap<K extends Comparable<K>, V> extends AbstractIterableMap<
     }
 
     /**
-     * Remove has been left unimplemented.
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the given key is null.
      */
     @Override
     public V remove(Object key) {
-        throw new UnsupportedOperationException();
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        AVLNode<K, V> output = new AVLNode<>(null, null);
+        this.overallRoot = remove(key, this.overallRoot, output);
+        return output.value;
+    }
+
+    private AVLNode<K, V> remove(Object key, AVLNode<K, V> current, AVLNode<K, V> output) {
+        if (current == null) {
+            return null;
+        }
+
+        int comparison = compare(key, current.key);
+        if (comparison < 0) {
+            current.left = remove(key, current.left, output);
+        } else if (comparison > 0) {
+            current.right = remove(key, current.right, output);
+        } else {
+            output.value = current.value;
+            this.size--;
+            this.modCount++;
+            if (current.left == null) {
+                return current.right;
+            } else if (current.right == null) {
+                return current.left;
+            }
+            // replace the node with the smallest node of its right subtree
+            AVLNode<K, V> successor = current.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeSmallest(current.right);
+            successor.left = current.left;
+            current = successor;
+        }
+        updateHeight(current);
+        return balanceTree(current);
+    }
+
+    /**
+     * Unlinks the smallest node of the given subtree. Returns the balanced subtree.
+     */
+    private AVLNode<K, V> removeSmallest(AVLNode<K, V> current) {
+        if (current.left == null) {
+            return current.right;
+        }
+        current.left = removeSmallest(current.left);
+        updateHeight(current);
+        return balanceTree(current);
     }
 
     @Override
@@ -166,6 +232,109 @@ public class AVLTreeMap<K extends Comparable<K>, V> extends AbstractIterableMap<
         return getNode(key, this.overallRoot) != null;
     }
 
+    @Override
+    public void clear() {
+        this.overallRoot = null;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the greatest key less than or equal to the given key, or null if there is none.
+     *
+     * @throws NullPointerException if the given key is null.
+     */
+    public K floorKey(K key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        AVLNode<K, V> floor = null;
+        AVLNode<K, V> current = this.overallRoot;
+        while (current != null) {
+            int comparison = compare(key, current.key);
+            if (comparison == 0) {
+                return current.key;
+            } else if (comparison < 0) {
+                current = current.left;
+            } else {
+                floor = current;
+                current = current.right;
+            }
+        }
+        return floor == null ? null : floor.key;
+    }
+
+    /**
+     * Returns the least key greater than or equal to the given key, or null if there is none.
+     *
+     * @throws NullPointerException if the given key is null.
+     */
+    public K ceilingKey(K key) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        AVLNode<K, V> ceiling = null;
+        AVLNode<K, V> current = this.overallRoot;
+        while (current != null) {
+            int comparison = compare(key, current.key);
+            if (comparison == 0) {
+                return current.key;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                ceiling = current;
+                current = current.left;
+            }
+        }
+        return ceiling == null ? null : ceiling.key;
+    }
+
+    /**
+     * Returns a view of the entries of this map with keys from fromKey, inclusive, to toKey,
+     * exclusive. The view is backed by this map: changes to either are visible in the other.
+     * Putting a key outside of the range into the view throws an IllegalArgumentException.
+     *
+     * The view has no size of its own: its {@code size} counts the entries in the range, in time
+     * proportional to their number.
+     *
+     * @throws NullPointerException if either key is null.
+     * @throws IllegalArgumentException if fromKey is greater than toKey.
+     */
+    public AbstractIterableMap<K, V> subMap(K fromKey, K toKey) {
+        if (fromKey == null || toKey == null) {
+            throw new NullPointerException();
+        }
+        if (compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey must not be greater than toKey");
+        }
+        return new SubMap(fromKey, toKey);
+    }
+
+    /**
+     * Returns a view of the entries of this map with keys less than toKey, as in {@link #subMap}.
+     *
+     * @throws NullPointerException if the given key is null.
+     */
+    public AbstractIterableMap<K, V> headMap(K toKey) {
+        if (toKey == null) {
+            throw new NullPointerException();
+        }
+        return new SubMap(null, toKey);
+    }
+
+    /**
+     * Returns a view of the entries of this map with keys greater than or equal to fromKey, as in
+     * {@link #subMap}.
+     *
+     * @throws NullPointerException if the given key is null.
+     */
+    public AbstractIterableMap<K, V> tailMap(K fromKey) {
+        if (fromKey == null) {
+            throw new NullPointerException();
+        }
+        return new SubMap(fromKey, null);
+    }
+
     @Override
     public int size() {
         return this.size;
@@ -178,14 +347,17 @@ public class AVLTreeMap<K extends Comparable<K>, V> extends AbstractIterableMap<
 
     @Override
     public Iterator<Map.Entry<K, V>> iterator() {
-        return new AVLIterator<>(this.overallRoot);
+        return new AVLIterator(null, null);
     }
 
     /**
      * `AVLNode`s store a key and a value and have at most two children. Each node
      * keeps track of its own height in the AVL tree. This is used to balance the tree.
+     *
+     * Nodes are also the entries returned by iterators, so they follow the {@link Map.Entry}
+     * contract for equality and hash codes.
      */
-    private static class AVLNode<K, V> {
+    private static class AVLNode<K, V> implements Map.Entry<K, V> {
         final K key;
         V value;
         int height;
@@ -199,36 +371,181 @@ public class AVLTreeMap<K extends Comparable<K>, V> extends AbstractIterableMap<
             this.left = null;
             this.right = null;
         }
+
+        @Override
+        public K getKey() {
+            return this.key;
+        }
+
+        @Override
+        public V getValue() {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = this.value;
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(this.key, other.getKey()) && Objects.equals(this.value, other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.key) ^ Objects.hashCode(this.value);
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
     }
 
-    private static class AVLIterator<K, V> implements Iterator<Map.Entry<K, V>> {
-        private final Stack<Map.Entry<K, V>> stack;
+    /**
+     * A view of the entries with keys in [fromKey, toKey); a null bound means no bound.
+     */
+    private class SubMap extends AbstractIterableMap<K, V> {
+        private final K fromKey;
+        private final K toKey;
 
-        public AVLIterator(AVLNode<K, V> overallRoot) {
-            this.stack = new Stack<>();
-            reverseOrderFill(overallRoot);
+        SubMap(K fromKey, K toKey) {
+            this.fromKey = fromKey;
+            this.toKey = toKey;
         }
 
-        private void reverseOrderFill(AVLNode<K, V> root) {
-            if (root == null) {
-                return;
+        private boolean inRange(Object key) {
+            return (this.fromKey == null || compare(key, this.fromKey) >= 0)
+                && (this.toKey == null || compare(key, this.toKey) < 0);
+        }
+
+        @Override
+        public V get(Object key) {
+            return inRange(key) ? AVLTreeMap.this.get(key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return inRange(key) && AVLTreeMap.this.containsKey(key);
+        }
+
+        @Override
+        public V put(K key, V value) {
+            if (!inRange(key)) {
+                throw new IllegalArgumentException("Key out of range: " + key);
+            }
+            return AVLTreeMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return inRange(key) ? AVLTreeMap.this.remove(key) : null;
+        }
+
+        @Override
+        public int size() {
+            int count = 0;
+            for (Iterator<Map.Entry<K, V>> it = iterator(); it.hasNext(); it.next()) {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new AVLIterator(this.fromKey, this.toKey);
+        }
+    }
+
+    /**
+     * An in-order iterator over the entries with keys in [fromKey, toKey). Instead of copying the
+     * tree, it keeps a stack of the nodes whose left subtrees it is visiting, so it uses memory
+     * proportional to the height of the tree.
+     */
+    private class AVLIterator implements Iterator<Map.Entry<K, V>> {
+        private final Deque<AVLNode<K, V>> stack;
+        private final K toKey;
+        private K lastKey;
+        private boolean canRemove;
+        private int expectedModCount;
+
+        AVLIterator(K fromKey, K toKey) {
+            this.stack = new ArrayDeque<>();
+            this.toKey = toKey;
+            this.expectedModCount = AVLTreeMap.this.modCount;
+            seek(fromKey, true);
+        }
+
+        /**
+         * Fills the stack with the path to the least key greater than (or, if inclusive, equal
+         * to) the given key, or to the least key in the tree if the given key is null.
+         */
+        private void seek(K key, boolean inclusive) {
+            this.stack.clear();
+            AVLNode<K, V> current = AVLTreeMap.this.overallRoot;
+            while (current != null) {
+                int comparison = key == null ? 1 : compare(current.key, key);
+                if (comparison > 0 || (comparison == 0 && inclusive)) {
+                    this.stack.push(current);
+                    current = current.left;
+                } else {
+                    current = current.right;
+                }
             }
-            reverseOrderFill(root.right);
-            this.stack.push(new AbstractMap.SimpleEntry<>(root.key, root.value));
-            reverseOrderFill(root.left);
         }
 
         @Override
         public boolean hasNext() {
-            return this.stack.size() > 0;
+            return !this.stack.isEmpty() && (this.toKey == null || compare(this.stack.peek().key, this.toKey) < 0);
         }
 
         @Override
         public Map.Entry<K, V> next() {
+            checkForComodification();
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            return this.stack.pop();
+            AVLNode<K, V> node = this.stack.pop();
+            for (AVLNode<K, V> current = node.right; current != null; current = current.left) {
+                this.stack.push(current);
+            }
+            this.lastKey = node.key;
+            this.canRemove = true;
+            return node;
+        }
+
+        /**
+         * Removes the last returned entry from the map. Since removal may rebalance the tree, the
+         * stack is then rebuilt from the root.
+         */
+        @Override
+        public void remove() {
+            if (!this.canRemove) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            AVLTreeMap.this.remove(this.lastKey);
+            this.expectedModCount = AVLTreeMap.this.modCount;
+            seek(this.lastKey, false);
+            this.canRemove = false;
+        }
+
+        private void checkForComodification() {
+            if (AVLTreeMap.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
 }
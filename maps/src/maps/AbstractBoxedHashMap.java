@@ -0,0 +1,91 @@
+package maps;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Map} backed by a primitive-keyed map, for code that needs the boxed map interface.
+ *
+ * Keys of the boxed primitive type are stored in the primitive map. Every call still boxes and
+ * unboxes its key, so this is slower than using the primitive map directly; its purpose is
+ * compatibility. To be a complete map, keys of any other type (such as null) are kept in a
+ * separate {@link ArrayMap}, which is only fast as long as there are few of them.
+ *
+ * Subclasses only pass calls with keys of the boxed primitive type on to their primitive map.
+ */
+abstract class AbstractBoxedHashMap<K, V> extends AbstractIterableMap<K, V> {
+    private final ArrayMap<K, V> others = new ArrayMap<>();
+
+    /** Returns whether the given key belongs in the primitive map. */
+    abstract boolean isPrimitive(Object key);
+
+    abstract V primitiveGet(Object key);
+
+    abstract boolean primitiveContainsKey(Object key);
+
+    abstract V primitivePut(Object key, V value);
+
+    abstract V primitiveRemove(Object key);
+
+    abstract int primitiveSize();
+
+    abstract void primitiveClear();
+
+    /** Returns an iterator over the entries of the primitive map, with boxed keys. */
+    abstract Iterator<Map.Entry<K, V>> primitiveIterator();
+
+    @Override
+    public V get(Object key) {
+        return isPrimitive(key) ? primitiveGet(key) : this.others.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return isPrimitive(key) ? primitivePut(key, value) : this.others.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return isPrimitive(key) ? primitiveRemove(key) : this.others.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        primitiveClear();
+        this.others.clear();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return isPrimitive(key) ? primitiveContainsKey(key) : this.others.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return primitiveSize() + this.others.size();
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        Iterator<Map.Entry<K, V>> primitives = primitiveIterator();
+        Iterator<Map.Entry<K, V>> others = this.others.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return primitives.hasNext() || others.hasNext();
+            }
+
+            @Override
+            public Map.Entry<K, V> next() {
+                if (primitives.hasNext()) {
+                    return primitives.next();
+                }
+                if (!others.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return others.next();
+            }
+        };
+    }
+}
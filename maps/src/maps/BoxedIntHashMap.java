@@ -0,0 +1,111 @@
+package maps;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Map} backed by an {@link IntHashMap}, for code that needs the boxed map interface.
+ *
+ * The key type is normally {@code Integer}; such keys are stored in the primitive table, and keys
+ * of any other type in a separate {@link ArrayMap}, as described in {@link AbstractBoxedHashMap}.
+ *
+ * @see AbstractIterableMap
+ * @see Map
+ */
+public class BoxedIntHashMap<K, V> extends AbstractBoxedHashMap<K, V> {
+    private final IntHashMap<V> map;
+
+    public BoxedIntHashMap() {
+        this(new IntHashMap<>());
+    }
+
+    /**
+     * Wraps the given map; changes to either are visible through the other.
+     */
+    public BoxedIntHashMap(IntHashMap<V> map) {
+        this.map = map;
+    }
+
+    @Override
+    boolean isPrimitive(Object key) {
+        return key instanceof Integer;
+    }
+
+    @Override
+    V primitiveGet(Object key) {
+        return this.map.get((Integer) key);
+    }
+
+    @Override
+    boolean primitiveContainsKey(Object key) {
+        return this.map.containsKey((Integer) key);
+    }
+
+    @Override
+    V primitivePut(Object key, V value) {
+        return this.map.put((Integer) key, value);
+    }
+
+    @Override
+    V primitiveRemove(Object key) {
+        return this.map.remove((Integer) key);
+    }
+
+    @Override
+    int primitiveSize() {
+        return this.map.size();
+    }
+
+    @Override
+    void primitiveClear() {
+        this.map.clear();
+    }
+
+    @Override
+    Iterator<Map.Entry<K, V>> primitiveIterator() {
+        return new IntHashMapIterator<>(this.map);
+    }
+
+    /** Iterates over the zero key of an {@link IntHashMap}, if present, then its table in order. */
+    private static class IntHashMapIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final IntHashMap<V> map;
+        // -1 for the zero key, then the slots of the table in order.
+        private int slot;
+
+        IntHashMapIterator(IntHashMap<V> map) {
+            this.map = map;
+            this.slot = map.hasZeroKey ? -1 : nextSlot(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.slot < this.map.keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry;
+            if (this.slot < 0) {
+                entry = new SimpleEntry<>((K) (Integer) 0, this.map.zeroValue);
+            } else {
+                entry = new SimpleEntry<>((K) (Integer) this.map.keys[this.slot], (V) this.map.values[this.slot]);
+            }
+            this.slot = nextSlot(this.slot + 1);
+            return entry;
+        }
+
+        private int nextSlot(int from) {
+            int[] keys = this.map.keys;
+            int i = from;
+            while (i < keys.length && keys[i] == 0) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package maps;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Map} backed by a {@link LongHashMap}, for code that needs the boxed map interface.
+ *
+ * The key type is normally {@code Long}; such keys are stored in the primitive table, and keys of
+ * any other type in a separate {@link ArrayMap}, as described in {@link AbstractBoxedHashMap}.
+ *
+ * @see AbstractIterableMap
+ * @see Map
+ */
+public class BoxedLongHashMap<K, V> extends AbstractBoxedHashMap<K, V> {
+    private final LongHashMap<V> map;
+
+    public BoxedLongHashMap() {
+        this(new LongHashMap<>());
+    }
+
+    /**
+     * Wraps the given map; changes to either are visible through the other.
+     */
+    public BoxedLongHashMap(LongHashMap<V> map) {
+        this.map = map;
+    }
+
+    @Override
+    boolean isPrimitive(Object key) {
+        return key instanceof Long;
+    }
+
+    @Override
+    V primitiveGet(Object key) {
+        return this.map.get((Long) key);
+    }
+
+    @Override
+    boolean primitiveContainsKey(Object key) {
+        return this.map.containsKey((Long) key);
+    }
+
+    @Override
+    V primitivePut(Object key, V value) {
+        return this.map.put((Long) key, value);
+    }
+
+    @Override
+    V primitiveRemove(Object key) {
+        return this.map.remove((Long) key);
+    }
+
+    @Override
+    int primitiveSize() {
+        return this.map.size();
+    }
+
+    @Override
+    void primitiveClear() {
+        this.map.clear();
+    }
+
+    @Override
+    Iterator<Map.Entry<K, V>> primitiveIterator() {
+        return new LongHashMapIterator<>(this.map);
+    }
+
+    /** Iterates over the dense entry arrays of a {@link LongHashMap}. */
+    private static class LongHashMapIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final LongHashMap<V> map;
+        private int position;
+
+        LongHashMapIterator(LongHashMap<V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.position < this.map.size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = new SimpleEntry<>(
+                (K) (Long) this.map.keys[this.position],
+                (V) this.map.values[this.position]);
+            this.position++;
+            return entry;
+        }
+    }
+}
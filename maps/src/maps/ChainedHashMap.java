@@ -1,10 +1,37 @@
 package maps;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 
 /**
+ * A hash map that keeps its entries in an array of chains, and doubles the array whenever the
+ * number of entries per chain reaches the resizing load factor threshold.
+ *
+ * In the default {@link ResizeMode#ALL_AT_ONCE} mode, the put that crosses the threshold moves
+ * every entry to the new array, so it takes time proportional to the size of the map. In
+ * {@link ResizeMode#INCREMENTAL} mode, the old array is kept next to the new one, and each later
+ * put or remove moves a few of its chains over; lookups and iteration consult both arrays until
+ * the old one is empty. No single operation then does more than a constant number of chains' worth
+ * of rehashing, at the cost of slightly slower operations while a resize is in progress.
+ *
+ * The chain of a key is picked from its hash code by a {@link HashSpreader}. The default,
+ * {@link HashSpreader#NONE}, takes the hash code modulo the number of chains, so keys whose hash
+ * codes differ only in their high bits, or are multiples of the number of chains, share a chain;
+ * the other spreaders mix the bits first. No spreader helps keys with equal hash codes; use
+ * {@link #diagnostics()} to tell the two problems apart.
+ *
+ * A chain that grows past 8 entries whose keys are all of the same
+ * {@link Comparable} class is turned into an {@link AVLTreeMap}, so that even keys with equal hash
+ * codes are found in logarithmic time; it is turned back into a plain chain once it shrinks to
+ * 6 entries, or when a key of another class must join it. Key classes whose ordering is
+ * inconsistent with equals (such as {@code BigDecimal}, where 1 and 1.0 compare equal) are still
+ * told apart by {@code equals}: a chain holding two such keys is never made a tree, and a tree
+ * that one must join is turned back into a plain chain.
+ *
  * @see AbstractIterableMap
  * @see Map
  */
@@ -13,12 +40,84 @@ public class ChainedHashMap<K, V> extends AbstractIterableMap<K, V> {
     private static final double DEFAULT_RESIZING_LOAD_FACTOR_THRESHOLD = 1;
     private static final int DEFAULT_INITIAL_CHAIN_COUNT = 10;
     private static final int DEFAULT_INITIAL_CHAIN_CAPACITY = 10;
+    // The fewest old chains moved per put or remove during an incremental resize.
+    private static final int MIN_MIGRATION_STEP = 2;
+    // A chain with more entries than this becomes a tree, if its keys are comparable...
+    static final int TREEIFY_THRESHOLD = 8;
+    // ...and a tree with at most this many entries becomes a chain again.
+    static final int UNTREEIFY_THRESHOLD = 6;
+
+    /**
+     * When the entries are moved to the larger array of chains.
+     */
+    public enum ResizeMode {
+        /** Move every entry during the put that crosses the load factor threshold. */
+        ALL_AT_ONCE,
+        /** Move a few chains during each put or remove, until all have been moved. */
+        INCREMENTAL
+    }
+
+    /**
+     * How a hash code is turned into the index of a chain.
+     */
+    public enum HashSpreader {
+        /** The hash code modulo the number of chains. */
+        NONE(false) {
+            @Override
+            int index(int hash, int length) {
+                return Math.abs(hash % length);
+            }
+        },
+        /** The hash code mixed with the MurmurHash3 finalizer, modulo the number of chains. */
+        MURMUR(false) {
+            @Override
+            int index(int hash, int length) {
+                hash ^= hash >>> 16;
+                hash *= 0x85ebca6b;
+                hash ^= hash >>> 13;
+                hash *= 0xc2b2ae35;
+                hash ^= hash >>> 16;
+                return (hash & 0x7fffffff) % length;
+            }
+        },
+        /**
+         * The top bits of the hash code times 2^32 / phi. The number of chains is rounded up to
+         * a power of two.
+         */
+        FIBONACCI(true) {
+            @Override
+            int index(int hash, int length) {
+                if (length == 1) {
+                    return 0;
+                }
+                return (hash * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(length - 1);
+            }
+        };
+
+        private final boolean powerOfTwoChains;
+
+        HashSpreader(boolean powerOfTwoChains) {
+            this.powerOfTwoChains = powerOfTwoChains;
+        }
+
+        /** Returns the index of the chain for the given hash code, among `length` chains. */
+        abstract int index(int hash, int length);
+    }
 
     private int size;
     private int capacity;
     private int chainCount;
     private double factor;
+    private final ResizeMode resizeMode;
+    private final HashSpreader hashSpreader;
+    private final int migrationStep;
     AbstractIterableMap<K, V>[] chains;
+    // The chains of the current array that could not be made trees; see putInChain.
+    private boolean[] untreeifiable;
+    // During an incremental resize, the previous array of chains; moved chains are set to null.
+    AbstractIterableMap<K, V>[] oldChains;
+    // During an incremental resize, the old chains before this index have all been moved.
+    private int migrated;
 
     public ChainedHashMap() {
         this(DEFAULT_RESIZING_LOAD_FACTOR_THRESHOLD,
@@ -29,92 +128,106 @@ public class ChainedHashMap<K, V> extends AbstractIterableMap<K, V> {
     }
 
     public ChainedHashMap(double resizingLoadFactorThreshold, int initialChainCount, int chainInitialCapacity) {
-        this.chains = createArrayOfChains(initialChainCount);
+        this(resizingLoadFactorThreshold, initialChainCount, chainInitialCapacity, ResizeMode.ALL_AT_ONCE);
+    }
+
+    public ChainedHashMap(double resizingLoadFactorThreshold, int initialChainCount, int chainInitialCapacity,
+                          ResizeMode resizeMode) {
+        this(resizingLoadFactorThreshold, initialChainCount, chainInitialCapacity, resizeMode, HashSpreader.NONE);
+    }
+
+    public ChainedHashMap(double resizingLoadFactorThreshold, int initialChainCount, int chainInitialCapacity,
+                          ResizeMode resizeMode, HashSpreader hashSpreader) {
+        if (hashSpreader.powerOfTwoChains && Integer.bitCount(initialChainCount) != 1) {
+            initialChainCount = Integer.highestOneBit(initialChainCount) << 1;
+        }
+        allocateChains(initialChainCount);
         for (int i = 0; i < initialChainCount; i++) {
             chains[i] = createChain(chainInitialCapacity);
         }
         this.chainCount = initialChainCount;
         this.factor = resizingLoadFactorThreshold;
         this.capacity = chainInitialCapacity;
+        this.resizeMode = resizeMode;
+        this.hashSpreader = hashSpreader;
+        // The new array fills up to the threshold again after about (old chain count * factor)
+        // more puts, so moving 1/factor chains per put finishes the old array before then;
+        // moving twice that leaves room for removes and overwrites.
+        this.migrationStep = Math.max(MIN_MIGRATION_STEP, (int) Math.ceil(2 / resizingLoadFactorThreshold));
     }
 
     private AbstractIterableMap<K, V>[] createArrayOfChains(int arraySize) {
         return (AbstractIterableMap<K, V>[]) new AbstractIterableMap[arraySize];
     }
 
+    /**
+     * Replaces the array of chains with an empty one of the given length.
+     */
+    private void allocateChains(int length) {
+        this.chains = createArrayOfChains(length);
+        this.untreeifiable = new boolean[length];
+    }
+
     protected AbstractIterableMap<K, V> createChain(int initialSize) {
         return new ArrayMap<>(initialSize);
     }
 
     @Override
     public V get(Object key) {
-        if (key != null) {
-            int hashCode = Math.abs(key.hashCode() % chains.length);
-            if (chains[hashCode] == null) {
-                return null;
-            }
-            return chains[hashCode].get(key);
+        AbstractIterableMap<K, V> chain = findChain(key);
+        if (chain == null) {
+            return null;
         }
-        return chains[0].get(key);
+        return chain.get(key);
     }
 
     @Override
     public V put(K key, V value) {
         resize();
-        if (!this.containsKey(key)) {
+        int index = prepareChain(key);
+        if (chains[index] == null || !chains[index].containsKey(key)) {
             size++;
         }
-        int hashCode;
-        if (key != null) {
-            hashCode = Math.abs(key.hashCode() % chains.length);
-            if (chains[hashCode] == null) {
-                chains[hashCode] = createChain(capacity);
-            }
-            return chains[hashCode].put(key, value);
-        }
-        return chains[0].put(key, value);
+        return putInChain(index, key, value);
     }
 
     @Override
     public V remove(Object key) {
-        if (key != null) {
-            int hashCode = Math.abs(key.hashCode() % chains.length);
-
-            if (this.containsKey(key)) {
-                V removed = chains[hashCode].remove(key);
-                if (removed != null) {
-                    size--;
-                }
-                return removed;
-            } else {
-                return null;
-            }
+        migrate();
+        int index = prepareChain(key);
+        AbstractIterableMap<K, V> chain = chains[index];
+        if (chain == null || !chain.containsKey(key)) {
+            return null;
         }
         size--;
-        return chains[0].remove(key);
+        V removed = chain.remove(key);
+        if (chain instanceof TreeChain && chain.size() <= UNTREEIFY_THRESHOLD) {
+            chains[index] = untreeify(chain);
+        } else if (chain.size() <= TREEIFY_THRESHOLD) {
+            // The next attempt to make it a tree will have to wait until it grows again.
+            untreeifiable[index] = false;
+        }
+        return removed;
     }
 
     @Override
     public void clear() {
-        this.chains = createArrayOfChains(chainCount);
+        allocateChains(chainCount);
         for (int i = 0; i < chainCount; i++) {
             chains[i] = createChain(capacity);
         }
+        this.oldChains = null;
 
         size = 0;
     }
 
     @Override
     public boolean containsKey(Object key) {
-        int hashCode = 0;
-        if (key != null) {
-            hashCode = Math.abs(key.hashCode()) % chains.length;
-        }
-        if (chains[hashCode] == null) {
+        AbstractIterableMap<K, V> chain = findChain(key);
+        if (chain == null) {
             return false;
         }
-        return chains[hashCode].containsKey(key);
-
+        return chain.containsKey(key);
     }
 
     @Override
@@ -122,73 +235,310 @@ public class ChainedHashMap<K, V> extends AbstractIterableMap<K, V> {
         return this.size;
     }
 
+    /**
+     * Returns whether an incremental resize has not yet moved all entries to the new array.
+     */
+    public boolean isResizing() {
+        return oldChains != null;
+    }
+
+    /**
+     * Returns the lengths of the chains and the number of distinct hash codes of the keys. This
+     * looks at every entry, so it takes time proportional to the size of the map.
+     */
+    public HashDiagnostics diagnostics() {
+        int numChains = chains.length;
+        if (oldChains != null) {
+            for (AbstractIterableMap<K, V> chain : oldChains) {
+                if (chain != null) {
+                    numChains++;
+                }
+            }
+        }
+        int[] chainLengths = new int[numChains];
+        Set<Integer> hashCodes = new HashSet<>();
+        int i = 0;
+        for (AbstractIterableMap<K, V> chain : chains) {
+            chainLengths[i++] = countEntries(chain, hashCodes);
+        }
+        if (oldChains != null) {
+            for (AbstractIterableMap<K, V> chain : oldChains) {
+                if (chain != null) {
+                    chainLengths[i++] = countEntries(chain, hashCodes);
+                }
+            }
+        }
+        return new HashDiagnostics(chainLengths, hashCodes.size());
+    }
+
+    private static <K, V> int countEntries(AbstractIterableMap<K, V> chain, Set<Integer> hashCodes) {
+        if (chain == null) {
+            return 0;
+        }
+        for (K key : chain.keySet()) {
+            hashCodes.add(Objects.hashCode(key));
+        }
+        return chain.size();
+    }
+
+    private int indexOf(Object key, int length) {
+        if (key == null) {
+            return 0;
+        }
+        return hashSpreader.index(key.hashCode(), length);
+    }
+
+    /**
+     * Returns the chain that holds the key if it is in this map, or null if there is none. A chain
+     * of the old array that has not been moved yet holds every key that hashes to it.
+     */
+    private AbstractIterableMap<K, V> findChain(Object key) {
+        if (oldChains != null) {
+            AbstractIterableMap<K, V> oldChain = oldChains[indexOf(key, oldChains.length)];
+            if (oldChain != null) {
+                return oldChain;
+            }
+        }
+        return chains[indexOf(key, chains.length)];
+    }
+
+    /**
+     * Moves the old chain of the key to the new array, if it is still in the old one, and returns
+     * the index of the key's chain in the new array.
+     */
+    private int prepareChain(Object key) {
+        if (oldChains != null) {
+            int oldIndex = indexOf(key, oldChains.length);
+            if (oldChains[oldIndex] != null) {
+                moveChain(oldIndex);
+            }
+        }
+        return indexOf(key, chains.length);
+    }
+
     private void resize() {
         double load = (double) size / (double) chains.length;
 
+        if (resizeMode == ResizeMode.INCREMENTAL) {
+            // While a resize is in progress, the map may go past the threshold; the next resize
+            // starts only once the current one is done.
+            if (oldChains == null && load >= factor) {
+                oldChains = chains;
+                allocateChains(chains.length * 2);
+                migrated = 0;
+            }
+            migrate();
+            return;
+        }
+
         if (load >= factor) {
+            AbstractIterableMap<K, V>[] previous = chains;
+            allocateChains(chains.length * 2);
+            for (AbstractIterableMap<K, V> chain : previous) {
+                if (chain != null) {
+                    rehash(chain);
+                }
+            }
+        }
+    }
 
-            int newLength = chains.length * 2;
-            AbstractIterableMap<K, V>[] oldChains = chains;
-            chains = createArrayOfChains(newLength);
+    /**
+     * Moves up to {@code migrationStep} chains of the old array to the new one, and drops the old
+     * array once all of them have been moved.
+     */
+    private void migrate() {
+        if (oldChains == null) {
+            return;
+        }
+        for (int i = 0; i < migrationStep && migrated < oldChains.length; i++, migrated++) {
+            if (oldChains[migrated] != null) {
+                moveChain(migrated);
+            }
+        }
+        if (migrated == oldChains.length) {
+            oldChains = null;
+        }
+    }
 
-            for (AbstractIterableMap<K, V> chain : oldChains) {
-                if (chain != null) {
-                    for (Map.Entry<K, V> entry : chain) {
-                        int hashCode = 0;
-                        if (entry.getKey() != null) {
-                            hashCode = Math.abs(entry.getKey().hashCode()) % chains.length;
-                        }
-                        if (chains[hashCode] == null) {
-                            chains[hashCode] = createChain(capacity);
-                        }
-                        chains[hashCode].put(entry.getKey(), entry.getValue());
-                    }
+    private void moveChain(int oldIndex) {
+        rehash(oldChains[oldIndex]);
+        oldChains[oldIndex] = null;
+    }
+
+    private void rehash(AbstractIterableMap<K, V> chain) {
+        for (Map.Entry<K, V> entry : chain) {
+            putInChain(indexOf(entry.getKey(), chains.length), entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Puts the entry in the chain at the given index of the new array, creating the chain if
+     * needed, and turns the chain into a tree or back as needed.
+     *
+     * A chain whose keys cannot be held by a tree is marked, so that it is not tried again on every
+     * put; the mark is dropped once the chain shrinks back to the threshold, or the array of chains
+     * is replaced.
+     */
+    private V putInChain(int index, K key, V value) {
+        AbstractIterableMap<K, V> chain = chains[index];
+        if (chain == null) {
+            chain = createChain(capacity);
+            chains[index] = chain;
+        } else if (chain instanceof TreeChain && !((TreeChain<K, V>) chain).accepts(key)) {
+            chain = untreeify(chain);
+            chains[index] = chain;
+            untreeifiable[index] = true;
+        }
+        V previous = chain.put(key, value);
+        if (!(chain instanceof TreeChain) && chain.size() > TREEIFY_THRESHOLD && !untreeifiable[index]) {
+            TreeChain<K, V> tree = TreeChain.of(chain);
+            if (tree != null) {
+                chains[index] = tree;
+            } else {
+                untreeifiable[index] = true;
+            }
+        }
+        return previous;
+    }
+
+    private AbstractIterableMap<K, V> untreeify(AbstractIterableMap<K, V> tree) {
+        AbstractIterableMap<K, V> chain = createChain(Math.max(capacity, tree.size()));
+        for (Map.Entry<K, V> entry : tree) {
+            chain.put(entry.getKey(), entry.getValue());
+        }
+        return chain;
+    }
+
+    /**
+     * A chain that keeps its entries in an {@link AVLTreeMap}. It only holds non-null keys of one
+     * class, which must implement {@link Comparable} on itself, and no two of which compare equal
+     * without being equal.
+     */
+    private static class TreeChain<K, V> extends AbstractIterableMap<K, V> {
+        private final Class<?> keyClass;
+        @SuppressWarnings("rawtypes")
+        private final AVLTreeMap tree;
+
+        @SuppressWarnings("rawtypes")
+        private TreeChain(Class<?> keyClass, AVLTreeMap tree) {
+            this.keyClass = keyClass;
+            this.tree = tree;
+        }
+
+        /**
+         * Returns a tree holding the entries of the given chain, or null if its keys cannot all be
+         * held by one: if they are not all non-null, of the same class, and comparable, or if two
+         * of them compare equal without being equal.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static <K, V> TreeChain<K, V> of(AbstractIterableMap<K, V> chain) {
+            Class<?> keyClass = null;
+            for (K key : chain.keySet()) {
+                if (!(key instanceof Comparable)) {
+                    return null;
                 }
+                if (keyClass == null) {
+                    keyClass = key.getClass();
+                } else if (key.getClass() != keyClass) {
+                    return null;
+                }
+            }
+            AVLTreeMap tree = new AVLTreeMap();
+            for (Map.Entry<K, V> entry : chain) {
+                tree.put((Comparable) entry.getKey(), entry.getValue());
+            }
+            // The keys of the chain are all distinct, so the tree only has fewer if it merged some.
+            if (tree.size() < chain.size()) {
+                return null;
+            }
+            return new TreeChain<>(keyClass, tree);
+        }
+
+        /**
+         * Returns whether the given key can be looked up in this tree: whether it is of the right
+         * class, and no key in the tree compares equal to it without being equal to it.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        boolean accepts(Object key) {
+            if (key == null || key.getClass() != this.keyClass) {
+                return false;
+            }
+            Object stored = this.tree.floorKey((Comparable) key);
+            return stored == null || ((Comparable) stored).compareTo(key) != 0 || stored.equals(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            return accepts(key) ? (V) this.tree.get(key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return accepts(key) && this.tree.containsKey(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V put(K key, V value) {
+            if (!accepts(key)) {
+                throw new IllegalArgumentException("Key cannot be held by this chain: " + key);
             }
+            return (V) this.tree.put((Comparable) key, value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V remove(Object key) {
+            return accepts(key) ? (V) this.tree.remove(key) : null;
+        }
+
+        @Override
+        public int size() {
+            return this.tree.size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return this.tree.iterator();
         }
     }
 
     @Override
     public Iterator<Map.Entry<K, V>> iterator() {
-        return new ChainedHashMapIterator<>(this.chains);
+        return new ChainedHashMapIterator<>(this.chains, this.oldChains);
     }
 
+    /**
+     * Iterates over the chains of the new array, then over the chains of the old array that have
+     * not been moved yet. Each key is in exactly one of them.
+     */
     private static class ChainedHashMapIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final AbstractIterableMap<K, V>[] chains;
+        private final AbstractIterableMap<K, V>[] oldChains;
         private Iterator<Entry<K, V>> curr;
-        private AbstractIterableMap<K, V>[] chains;
+        // Indexes into chains, then into oldChains.
         private int index = 0;
 
-        public ChainedHashMapIterator(AbstractIterableMap<K, V>[] chains) {
+        public ChainedHashMapIterator(AbstractIterableMap<K, V>[] chains, AbstractIterableMap<K, V>[] oldChains) {
             this.chains = chains;
-            if (chains[index] != null) {
-                this.curr = chains[index].iterator();
-            } else {
-                this.curr = null;
-            }
+            this.oldChains = oldChains;
         }
 
         @Override
         public boolean hasNext() {
-            boolean hasNext = false;
-            if (index < chains.length) {
-                if (curr == null || !curr.hasNext()) {
-                    int temp = index;
-                    temp++;
-                    while (temp < chains.length && (chains[temp] == null || chains[temp].isEmpty())) {
-                        temp++;
-                    }
-                    if (temp < chains.length) {
-                        curr = chains[temp].iterator();
-                        hasNext = true;
-                    } else {
-                        hasNext = false;
-                    }
-                    index = temp;
-                } else {
-                    hasNext = true;
+            int total = chains.length + (oldChains == null ? 0 : oldChains.length);
+            while (curr == null || !curr.hasNext()) {
+                if (index >= total) {
+                    return false;
                 }
+                AbstractIterableMap<K, V> chain = index < chains.length
+                    ? chains[index] : oldChains[index - chains.length];
+                index++;
+                curr = chain == null ? null : chain.iterator();
             }
-            return hasNext;
+            return true;
         }
 
         @Override
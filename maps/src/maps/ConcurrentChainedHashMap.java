@@ -0,0 +1,438 @@
+package maps;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe separate-chaining hash map.
+ *
+ * Reads never lock: {@link #get} and {@link #containsKey} walk the chains through volatile links.
+ * An empty chain is started by installing its first node with a compare-and-set; any other change
+ * to a chain locks that chain's first node only, so writers to different chains do not contend.
+ *
+ * The number of chains is always a power of two, and hash codes are spread (their high bits mixed
+ * into their low bits) before being masked down to a chain index.
+ *
+ * Resizing does not stop the world. Once the load factor threshold is crossed, a table twice as
+ * large is allocated, and then every {@link #put} and {@link #remove} moves one small stride of
+ * chains into it before doing its own work, until all chains have moved. A moved chain is replaced
+ * by a forwarding marker, so operations that find one simply retry in the new table; reads never
+ * help move chains.
+ *
+ * Iterators are weakly consistent: they never throw {@link java.util.ConcurrentModificationException},
+ * and yield every entry present for the whole iteration, but may or may not yield entries added
+ * or removed during it. Null keys and values are supported.
+ *
+ * @see ChainedHashMap
+ * @see Map
+ */
+public class ConcurrentChainedHashMap<K, V> extends AbstractIterableMap<K, V> {
+    private static final double DEFAULT_RESIZING_LOAD_FACTOR_THRESHOLD = 1;
+    private static final int DEFAULT_INITIAL_CHAIN_COUNT = 16;
+    private static final int MAX_CHAIN_COUNT = 1 << 30;
+    /** The number of chains moved to the new table by each write during a resize. */
+    static final int TRANSFER_STRIDE = 16;
+    /** The hash of forwarding markers; real hashes are non-negative. */
+    private static final int MOVED = -1;
+    /** Stands in for the null key, so that chains only ever hold non-null keys. */
+    private static final Object NULL_KEY = new Object();
+
+    private final double factor;
+    volatile AtomicReferenceArray<Node<V>> chains;
+    private volatile Resize<V> resize;
+    private final LongAdder size;
+
+    public ConcurrentChainedHashMap() {
+        this(DEFAULT_RESIZING_LOAD_FACTOR_THRESHOLD, DEFAULT_INITIAL_CHAIN_COUNT);
+    }
+
+    /**
+     * @param initialChainCount rounded up to a power of two
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public ConcurrentChainedHashMap(double resizingLoadFactorThreshold, int initialChainCount) {
+        if (!(resizingLoadFactorThreshold > 0) || initialChainCount <= 0) {
+            throw new IllegalArgumentException("Load factor and chain count must be positive");
+        }
+        int chainCount = 1;
+        while (chainCount < initialChainCount && chainCount < MAX_CHAIN_COUNT) {
+            chainCount <<= 1;
+        }
+        this.factor = resizingLoadFactorThreshold;
+        this.chains = new AtomicReferenceArray<>(chainCount);
+        this.size = new LongAdder();
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Object k = maskNull(key);
+        int h = spread(k.hashCode());
+        helpResize();
+        AtomicReferenceArray<Node<V>> tab = this.chains;
+        while (true) {
+            int i = h & (tab.length() - 1);
+            Node<V> first = tab.get(i);
+            if (first == null) {
+                if (tab.compareAndSet(i, null, new Node<>(h, k, value, null))) {
+                    break;
+                }
+            } else if (first.hash == MOVED) {
+                tab = ((Forwarding<V>) first).nextChains;
+            } else {
+                synchronized (first) {
+                    if (tab.get(i) != first) {
+                        continue;
+                    }
+                    Node<V> node = first;
+                    while (true) {
+                        if (node.hash == h && keysEqual(k, node.key)) {
+                            V old = node.value;
+                            node.value = value;
+                            return old;
+                        }
+                        if (node.next == null) {
+                            node.next = new Node<>(h, k, value, null);
+                            break;
+                        }
+                        node = node.next;
+                    }
+                }
+                break;
+            }
+        }
+        this.size.increment();
+        maybeStartResize();
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Object k = maskNull(key);
+        int h = spread(k.hashCode());
+        helpResize();
+        AtomicReferenceArray<Node<V>> tab = this.chains;
+        while (true) {
+            int i = h & (tab.length() - 1);
+            Node<V> first = tab.get(i);
+            if (first == null) {
+                return null;
+            } else if (first.hash == MOVED) {
+                tab = ((Forwarding<V>) first).nextChains;
+                continue;
+            }
+            synchronized (first) {
+                if (tab.get(i) != first) {
+                    continue;
+                }
+                for (Node<V> prev = null, node = first; node != null; prev = node, node = node.next) {
+                    if (node.hash == h && keysEqual(k, node.key)) {
+                        if (prev == null) {
+                            tab.set(i, node.next);
+                        } else {
+                            prev.next = node.next;
+                        }
+                        this.size.decrement();
+                        return node.value;
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        // Finish any resize first, so that no entries are still waiting to be moved.
+        for (Resize<V> r = this.resize; r != null; r = this.resize) {
+            if (!transferStride(r)) {
+                Thread.onSpinWait();
+            }
+        }
+        AtomicReferenceArray<Node<V>> tab = this.chains;
+        int i = 0;
+        while (i < tab.length()) {
+            Node<V> first = tab.get(i);
+            if (first == null) {
+                i++;
+            } else if (first.hash == MOVED) {
+                // Another thread started a new resize; follow it and start over.
+                tab = ((Forwarding<V>) first).nextChains;
+                i = 0;
+            } else {
+                synchronized (first) {
+                    if (tab.get(i) == first) {
+                        int removed = 0;
+                        for (Node<V> node = first; node != null; node = node.next) {
+                            removed++;
+                        }
+                        tab.set(i, null);
+                        this.size.add(-removed);
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries. While other threads are writing, this is only an estimate.
+     */
+    @Override
+    public int size() {
+        long n = this.size.sum();
+        return n < 0 ? 0 : (int) Math.min(n, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new ConcurrentChainedHashMapIterator<>(this.chains);
+    }
+
+    private Node<V> find(Object key) {
+        Object k = maskNull(key);
+        int h = spread(k.hashCode());
+        AtomicReferenceArray<Node<V>> tab = this.chains;
+        while (true) {
+            Node<V> node = tab.get(h & (tab.length() - 1));
+            if (node != null && node.hash == MOVED) {
+                tab = ((Forwarding<V>) node).nextChains;
+                continue;
+            }
+            for (; node != null; node = node.next) {
+                if (node.hash == h && keysEqual(k, node.key)) {
+                    return node;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void maybeStartResize() {
+        AtomicReferenceArray<Node<V>> tab = this.chains;
+        if (this.resize != null || tab.length() >= MAX_CHAIN_COUNT
+            || this.size.sum() < (long) (tab.length() * this.factor)) {
+            return;
+        }
+        // Only starting a resize takes the map-wide lock; no resize is in progress while the table
+        // is compared, so it cannot change underneath us.
+        Resize<V> started = null;
+        synchronized (this) {
+            if (this.resize == null && this.chains == tab) {
+                started = new Resize<>(tab);
+                this.resize = started;
+            }
+        }
+        if (started != null) {
+            transferStride(started);
+        }
+    }
+
+    private void helpResize() {
+        Resize<V> r = this.resize;
+        if (r != null) {
+            transferStride(r);
+        }
+    }
+
+    /**
+     * Claims and moves the next stride of chains of the given resize. The thread that finishes the
+     * last stride installs the new table. Returns false if there was no stride left to claim.
+     */
+    private boolean transferStride(Resize<V> r) {
+        int end;
+        int start;
+        do {
+            end = r.transferIndex.get();
+            if (end <= 0) {
+                return false;
+            }
+            start = Math.max(0, end - TRANSFER_STRIDE);
+        } while (!r.transferIndex.compareAndSet(end, start));
+
+        for (int i = end - 1; i >= start; i--) {
+            transferChain(r, i);
+        }
+        if (r.transferred.addAndGet(end - start) == r.oldChains.length()) {
+            this.chains = r.newChains;
+            this.resize = null;
+        }
+        return true;
+    }
+
+    /**
+     * Splits chain i of the old table into chains i and i + n of the new one. Nodes are copied
+     * rather than relinked, so that readers still walking the old chain are not disturbed.
+     */
+    private static <V> void transferChain(Resize<V> r, int i) {
+        AtomicReferenceArray<Node<V>> old = r.oldChains;
+        int n = old.length();
+        while (true) {
+            Node<V> first = old.get(i);
+            if (first == null) {
+                if (old.compareAndSet(i, null, r.forwarding)) {
+                    return;
+                }
+                continue;
+            }
+            synchronized (first) {
+                if (old.get(i) != first) {
+                    continue;
+                }
+                Node<V> low = null;
+                Node<V> high = null;
+                for (Node<V> node = first; node != null; node = node.next) {
+                    if ((node.hash & n) == 0) {
+                        low = new Node<>(node.hash, node.key, node.value, low);
+                    } else {
+                        high = new Node<>(node.hash, node.key, node.value, high);
+                    }
+                }
+                r.newChains.set(i, low);
+                r.newChains.set(i + n, high);
+                old.set(i, r.forwarding);
+                return;
+            }
+        }
+    }
+
+    /** Mixes the high bits of the hash code into the low bits, and clears the sign bit. */
+    static int spread(int hashCode) {
+        return (hashCode ^ (hashCode >>> 16)) & 0x7fffffff;
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static boolean keysEqual(Object key, Object nodeKey) {
+        return key == nodeKey || key.equals(nodeKey);
+    }
+
+    static class Node<V> {
+        final int hash;
+        final Object key;
+        volatile V value;
+        volatile Node<V> next;
+
+        Node(int hash, Object key, V value, Node<V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /** Marks a chain that has been moved to nextChains. */
+    private static class Forwarding<V> extends Node<V> {
+        final AtomicReferenceArray<Node<V>> nextChains;
+
+        Forwarding(AtomicReferenceArray<Node<V>> nextChains) {
+            super(MOVED, null, null, null);
+            this.nextChains = nextChains;
+        }
+    }
+
+    private static class Resize<V> {
+        final AtomicReferenceArray<Node<V>> oldChains;
+        final AtomicReferenceArray<Node<V>> newChains;
+        final Forwarding<V> forwarding;
+        /** Chains below this index have not been claimed yet. */
+        final AtomicInteger transferIndex;
+        /** The number of chains moved so far. */
+        final AtomicInteger transferred;
+
+        Resize(AtomicReferenceArray<Node<V>> oldChains) {
+            this.oldChains = oldChains;
+            this.newChains = new AtomicReferenceArray<>(oldChains.length() * 2);
+            this.forwarding = new Forwarding<>(this.newChains);
+            this.transferIndex = new AtomicInteger(oldChains.length());
+            this.transferred = new AtomicInteger(0);
+        }
+    }
+
+    private static class ConcurrentChainedHashMapIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final AtomicReferenceArray<Node<V>> chains;
+        private int index = 0;
+        // Chains of newer tables still to visit, for old chains that had moved.
+        private final Deque<PendingChain<V>> pending = new ArrayDeque<>();
+        private Node<V> next;
+
+        ConcurrentChainedHashMapIterator(AtomicReferenceArray<Node<V>> chains) {
+            this.chains = chains;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<V> node = this.next;
+            K key = node.key == NULL_KEY ? null : (K) node.key;
+            Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>(key, node.value);
+            advance();
+            return entry;
+        }
+
+        private void advance() {
+            Node<V> node = this.next == null ? null : this.next.next;
+            while (node == null) {
+                AtomicReferenceArray<Node<V>> tab;
+                int i;
+                if (!this.pending.isEmpty()) {
+                    PendingChain<V> chain = this.pending.pop();
+                    tab = chain.chains;
+                    i = chain.index;
+                } else if (this.index < this.chains.length()) {
+                    tab = this.chains;
+                    i = this.index++;
+                } else {
+                    break;
+                }
+                Node<V> first = tab.get(i);
+                if (first != null && first.hash == MOVED) {
+                    AtomicReferenceArray<Node<V>> nextChains = ((Forwarding<V>) first).nextChains;
+                    this.pending.push(new PendingChain<>(nextChains, i + tab.length()));
+                    this.pending.push(new PendingChain<>(nextChains, i));
+                } else {
+                    node = first;
+                }
+            }
+            this.next = node;
+        }
+    }
+
+    private static class PendingChain<V> {
+        final AtomicReferenceArray<Node<V>> chains;
+        final int index;
+
+        PendingChain(AtomicReferenceArray<Node<V>> chains, int index) {
+            this.chains = chains;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package maps;
+
+import java.util.Arrays;
+
+/**
+ * A snapshot of how evenly the keys of a hash map are spread over its chains.
+ *
+ * Two rates tell apart the two ways a key type can degrade lookups: {@link #collisionRate()} counts
+ * keys that landed in an already-used chain, and {@link #hashCodeCollisionRate()} counts keys whose
+ * hash code was already taken. If the first is well above {@link #expectedCollisionRate()} but the
+ * second is low, the hash codes are distinct but poorly spread, and a better
+ * {@link ChainedHashMap.HashSpreader} will help; if the second is high, the key type's
+ * {@code hashCode} itself needs fixing.
+ *
+ * @see ChainedHashMap#diagnostics()
+ */
+public class HashDiagnostics {
+    private final int size;
+    private final int numChains;
+    private final int nonEmptyChains;
+    private final int distinctHashCodes;
+    private final int[] chainLengthHistogram;
+
+    /**
+     * @param chainLengths      the number of entries in each chain
+     * @param distinctHashCodes the number of distinct hash codes among the keys
+     */
+    HashDiagnostics(int[] chainLengths, int distinctHashCodes) {
+        int max = 0;
+        int total = 0;
+        int nonEmpty = 0;
+        for (int length : chainLengths) {
+            max = Math.max(max, length);
+            total += length;
+            if (length > 0) {
+                nonEmpty++;
+            }
+        }
+        this.chainLengthHistogram = new int[max + 1];
+        for (int length : chainLengths) {
+            this.chainLengthHistogram[length]++;
+        }
+        this.size = total;
+        this.numChains = chainLengths.length;
+        this.nonEmptyChains = nonEmpty;
+        this.distinctHashCodes = distinctHashCodes;
+    }
+
+    /** Returns the number of entries in the map. */
+    public int size() {
+        return this.size;
+    }
+
+    /** Returns the number of chains, including empty ones. */
+    public int numChains() {
+        return this.numChains;
+    }
+
+    /** Returns the number of entries in the longest chain. */
+    public int maxChainLength() {
+        return this.chainLengthHistogram.length - 1;
+    }
+
+    /**
+     * Returns an array whose element at index i is the number of chains with exactly i entries;
+     * its length is one more than the {@link #maxChainLength()}.
+     */
+    public int[] chainLengthHistogram() {
+        return this.chainLengthHistogram.clone();
+    }
+
+    /**
+     * Returns the fraction of entries that share their chain with another entry placed before
+     * them: 0 if every entry has its own chain, and close to 1 if they are all in one chain.
+     */
+    public double collisionRate() {
+        if (this.size == 0) {
+            return 0;
+        }
+        return (double) (this.size - this.nonEmptyChains) / this.size;
+    }
+
+    /**
+     * Returns the {@link #collisionRate()} expected if the entries were placed in chains uniformly
+     * at random.
+     */
+    public double expectedCollisionRate() {
+        if (this.size == 0) {
+            return 0;
+        }
+        // numChains * (1 - (1 - 1/numChains)^size), computed without losing precision for large maps
+        double expectedNonEmpty = this.numChains * -Math.expm1(this.size * Math.log1p(-1.0 / this.numChains));
+        return (this.size - expectedNonEmpty) / this.size;
+    }
+
+    /**
+     * Returns the fraction of entries whose key has the same hash code as another entry's key
+     * counted before it. No spreading of the hash codes can separate these.
+     */
+    public double hashCodeCollisionRate() {
+        if (this.size == 0) {
+            return 0;
+        }
+        return (double) (this.size - this.distinctHashCodes) / this.size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HashDiagnostics{size=%d, chains=%d, maxChainLength=%d, collisionRate=%.3f"
+                + " (expected %.3f), hashCodeCollisionRate=%.3f, histogram=%s}",
+            this.size, this.numChains, maxChainLength(), collisionRate(), expectedCollisionRate(),
+            hashCodeCollisionRate(), Arrays.toString(this.chainLengthHistogram));
+    }
+}
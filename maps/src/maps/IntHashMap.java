@@ -0,0 +1,183 @@
+package maps;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code int} keys to values, using open addressing with linear probing
+ * over flat arrays: no entry objects are allocated, and keys are never boxed.
+ *
+ * Keys are stored in an {@code int[]}, with 0 marking an empty slot, and values in a parallel
+ * {@code Object[]}; the key 0 itself is kept aside in its own fields. See {@link OpenAddressing}
+ * for how keys are placed and removed.
+ *
+ * Null values are allowed; use {@link #containsKey} to tell them apart from missing keys.
+ *
+ * @see BoxedIntHashMap for a {@link java.util.Map} view
+ * @see LongHashMap
+ */
+public class IntHashMap<V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    int[] keys;
+    Object[] values;
+    boolean hasZeroKey;
+    V zeroValue;
+    private int size;
+    private int shift;
+
+    public IntHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of keys to make room for without resizing
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntHashMap(int expectedSize) {
+        allocate(OpenAddressing.capacityFor(expectedSize));
+    }
+
+    /** Returns the value for the given key, or null if the key is not in this map. */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == 0) {
+            return this.zeroValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? null : (V) this.values[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? this.hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Maps the given key to the given value, and returns the previous value for the key, or null
+     * if the key was not in this map.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == 0) {
+            V previous = this.zeroValue;
+            if (!this.hasZeroKey) {
+                this.hasZeroKey = true;
+                this.size++;
+            }
+            this.zeroValue = value;
+            return previous;
+        }
+        int mask = this.keys.length - 1;
+        int slot = slotOf(key);
+        while (this.keys[slot] != 0) {
+            if (this.keys[slot] == key) {
+                V previous = (V) this.values[slot];
+                this.values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+        if (OpenAddressing.isOverloaded(this.size, this.keys.length)) {
+            resize(this.keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the given key, and returns its value, or null if the key was not in this map.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == 0) {
+            if (!this.hasZeroKey) {
+                return null;
+            }
+            V previous = this.zeroValue;
+            this.hasZeroKey = false;
+            this.zeroValue = null;
+            this.size--;
+            return previous;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) this.values[slot];
+        shiftBack(slot);
+        this.size--;
+        return previous;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(this.keys, 0);
+        Arrays.fill(this.values, null);
+        this.hasZeroKey = false;
+        this.zeroValue = null;
+        this.size = 0;
+    }
+
+    /** Returns the slot holding the given non-zero key, or -1 if it is not in this map. */
+    private int find(int key) {
+        int mask = this.keys.length - 1;
+        for (int slot = slotOf(key); this.keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(int key) {
+        return OpenAddressing.home(key, this.shift);
+    }
+
+    /**
+     * Empties the given slot, then moves back each later entry of the same probe run that would
+     * otherwise become unreachable.
+     */
+    private void shiftBack(int hole) {
+        int mask = this.keys.length - 1;
+        for (int slot = (hole + 1) & mask; this.keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (OpenAddressing.canFill(hole, slot, slotOf(this.keys[slot]), mask)) {
+                this.keys[hole] = this.keys[slot];
+                this.values[hole] = this.values[slot];
+                hole = slot;
+            }
+        }
+        this.keys[hole] = 0;
+        this.values[hole] = null;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.shift = OpenAddressing.shiftFor(capacity);
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slotOf(oldKeys[i]);
+                while (this.keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package maps;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code long} keys to values, over flat arrays: no entry objects are
+ * allocated, and keys are never boxed.
+ *
+ * Entries are kept densely, in insertion order except where removals have moved the last entry
+ * into the hole, in parallel {@code long[]} and {@code Object[]} arrays. A {@link LongIntHashMap}
+ * maps each key to the position of its entry, so lookups are one probe of that table (linear
+ * probing with backward-shift deletion) and one array access, and iteration scans exactly
+ * {@link #size()} positions.
+ *
+ * Null values are allowed; use {@link #containsKey} to tell them apart from missing keys.
+ *
+ * @see BoxedLongHashMap for a {@link java.util.Map} view
+ * @see IntHashMap
+ */
+public class LongHashMap<V> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private final LongIntHashMap positions;
+    // The first size() elements of each are the entries.
+    long[] keys;
+    Object[] values;
+    private int size;
+
+    public LongHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of keys to make room for without resizing
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public LongHashMap(int expectedSize) {
+        this.positions = new LongIntHashMap(expectedSize);
+        this.keys = new long[Math.max(expectedSize, 1)];
+        this.values = new Object[this.keys.length];
+    }
+
+    /** Returns the value for the given key, or null if the key is not in this map. */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int position = this.positions.get(key, -1);
+        return position < 0 ? null : (V) this.values[position];
+    }
+
+    public boolean containsKey(long key) {
+        return this.positions.containsKey(key);
+    }
+
+    /**
+     * Maps the given key to the given value, and returns the previous value for the key, or null
+     * if the key was not in this map.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        int position = this.positions.putIfAbsent(key, this.size);
+        if (position < this.size) {
+            V previous = (V) this.values[position];
+            this.values[position] = value;
+            return previous;
+        }
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+        this.keys[this.size] = key;
+        this.values[this.size] = value;
+        this.size++;
+        return null;
+    }
+
+    /**
+     * Removes the given key, and returns its value, or null if the key was not in this map.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int position = this.positions.remove(key, -1);
+        if (position < 0) {
+            return null;
+        }
+        V previous = (V) this.values[position];
+        // Move the last entry into the hole, to keep the entries dense.
+        int last = this.size - 1;
+        if (position != last) {
+            this.keys[position] = this.keys[last];
+            this.values[position] = this.values[last];
+            this.positions.put(this.keys[position], position);
+        }
+        this.values[last] = null;
+        this.size--;
+        return previous;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.positions.clear();
+        Arrays.fill(this.values, 0, this.size, null);
+        this.size = 0;
+    }
+}
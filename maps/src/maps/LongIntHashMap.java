@@ -0,0 +1,204 @@
+package maps;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code long} keys to primitive {@code int} values, using open
+ * addressing with linear probing over flat arrays: no entry objects are allocated, and neither
+ * keys nor values are ever boxed.
+ *
+ * Keys are stored in a {@code long[]}, with 0 marking an empty slot; the key 0 itself is kept
+ * aside in its own fields. See {@link OpenAddressing} for how keys are placed and removed.
+ *
+ * This is the table behind {@link LongHashMap}, and can be used directly to number objects that
+ * have a {@code long} id, such as rooms by their centers.
+ *
+ * @see LongHashMap for object values
+ */
+public class LongIntHashMap {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private int size;
+    private int shift;
+
+    public LongIntHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of keys to make room for without resizing
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(OpenAddressing.capacityFor(expectedSize));
+    }
+
+    /** Returns the value for the given key, or defaultValue if the key is not in this map. */
+    public int get(long key, int defaultValue) {
+        if (key == 0) {
+            return this.hasZeroKey ? this.zeroValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? defaultValue : this.values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? this.hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Maps the given key to the given value, replacing any previous value.
+     */
+    public void put(long key, int value) {
+        int slot = insert(key, value);
+        if (slot >= 0) {
+            setValue(slot, value);
+        }
+    }
+
+    /**
+     * Returns the value for the given key if it is in this map; otherwise, maps the key to the
+     * given value and returns that.
+     */
+    public int putIfAbsent(long key, int value) {
+        int slot = insert(key, value);
+        return slot >= 0 ? valueAt(slot) : value;
+    }
+
+    /**
+     * Removes the given key, and returns its value, or defaultValue if the key was not in this map.
+     */
+    public int remove(long key, int defaultValue) {
+        if (key == 0) {
+            if (!this.hasZeroKey) {
+                return defaultValue;
+            }
+            this.hasZeroKey = false;
+            this.size--;
+            return this.zeroValue;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return defaultValue;
+        }
+        int previous = this.values[slot];
+        shiftBack(slot);
+        this.size--;
+        return previous;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(this.keys, 0);
+        this.hasZeroKey = false;
+        this.size = 0;
+    }
+
+    /**
+     * Adds the key with the given value if it is not in this map, and returns -1; otherwise,
+     * returns where its value is: the slot of the key, or the length of the table for the key 0.
+     */
+    private int insert(long key, int value) {
+        if (key == 0) {
+            if (this.hasZeroKey) {
+                return this.keys.length;
+            }
+            this.hasZeroKey = true;
+            this.zeroValue = value;
+            this.size++;
+            return -1;
+        }
+        int mask = this.keys.length - 1;
+        int slot = slotOf(key);
+        while (this.keys[slot] != 0) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+        if (OpenAddressing.isOverloaded(this.size, this.keys.length)) {
+            resize(this.keys.length * 2);
+        }
+        return -1;
+    }
+
+    private int valueAt(int slot) {
+        return slot == this.keys.length ? this.zeroValue : this.values[slot];
+    }
+
+    private void setValue(int slot, int value) {
+        if (slot == this.keys.length) {
+            this.zeroValue = value;
+        } else {
+            this.values[slot] = value;
+        }
+    }
+
+    /** Returns the slot holding the given non-zero key, or -1 if it is not in this map. */
+    private int find(long key) {
+        int mask = this.keys.length - 1;
+        for (int slot = slotOf(key); this.keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (this.keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(long key) {
+        return OpenAddressing.home(key, this.shift);
+    }
+
+    /**
+     * Empties the given slot, then moves back each later entry of the same probe run that would
+     * otherwise become unreachable.
+     */
+    private void shiftBack(int hole) {
+        int mask = this.keys.length - 1;
+        for (int slot = (hole + 1) & mask; this.keys[slot] != 0; slot = (slot + 1) & mask) {
+            if (OpenAddressing.canFill(hole, slot, slotOf(this.keys[slot]), mask)) {
+                this.keys[hole] = this.keys[slot];
+                this.values[hole] = this.values[slot];
+                hole = slot;
+            }
+        }
+        this.keys[hole] = 0;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.shift = OpenAddressing.shiftFor(capacity);
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slotOf(oldKeys[i]);
+                while (this.keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+}
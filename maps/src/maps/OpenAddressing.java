@@ -0,0 +1,59 @@
+package maps;
+
+/**
+ * The parts of open addressing with linear probing that {@link LongIntHashMap} and
+ * {@link IntHashMap} share: sizing the table, placing keys, and deciding which entries to shift
+ * back after a removal. Each of them keeps its own flat arrays, so the probing loops themselves
+ * are written out for each key type.
+ *
+ * Tables have a power-of-two length and are kept at most half full. Keys are placed with Fibonacci
+ * hashing (multiplying by 2^64 / phi and keeping the top bits), which spreads sequential keys well.
+ * Removal shifts later entries of the probe run backward instead of leaving tombstones, so lookups
+ * never slow down after many removals.
+ */
+final class OpenAddressing {
+    static final double MAX_LOAD_FACTOR = 0.5;
+    private static final long PHI = 0x9E3779B97F4A7C15L;
+
+    private OpenAddressing() {
+    }
+
+    /**
+     * Returns the length of a table that holds the given number of keys without resizing.
+     *
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        int capacity = 2;
+        while (capacity * MAX_LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /** Returns whether a table of the given length must grow to hold the given number of keys. */
+    static boolean isOverloaded(int size, int capacity) {
+        return size > capacity * MAX_LOAD_FACTOR;
+    }
+
+    /** Returns the shift that {@link #home} takes for a table of the given length. */
+    static int shiftFor(int capacity) {
+        return Long.numberOfLeadingZeros(capacity - 1);
+    }
+
+    /** Returns the slot at which the probe run for the given key starts. */
+    static int home(long key, int shift) {
+        return (int) ((key * PHI) >>> shift);
+    }
+
+    /**
+     * Returns whether the entry in the given slot, whose probe run starts at home, may be moved
+     * back into the given hole: whether its home is not cyclically within (hole, slot].
+     */
+    static boolean canFill(int hole, int slot, int home, int mask) {
+        return ((slot - home) & mask) >= ((slot - hole) & mask);
+    }
+}
@@ -3,6 +3,7 @@ package maps.experiments;
 import edu.washington.cse373.experiments.AnalysisUtils;
 import edu.washington.cse373.experiments.PlotWindow;
 import maps.ChainedHashMap;
+import maps.LongHashMap;
 
 import java.util.List;
 import java.util.Map;
@@ -22,8 +23,8 @@ public class Experiment3HashingResizingLoadFactor {
         List<Long> sizes = AnalysisUtils.range(0L, MAX_MAP_SIZE, STEP);
 
         PlotWindow.launch("Experiment 3", "Map Size", "Elapsed Time (ns)",
-            new LongUnaryOperator[]{this::runtime1, this::runtime2},
-            new String[]{"runtime1", "runtime2"}, sizes, 1, .01);
+            new LongUnaryOperator[]{this::runtime1, this::runtime2, this::runtime3},
+            new String[]{"runtime1", "runtime2", "runtime3"}, sizes, 1, .01);
     }
 
     protected Map<Long, Long> constructChainedHashMap(double resizingLoadFactor) {
@@ -38,6 +39,10 @@ public class Experiment3HashingResizingLoadFactor {
         return timePuts(mapSize, constructChainedHashMap(300));
     }
 
+    public long runtime3(long mapSize) {
+        return timePrimitivePuts(mapSize, new LongHashMap<>());
+    }
+
     protected long timePuts(long numPuts, Map<Long, Long> map) {
         long start = System.nanoTime();
         for (long i = 0L; i < numPuts; i++) {
@@ -45,4 +50,12 @@ public class Experiment3HashingResizingLoadFactor {
         }
         return System.nanoTime() - start;
     }
+
+    protected long timePrimitivePuts(long numPuts, LongHashMap<Long> map) {
+        long start = System.nanoTime();
+        for (long i = 0L; i < numPuts; i++) {
+            map.put(i, 0L);
+        }
+        return System.nanoTime() - start;
+    }
 }
@@ -0,0 +1,88 @@
+package maps.experiments;
+
+import maps.ChainedHashMap;
+import maps.ChainedHashMap.ResizeMode;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Times every single put into a growing {@link ChainedHashMap}, once per {@link ResizeMode}, and
+ * prints a histogram of the latencies along with their high percentiles.
+ *
+ * With {@link ResizeMode#ALL_AT_ONCE}, the few puts that double the array rehash the whole map and
+ * show up as the maximum and in the last buckets of the histogram; with
+ * {@link ResizeMode#INCREMENTAL}, the tail stays close to the median.
+ *
+ * Garbage collection pauses are as long as the biggest resizes, so run this with a heap large
+ * enough that none happen during a measured run (for example, {@code -Xms3g -Xmx3g}).
+ */
+public class Experiment4ResizeLatency {
+    public static final int NUM_PUTS = 1_000_000;
+    public static final int WARMUP_ROUNDS = 3;
+    public static final int INITIAL_CHAIN_COUNT = 10;
+    public static final int CHAIN_INITIAL_CAPACITY = 8;
+    public static final double RESIZING_LOAD_FACTOR = 1;
+    public static final double[] PERCENTILES = {50, 99, 99.9, 99.99};
+
+    public static void main(String[] args) {
+        new Experiment4ResizeLatency().run();
+    }
+
+    public void run() {
+        for (ResizeMode mode : ResizeMode.values()) {
+            // let the JIT compile the put path before measuring
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                timeEachPut(NUM_PUTS, constructChainedHashMap(mode));
+            }
+            System.gc();
+            long[] latencies = timeEachPut(NUM_PUTS, constructChainedHashMap(mode));
+            System.out.println(mode + ":");
+            printSummary(latencies);
+            System.out.println();
+        }
+    }
+
+    protected Map<Long, Long> constructChainedHashMap(ResizeMode mode) {
+        return new ChainedHashMap<>(RESIZING_LOAD_FACTOR, INITIAL_CHAIN_COUNT, CHAIN_INITIAL_CAPACITY, mode);
+    }
+
+    /**
+     * Returns the elapsed time of each of `numPuts` puts into the given map, in nanoseconds.
+     */
+    protected long[] timeEachPut(int numPuts, Map<Long, Long> map) {
+        long[] latencies = new long[numPuts];
+        for (int i = 0; i < numPuts; i++) {
+            long key = i;
+            long start = System.nanoTime();
+            map.put(key, 0L);
+            latencies[i] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    /**
+     * Prints the percentiles and maximum of the given latencies, then the number of latencies in
+     * each power-of-two range of nanoseconds.
+     */
+    protected void printSummary(long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        for (double percentile : PERCENTILES) {
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            System.out.printf("  p%-6s %,12d ns%n", percentile, sorted[Math.max(index, 0)]);
+        }
+        System.out.printf("  max     %,12d ns%n", sorted[sorted.length - 1]);
+
+        int[] counts = new int[64];
+        for (long latency : latencies) {
+            counts[64 - Long.numberOfLeadingZeros(Math.max(latency, 1))]++;
+        }
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                long low = bucket == 0 ? 0 : 1L << (bucket - 1);
+                System.out.printf("  [%,12d, %,12d) ns  %,9d%n", low, 1L << bucket, counts[bucket]);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package maps.experiments;
+
+import maps.ChainedHashMap;
+import maps.ChainedHashMap.HashSpreader;
+import maps.ChainedHashMap.ResizeMode;
+import maps.HashDiagnostics;
+import maps.experiments.Experiment2HashCodesAndAVLTrees.FakeString1;
+import maps.experiments.Experiment2HashCodesAndAVLTrees.FakeString2;
+import maps.experiments.Experiment2HashCodesAndAVLTrees.FakeString3;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Fills a {@link ChainedHashMap} with the random strings of experiment 2, for each of its hash
+ * codes and each {@link HashSpreader}, and prints the resulting {@link HashDiagnostics}.
+ *
+ * FakeString1 and FakeString2 have few distinct hash codes, which shows up as a high hash code
+ * collision rate whatever the spreader; FakeString3 has distinct hash codes, so its chains are
+ * about as long as a uniformly random placement would make them.
+ */
+public class Experiment5HashDiagnostics {
+    public static final int MAP_SIZE = 50000;
+    public static final int STRING_LENGTH = Experiment2HashCodesAndAVLTrees.STRING_LENGTH;
+
+    public static void main(String[] args) {
+        new Experiment5HashDiagnostics().run();
+    }
+
+    public void run() {
+        printDiagnostics("FakeString1", FakeString1::new);
+        printDiagnostics("FakeString2", FakeString2::new);
+        printDiagnostics("FakeString3", FakeString3::new);
+    }
+
+    protected <STRING> void printDiagnostics(String name, Function<char[], STRING> stringConstructor) {
+        List<STRING> strings = Utils.generateRandomStrings(MAP_SIZE, STRING_LENGTH, stringConstructor);
+        for (HashSpreader spreader : HashSpreader.values()) {
+            ChainedHashMap<STRING, Integer> map = new ChainedHashMap<>(1, 16, 4, ResizeMode.ALL_AT_ONCE, spreader);
+            for (STRING string : strings) {
+                map.put(string, 0);
+            }
+            HashDiagnostics diagnostics = map.diagnostics();
+            System.out.printf("%s, %s: max chain length %d, collision rate %.3f (expected %.3f),"
+                    + " hash code collision rate %.3f%n",
+                name, spreader, diagnostics.maxChainLength(), diagnostics.collisionRate(),
+                diagnostics.expectedCollisionRate(), diagnostics.hashCodeCollisionRate());
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package maps;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+public class AVLTreeMapTests extends BaseTest {
+    protected <K extends Comparable<K>, V> AVLTreeMap<K, V> createMap() {
+        return new AVLTreeMap<>();
+    }
+
+    @Test
+    void remove_existingKey_returnsValueAndRemovesIt() {
+        AVLTreeMap<Integer, String> map = createMap();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "v" + i);
+        }
+        assertThat(map.remove(4)).isEqualTo("v4");
+        assertThat(map.containsKey(4)).isFalse();
+        assertThat(map.size()).isEqualTo(9);
+    }
+
+    @Test
+    void remove_missingKey_returnsNull() {
+        AVLTreeMap<Integer, String> map = createMap();
+        map.put(1, "one");
+        assertThat(map.remove(2)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_nullKey_throwsNullPointerException() {
+        AVLTreeMap<Integer, String> map = createMap();
+        assertThatThrownBy(() -> map.remove(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void remove_everyKey_leavesEmptyMap() {
+        AVLTreeMap<Integer, Integer> map = createMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(map.remove(i)).isEqualTo(i);
+        }
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.size()).isEqualTo(0);
+        assertThat(map.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void putAndRemove_randomKeys_matchesTreeMap() {
+        Random random = new Random(373);
+        AVLTreeMap<Integer, Integer> map = createMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        assertThat(new HashMap<>(map)).isEqualTo(expected);
+        // the iterator visits keys in increasing order
+        assertThat(map.keySet()).containsExactlyElementsOf(expected.keySet());
+    }
+
+    @Test
+    void remove_sequentialKeys_staysBalanced() {
+        AVLTreeMap<Integer, Integer> map = createMap();
+        final int size = 1 << 16;
+        for (int i = 0; i < size; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < size; i += 2) {
+            map.remove(i);
+        }
+        // An unbalanced tree this deep would overflow the stack while recursing.
+        for (int i = 0; i < size; i++) {
+            assertThat(map.containsKey(i)).isEqualTo(i % 2 == 1);
+        }
+    }
+
+    /**
+     * Returns a map with the keys 0, 10, 20, ..., 90, each mapped to its negation.
+     */
+    protected AVLTreeMap<Integer, Integer> createMapOfTens() {
+        AVLTreeMap<Integer, Integer> map = createMap();
+        for (int i = 90; i >= 0; i -= 10) {
+            map.put(i, -i);
+        }
+        return map;
+    }
+
+    @Test
+    void iterator_visitsKeysInIncreasingOrder() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        List<Integer> keys = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : map) {
+            keys.add(entry.getKey());
+            assertThat(entry.getValue()).isEqualTo(-entry.getKey());
+        }
+        assertThat(keys).containsExactly(0, 10, 20, 30, 40, 50, 60, 70, 80, 90);
+    }
+
+    @Test
+    void iterator_onEmptyMap_throwsNoSuchElement() {
+        Iterator<Map.Entry<Integer, Integer>> it = this.<Integer, Integer>createMap().iterator();
+        assertThat(it.hasNext()).isFalse();
+        assertThatThrownBy(it::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iteratorRemove_removesEveryOtherEntry() {
+        AVLTreeMap<Integer, Integer> map = createMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        Iterator<Map.Entry<Integer, Integer>> it = map.iterator();
+        int expectedKey = 0;
+        while (it.hasNext()) {
+            assertThat(it.next().getKey()).isEqualTo(expectedKey);
+            if (expectedKey % 2 == 0) {
+                it.remove();
+            }
+            expectedKey++;
+        }
+        assertThat(expectedKey).isEqualTo(1000);
+        assertThat(map.size()).isEqualTo(500);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.containsKey(i)).isEqualTo(i % 2 == 1);
+        }
+    }
+
+    @Test
+    void iteratorRemove_withoutNext_throwsIllegalState() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        Iterator<Map.Entry<Integer, Integer>> it = map.iterator();
+        assertThatThrownBy(it::remove).isInstanceOf(IllegalStateException.class);
+        it.next();
+        it.remove();
+        assertThatThrownBy(it::remove).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void iteratorEntrySetValue_changesMap() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        for (Map.Entry<Integer, Integer> entry : map) {
+            assertThat(entry.setValue(entry.getKey())).isEqualTo(-entry.getKey());
+        }
+        for (int i = 0; i < 100; i += 10) {
+            assertThat(map.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void iterator_afterMapChangedOutsideIt_throwsConcurrentModification() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        Iterator<Map.Entry<Integer, Integer>> it = map.iterator();
+        it.next();
+        map.put(15, 15);
+        assertThatThrownBy(it::next).isInstanceOf(ConcurrentModificationException.class);
+
+        it = map.iterator();
+        it.next();
+        map.remove(15);
+        assertThatThrownBy(it::remove).isInstanceOf(ConcurrentModificationException.class);
+
+        it = map.headMap(50).iterator();
+        it.next();
+        map.clear();
+        assertThatThrownBy(it::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iterator_afterValueReplaced_keepsIterating() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        Iterator<Map.Entry<Integer, Integer>> it = map.iterator();
+        it.next();
+        map.put(50, -50);
+        int count = 1;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        assertThat(count).isEqualTo(10);
+    }
+
+    @Test
+    void clear_removesEverything() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.size()).isEqualTo(0);
+        assertThat(map.containsKey(10)).isFalse();
+    }
+
+    @Test
+    void floorKeyAndCeilingKey_returnClosestKeys() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        assertThat(map.floorKey(35)).isEqualTo(30);
+        assertThat(map.ceilingKey(35)).isEqualTo(40);
+        assertThat(map.floorKey(40)).isEqualTo(40);
+        assertThat(map.ceilingKey(40)).isEqualTo(40);
+        assertThat(map.floorKey(-1)).isNull();
+        assertThat(map.ceilingKey(91)).isNull();
+        assertThat(map.floorKey(1000)).isEqualTo(90);
+        assertThat(map.ceilingKey(-1000)).isEqualTo(0);
+    }
+
+    @Test
+    void floorKeyAndCeilingKey_randomKeys_matchTreeMap() {
+        Random random = new Random(373);
+        AVLTreeMap<Integer, Integer> map = createMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 500; i++) {
+            int key = random.nextInt(10000);
+            map.put(key, i);
+            expected.put(key, i);
+        }
+        for (int i = -10; i < 10010; i += 7) {
+            assertThat(map.floorKey(i)).isEqualTo(expected.floorKey(i));
+            assertThat(map.ceilingKey(i)).isEqualTo(expected.ceilingKey(i));
+        }
+    }
+
+    @Test
+    void subMap_containsOnlyKeysInRange() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        Map<Integer, Integer> view = map.subMap(25, 60);
+        assertThat(view.keySet()).containsExactly(30, 40, 50);
+        assertThat(view.size()).isEqualTo(3);
+        assertThat(view.get(30)).isEqualTo(-30);
+        assertThat(view.get(60)).isNull();
+        assertThat(view.containsKey(20)).isFalse();
+        assertThat(view.containsKey(50)).isTrue();
+    }
+
+    @Test
+    void headMapAndTailMap_splitMap() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        assertThat(map.headMap(30).keySet()).containsExactly(0, 10, 20);
+        assertThat(map.tailMap(30).keySet()).containsExactly(30, 40, 50, 60, 70, 80, 90);
+        assertThat(map.headMap(0).isEmpty()).isTrue();
+        assertThat(map.tailMap(91).isEmpty()).isTrue();
+    }
+
+    @Test
+    void subMap_reflectsChangesToMap() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        Map<Integer, Integer> view = map.subMap(25, 60);
+        map.put(35, -35);
+        map.put(65, -65);
+        map.remove(40);
+        assertThat(view.keySet()).containsExactly(30, 35, 50);
+    }
+
+    @Test
+    void subMap_writesThroughToMap() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        Map<Integer, Integer> view = map.subMap(25, 60);
+        view.put(45, -45);
+        assertThat(view.remove(30)).isEqualTo(-30);
+        assertThat(view.remove(10)).isNull();
+        assertThat(map.keySet()).containsExactly(0, 10, 20, 40, 45, 50, 60, 70, 80, 90);
+
+        view.clear();
+        assertThat(view.isEmpty()).isTrue();
+        assertThat(map.keySet()).containsExactly(0, 10, 20, 60, 70, 80, 90);
+    }
+
+    @Test
+    void subMap_putOutOfRange_throwsIllegalArgument() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        Map<Integer, Integer> view = map.subMap(25, 60);
+        assertThatThrownBy(() -> view.put(60, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.headMap(30).put(30, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(60)).isEqualTo(-60);
+    }
+
+    @Test
+    void subMap_withFromGreaterThanTo_throwsIllegalArgument() {
+        AVLTreeMap<Integer, Integer> map = createMapOfTens();
+        assertThatThrownBy(() -> map.subMap(60, 25)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.subMap(30, 30).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,57 @@
+package maps;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class BoxedIntHashMapTests extends BaseMapTests {
+    @Override
+    protected <K, V> Map<K, V> createMap() {
+        return new BoxedIntHashMap<>();
+    }
+
+    @Test
+    void putAndRemove_withRandomIntKeys_matchesHashMap() {
+        IntHashMap<Integer> map = new IntHashMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 100000; i++) {
+            // A small key range, including 0 and negative keys, so that keys repeat and runs form.
+            int key = (rand.nextInt(2000) - 1000) * 0x10000;
+            if (rand.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(new HashMap<>(new BoxedIntHashMap<Integer, Integer>(map))).isEqualTo(expected);
+        for (int key = -1000; key < 1000; key++) {
+            int shifted = key * 0x10000;
+            assertThat(map.containsKey(shifted)).isEqualTo(expected.containsKey(shifted));
+            assertThat(map.get(shifted)).isEqualTo(expected.get(shifted));
+        }
+    }
+
+    @Test
+    void remove_fromRun_keepsLaterKeysReachable() {
+        IntHashMap<Integer> map = new IntHashMap<>(1000);
+        for (int i = 1; i <= 400; i++) {
+            map.put(i, i);
+        }
+        for (int i = 1; i <= 400; i += 2) {
+            map.remove(i);
+        }
+        for (int i = 1; i <= 400; i++) {
+            assertThat(map.get(i)).isEqualTo(i % 2 == 0 ? Integer.valueOf(i) : null);
+        }
+        assertThat(map.size()).isEqualTo(200);
+    }
+
+    @Test
+    void constructor_withNegativeExpectedSize_throwsIllegalArgument() {
+        assertThatThrownBy(() -> new IntHashMap<>(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
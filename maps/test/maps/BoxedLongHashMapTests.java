@@ -0,0 +1,86 @@
+package maps;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class BoxedLongHashMapTests extends BaseMapTests {
+    @Override
+    protected <K, V> Map<K, V> createMap() {
+        return new BoxedLongHashMap<>();
+    }
+
+    @Test
+    void putAndRemove_withRandomLongKeys_matchesHashMap() {
+        LongHashMap<Integer> map = new LongHashMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 100000; i++) {
+            // A small key range, including 0 and negative keys, so that keys repeat and runs form.
+            long key = (rand.nextInt(2000) - 1000) * 0x100000000L;
+            if (rand.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(new HashMap<>(new BoxedLongHashMap<Long, Integer>(map))).isEqualTo(expected);
+        for (long key = -1000; key < 1000; key++) {
+            long shifted = key * 0x100000000L;
+            assertThat(map.containsKey(shifted)).isEqualTo(expected.containsKey(shifted));
+            assertThat(map.get(shifted)).isEqualTo(expected.get(shifted));
+        }
+    }
+
+    @Test
+    void remove_fromRun_keepsLaterKeysReachable() {
+        LongHashMap<Integer> map = new LongHashMap<>(1000);
+        for (int i = 1; i <= 400; i++) {
+            map.put(i, i);
+        }
+        for (int i = 1; i <= 400; i += 2) {
+            map.remove(i);
+        }
+        for (int i = 1; i <= 400; i++) {
+            assertThat(map.get(i)).isEqualTo(i % 2 == 0 ? Integer.valueOf(i) : null);
+        }
+        assertThat(map.size()).isEqualTo(200);
+    }
+
+    @Test
+    void longIntHashMap_withRandomKeys_matchesHashMap() {
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random rand = new Random(373);
+        for (int n = 0; n < 100000; n++) {
+            int i = n;
+            long key = (rand.nextInt(2000) - 1000) * 0x100000000L;
+            switch (rand.nextInt(3)) {
+                case 0:
+                    assertThat(map.remove(key, -1)).isEqualTo(expected.getOrDefault(key, -1));
+                    expected.remove(key);
+                    break;
+                case 1:
+                    assertThat(map.putIfAbsent(key, i)).isEqualTo(expected.computeIfAbsent(key, k -> i));
+                    break;
+                default:
+                    map.put(key, i);
+                    expected.put(key, i);
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = -1000; key < 1000; key++) {
+            long shifted = key * 0x100000000L;
+            assertThat(map.containsKey(shifted)).isEqualTo(expected.containsKey(shifted));
+            assertThat(map.get(shifted, -1)).isEqualTo(expected.getOrDefault(shifted, -1));
+        }
+    }
+
+    @Test
+    void constructor_withNegativeExpectedSize_throwsIllegalArgument() {
+        assertThatThrownBy(() -> new LongHashMap<>(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,7 +1,10 @@
 package maps;
 
+import maps.ChainedHashMap.HashSpreader;
+import maps.ChainedHashMap.ResizeMode;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -14,13 +17,38 @@ public class ChainedHashMapTests extends BaseMapTests {
     protected <K, V> Map<K, V> createMap(double resizingLoadFactorThreshold,
                                          int initialChainCount,
                                          int chainInitialCapacity) {
-        return new ChainedHashMap<>(resizingLoadFactorThreshold, initialChainCount, chainInitialCapacity);
+        return new ChainedHashMap<>(resizingLoadFactorThreshold, initialChainCount, chainInitialCapacity,
+            resizeMode(), hashSpreader());
+    }
+
+    protected ResizeMode resizeMode() {
+        return ResizeMode.ALL_AT_ONCE;
+    }
+
+    protected HashSpreader hashSpreader() {
+        return HashSpreader.NONE;
+    }
+
+    protected <K, V> HashDiagnostics diagnostics(Map<K, V> map) {
+        return ((ChainedHashMap<K, V>) map).diagnostics();
     }
 
     protected <K, V> AbstractIterableMap<K, V>[] extractChains(Map<K, V> map) {
         return ((ChainedHashMap<K, V>) map).chains;
     }
 
+    /**
+     * Returns the chain holding the given key, which must be in the map.
+     */
+    protected <K, V> AbstractIterableMap<K, V> findChain(Map<K, V> map, K key) {
+        for (AbstractIterableMap<K, V> chain : extractChains(map)) {
+            if (chain != null && chain.containsKey(key)) {
+                return chain;
+            }
+        }
+        throw new AssertionError("key not found: " + key);
+    }
+
     protected <K, V> Map.Entry<K, V>[] extractEntries(Map<K, V> map) {
         return ((ArrayMap<K, V>) map).entries;
     }
@@ -84,6 +112,184 @@ public class ChainedHashMapTests extends BaseMapTests {
         assertThat(map).containsAllEntriesOf(actual);
     }
 
+    @Test
+    void diagnostics_reportsChainLengthsAndCollisions() {
+        Map<Wrapper<Integer>, Integer> map = new ChainedHashMap<>(100, 8, 4, resizeMode(), HashSpreader.NONE);
+        map.put(new Wrapper<>(1, 0), 1);
+        map.put(new Wrapper<>(2, 0), 2);
+        map.put(new Wrapper<>(3, 0), 3);
+        map.put(new Wrapper<>(4, 1), 4);
+        map.put(new Wrapper<>(5, 9), 5);
+
+        HashDiagnostics diagnostics = diagnostics(map);
+        assertThat(diagnostics.size()).isEqualTo(5);
+        assertThat(diagnostics.numChains()).isEqualTo(8);
+        assertThat(diagnostics.maxChainLength()).isEqualTo(3);
+        assertThat(diagnostics.chainLengthHistogram()).containsExactly(6, 0, 1, 1);
+        assertThat(diagnostics.collisionRate()).isCloseTo(3.0 / 5, within(1e-9));
+        assertThat(diagnostics.hashCodeCollisionRate()).isCloseTo(2.0 / 5, within(1e-9));
+    }
+
+    @Test
+    void diagnostics_onEmptyMap_reportsNoCollisions() {
+        HashDiagnostics diagnostics = diagnostics(createMap());
+        assertThat(diagnostics.size()).isEqualTo(0);
+        assertThat(diagnostics.maxChainLength()).isEqualTo(0);
+        assertThat(diagnostics.collisionRate()).isEqualTo(0);
+        assertThat(diagnostics.expectedCollisionRate()).isEqualTo(0);
+    }
+
+    @Test
+    void hashSpreader_withHashCodesMultipleOfChainCount_spreadsKeys() {
+        for (HashSpreader spreader : HashSpreader.values()) {
+            Map<Wrapper<Integer>, Integer> map = new ChainedHashMap<>(100, 64, 4, resizeMode(), spreader);
+            for (int i = 0; i < 64; i++) {
+                map.put(new Wrapper<>(i, i * 64), i);
+            }
+            HashDiagnostics diagnostics = diagnostics(map);
+            if (spreader == HashSpreader.NONE) {
+                assertThat(diagnostics.maxChainLength()).isEqualTo(64);
+            } else {
+                assertThat(diagnostics.maxChainLength()).as(spreader.toString()).isLessThanOrEqualTo(8);
+                assertThat(diagnostics.collisionRate()).as(spreader.toString())
+                    .isLessThan(diagnostics.expectedCollisionRate() + 0.2);
+            }
+            assertThat(diagnostics.hashCodeCollisionRate()).isEqualTo(0);
+            for (int i = 0; i < 64; i++) {
+                assertThat(map.get(new Wrapper<>(i, i * 64))).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    void put_manyComparableKeysWithSameHashCode_turnsChainIntoTree() {
+        Map<CollidingKey, Integer> map = createMap(100, 4, 4);
+        for (int i = 0; i < 100; i++) {
+            map.put(new CollidingKey(i, 5), i);
+        }
+        AbstractIterableMap<CollidingKey, Integer> chain = findChain(map, new CollidingKey(0, 5));
+        assertThat(chain.getClass()).isNotEqualTo(ArrayMap.class);
+        assertThat(chain.size()).isEqualTo(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(map.get(new CollidingKey(i, 5))).isEqualTo(i);
+        }
+        assertThat(map.containsKey(new CollidingKey(100, 5))).isFalse();
+        assertThat(map.put(new CollidingKey(3, 5), -3)).isEqualTo(3);
+        assertThat(map).hasSize(100);
+    }
+
+    @Test
+    void remove_fromTreeChain_turnsItBackIntoChainOnceSmall() {
+        Map<CollidingKey, Integer> map = createMap(100, 4, 4);
+        for (int i = 0; i < 20; i++) {
+            map.put(new CollidingKey(i, 5), i);
+        }
+        for (int i = 0; i < 15; i++) {
+            assertThat(map.remove(new CollidingKey(i, 5))).isEqualTo(i);
+        }
+        assertThat(map.remove(new CollidingKey(0, 5))).isNull();
+        assertThat(findChain(map, new CollidingKey(15, 5)).getClass()).isEqualTo(ArrayMap.class);
+        assertThat(map).hasSize(5);
+        for (int i = 15; i < 20; i++) {
+            assertThat(map.get(new CollidingKey(i, 5))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void put_keyOfOtherClassIntoTreeChain_keepsAllEntries() {
+        Map<Object, Integer> map = createMap(100, 4, 4);
+        for (int i = 0; i < 20; i++) {
+            map.put(new CollidingKey(i, 0), i);
+        }
+        // Both have the same hash code as the keys already in the tree.
+        map.put(0, -1);
+        map.put(null, -2);
+
+        assertThat(map).hasSize(22);
+        assertThat(map.get(0)).isEqualTo(-1);
+        assertThat(map.get(null)).isEqualTo(-2);
+        for (int i = 0; i < 20; i++) {
+            assertThat(map.get(new CollidingKey(i, 0))).isEqualTo(i);
+        }
+        assertThat(map.remove(0)).isEqualTo(-1);
+        assertThat(map.remove(null)).isEqualTo(-2);
+        assertThat(map).hasSize(20);
+    }
+
+    @Test
+    void getAndRemove_keyOfOtherClassFromTreeChain_returnsNull() {
+        Map<Object, Integer> map = createMap(100, 4, 4);
+        for (int i = 0; i < 20; i++) {
+            map.put(new CollidingKey(i, 0), i);
+        }
+        assertThat(map.get(0)).isNull();
+        assertThat(map.containsKey(null)).isFalse();
+        assertThat(map.remove(0)).isNull();
+        assertThat(map).hasSize(20);
+    }
+
+    @Test
+    void put_keyComparingEqualToKeyInTreeChain_keepsBothEntries() {
+        // A single chain, so that keys share it whatever their hash codes.
+        Map<BigDecimal, String> map = createMap(100, 1, 4);
+        for (int i = 1; i <= 9; i++) {
+            map.put(BigDecimal.valueOf(i), "int " + i);
+        }
+        // 1.0 compares equal to 1 but is not equal to it.
+        map.put(new BigDecimal("1.0"), "one point zero");
+
+        assertThat(map).hasSize(10);
+        assertThat(map.get(BigDecimal.ONE)).isEqualTo("int 1");
+        assertThat(map.get(new BigDecimal("1.0"))).isEqualTo("one point zero");
+        assertThat(map.containsKey(new BigDecimal("1.00"))).isFalse();
+        assertThat(map.remove(new BigDecimal("1.00"))).isNull();
+
+        for (int i = 10; i <= 20; i++) {
+            map.put(BigDecimal.valueOf(i), "int " + i);
+        }
+        assertThat(map).hasSize(21);
+        assertThat(map.remove(BigDecimal.ONE)).isEqualTo("int 1");
+        assertThat(map.get(new BigDecimal("1.0"))).isEqualTo("one point zero");
+        assertThat(map).hasSize(20);
+    }
+
+    @Test
+    void put_manyKeysThatCannotFormTree_triesToTreeifyOnlyOnce() {
+        int[] comparisons = new int[1];
+        Map<CollidingKey, Integer> map = createMap(100, 1, 4);
+        for (int i = 0; i < 1000; i++) {
+            map.put(new UnorderedKey(i, comparisons), i);
+        }
+        assertThat(map).hasSize(1000);
+        // One failed attempt at 9 entries; retrying on every put would compare about 500000 times.
+        assertThat(comparisons[0]).isLessThan(100);
+
+        // Once the chain shrinks back to the threshold, it may be tried again.
+        for (int i = 8; i < 1000; i++) {
+            map.remove(new UnorderedKey(i, comparisons));
+        }
+        comparisons[0] = 0;
+        map.put(new UnorderedKey(8, comparisons), 8);
+        assertThat(comparisons[0]).isPositive();
+        assertThat(map).hasSize(9);
+    }
+
+    @Test
+    void resize_withTreeChains_keepsAllEntries() {
+        Map<CollidingKey, Integer> map = createMap(1, 2, 4);
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            map.put(new CollidingKey(i, i % 3), i);
+            expected.put(new CollidingKey(i, i % 3), i);
+        }
+        assertThat(map).isEqualTo(expected);
+        for (int i = 0; i < 200; i += 2) {
+            map.remove(new CollidingKey(i, i % 3));
+            expected.remove(new CollidingKey(i, i % 3));
+        }
+        assertThat(map).isEqualTo(expected);
+    }
+
     @Test
     void ensureCreateChainMethodCanBeOverridden() {
         // The grader will use similar code to override `createChain`, so make sure this compiles.
@@ -95,4 +301,57 @@ public class ChainedHashMapTests extends BaseMapTests {
         };
     }
 
+    /**
+     * A comparable key with a chosen hash code.
+     */
+    protected static class CollidingKey implements Comparable<CollidingKey> {
+        private final int id;
+        private final int hashCode;
+
+        public CollidingKey(int id, int hashCode) {
+            this.id = id;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(this.id, other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) { return true; }
+            if (o == null || getClass() != o.getClass()) { return false; }
+            return this.id == ((CollidingKey) o).id;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "CollidingKey{" + this.id + "}";
+        }
+    }
+
+    /**
+     * A key whose ordering is inconsistent with equals: every key compares equal to every other.
+     * Counts its comparisons.
+     */
+    protected static class UnorderedKey extends CollidingKey {
+        private final int[] comparisons;
+
+        public UnorderedKey(int id, int[] comparisons) {
+            super(id, 0);
+            this.comparisons = comparisons;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            this.comparisons[0]++;
+            return 0;
+        }
+    }
 }
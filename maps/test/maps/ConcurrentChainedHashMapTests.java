@@ -0,0 +1,126 @@
+package maps;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrentChainedHashMapTests extends BaseMapTests {
+    private static final int THREADS = 4;
+
+    @Override
+    protected <K, V> Map<K, V> createMap() {
+        return new ConcurrentChainedHashMap<>();
+    }
+
+    protected <K, V> Map<K, V> createMap(double resizingLoadFactorThreshold, int initialChainCount) {
+        return new ConcurrentChainedHashMap<>(resizingLoadFactorThreshold, initialChainCount);
+    }
+
+    protected <K, V> int chainCount(Map<K, V> map) {
+        return ((ConcurrentChainedHashMap<K, V>) map).chains.length();
+    }
+
+    @Test
+    void constructor_roundsChainCountUpToPowerOfTwo() {
+        Map<String, Integer> map = createMap(1, 100);
+        assertThat(chainCount(map)).isEqualTo(128);
+    }
+
+    @Test
+    void constructor_withNonPositiveArguments_throwsIllegalArgument() {
+        assertThatThrownBy(() -> createMap(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> createMap(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void put_pastLoadFactor_finishesResizeOverLaterWrites() {
+        Map<Integer, Integer> map = createMap(1, 256);
+        for (int i = 0; i < 256; i++) {
+            map.put(i, i);
+        }
+        // Each write moves only one stride of chains, so the resize is still in progress.
+        assertThat(chainCount(map)).isEqualTo(256);
+        for (int i = 0; i < 256; i++) {
+            assertThat(map.get(i)).isEqualTo(i);
+        }
+
+        for (int i = 256; i < 256 + 256 / ConcurrentChainedHashMap.TRANSFER_STRIDE; i++) {
+            map.put(i, i);
+        }
+        assertThat(chainCount(map)).isEqualTo(512);
+        assertThat(map).hasSize(256 + 256 / ConcurrentChainedHashMap.TRANSFER_STRIDE);
+    }
+
+    @Test
+    void iterator_duringResize_yieldsEachEntryOnce() {
+        Map<Integer, Integer> map = createMap(1, 256);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 260; i++) {
+            map.put(i, -i);
+            expected.put(i, -i);
+        }
+
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>();
+        for (Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator(); it.hasNext(); ) {
+            entries.add(it.next());
+        }
+        assertThat(entries).containsExactlyInAnyOrderElementsOf(expected.entrySet());
+    }
+
+    @Test
+    void clear_duringResize_removesEverything() {
+        Map<Integer, Integer> map = createMap(1, 64);
+        for (int i = 0; i < 65; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+        assertThat(map).hasSize(0);
+        assertThat(map.entrySet().iterator()).isExhausted();
+        for (int i = 0; i < 65; i++) {
+            assertThat(map.containsKey(i)).isFalse();
+        }
+    }
+
+    @Test
+    void putAndRemove_fromManyThreads_keepsEveryEntry() throws Exception {
+        Map<Integer, Integer> map = createMap(1, 1);
+        final int perThread = 20000;
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * perThread;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        map.put(offset + i, i);
+                    }
+                    // Remove every other key again, while the other threads are still resizing.
+                    for (int i = 0; i < perThread; i += 2) {
+                        map.remove(offset + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(map).hasSize(THREADS * perThread / 2);
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < perThread; i++) {
+                Integer expected = i % 2 == 0 ? null : i;
+                assertThat(map.get(t * perThread + i)).isEqualTo(expected);
+            }
+        }
+    }
+}
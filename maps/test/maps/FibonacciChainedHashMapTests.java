@@ -0,0 +1,24 @@
+package maps;
+
+import maps.ChainedHashMap.HashSpreader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class FibonacciChainedHashMapTests extends ChainedHashMapTests {
+    @Override
+    protected <K, V> Map<K, V> createMap() {
+        return createMap(1, 16, 10);
+    }
+
+    @Override
+    protected HashSpreader hashSpreader() {
+        return HashSpreader.FIBONACCI;
+    }
+
+    @Test
+    void constructor_roundsChainCountUpToPowerOfTwo() {
+        Map<String, Integer> map = createMap(1, 10, 4);
+        assertThat(extractChains(map)).hasSize(16);
+    }
+}
@@ -0,0 +1,111 @@
+package maps;
+
+import maps.ChainedHashMap.ResizeMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class IncrementalChainedHashMapTests extends ChainedHashMapTests {
+    @Override
+    protected <K, V> Map<K, V> createMap() {
+        return new ChainedHashMap<>(1, 10, 10, ResizeMode.INCREMENTAL);
+    }
+
+    @Override
+    protected ResizeMode resizeMode() {
+        return ResizeMode.INCREMENTAL;
+    }
+
+    protected <K, V> boolean isResizing(Map<K, V> map) {
+        return ((ChainedHashMap<K, V>) map).isResizing();
+    }
+
+    @Test
+    void put_pastLoadFactor_finishesResizeOverLaterWrites() {
+        Map<Integer, Integer> map = createMap(1, 64, 4);
+        for (int i = 0; i <= 64; i++) {
+            map.put(i, i);
+        }
+        // The put that crossed the threshold moved only a few chains.
+        assertThat(extractChains(map)).hasSize(128);
+        assertThat(isResizing(map)).isTrue();
+        for (int i = 0; i <= 64; i++) {
+            assertThat(map.get(i)).isEqualTo(i);
+            assertThat(map.containsKey(i)).isTrue();
+        }
+
+        for (int i = 65; i < 128; i++) {
+            map.put(i, i);
+        }
+        assertThat(isResizing(map)).isFalse();
+        assertThat(extractChains(map)).hasSize(128);
+        assertThat(map).hasSize(128);
+    }
+
+    @Test
+    void remove_duringResize_removesFromEitherArray() {
+        Map<Integer, Integer> map = createMap(1, 64, 4);
+        for (int i = 0; i <= 64; i++) {
+            map.put(i, i);
+        }
+        assertThat(isResizing(map)).isTrue();
+
+        for (int i = 0; i <= 64; i += 2) {
+            assertThat(map.remove(i)).isEqualTo(i);
+        }
+        assertThat(map.remove(0)).isNull();
+        for (int i = 0; i <= 64; i++) {
+            assertThat(map.get(i)).isEqualTo(i % 2 == 0 ? null : i);
+        }
+        assertThat(map).hasSize(32);
+    }
+
+    @Test
+    void iterator_duringResize_yieldsEachEntryOnce() {
+        Map<Integer, Integer> map = createMap(1, 64, 4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 70; i++) {
+            map.put(i, -i);
+            expected.put(i, -i);
+        }
+        assertThat(isResizing(map)).isTrue();
+
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>();
+        for (Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator(); it.hasNext(); ) {
+            entries.add(it.next());
+        }
+        assertThat(entries).containsExactlyInAnyOrderElementsOf(expected.entrySet());
+    }
+
+    @Test
+    void diagnostics_duringResize_countsEveryEntry() {
+        Map<Integer, Integer> map = createMap(1, 64, 4);
+        for (int i = 0; i <= 64; i++) {
+            map.put(i, i);
+        }
+        assertThat(isResizing(map)).isTrue();
+
+        HashDiagnostics diagnostics = diagnostics(map);
+        assertThat(diagnostics.size()).isEqualTo(65);
+        assertThat(diagnostics.hashCodeCollisionRate()).isEqualTo(0);
+    }
+
+    @Test
+    void clear_duringResize_removesEverything() {
+        Map<Integer, Integer> map = createMap(1, 64, 4);
+        for (int i = 0; i <= 64; i++) {
+            map.put(i, i);
+        }
+        map.clear();
+        assertThat(isResizing(map)).isFalse();
+        assertThat(map).hasSize(0);
+        assertThat(map.entrySet().iterator()).isExhausted();
+        for (int i = 0; i <= 64; i++) {
+            assertThat(map.containsKey(i)).isFalse();
+        }
+    }
+}
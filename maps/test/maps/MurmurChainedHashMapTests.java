@@ -0,0 +1,17 @@
+package maps;
+
+import maps.ChainedHashMap.HashSpreader;
+
+import java.util.Map;
+
+public class MurmurChainedHashMapTests extends ChainedHashMapTests {
+    @Override
+    protected <K, V> Map<K, V> createMap() {
+        return createMap(1, 16, 10);
+    }
+
+    @Override
+    protected HashSpreader hashSpreader() {
+        return HashSpreader.MURMUR;
+    }
+}
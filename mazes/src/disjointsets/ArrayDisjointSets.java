@@ -0,0 +1,59 @@
+package disjointsets;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link DisjointSets} that maps each item to an int id once, in {@link #makeSet}, and then
+ * delegates to an {@link IntDisjointSets}.
+ *
+ * @see DisjointSets for more documentation.
+ */
+public class ArrayDisjointSets<T> implements DisjointSets<T> {
+    private final Map<T, Integer> ids;
+    private final IntDisjointSets sets;
+
+    public ArrayDisjointSets() {
+        this.ids = new HashMap<>();
+        this.sets = new IntDisjointSets();
+    }
+
+    /**
+     * @param expectedSize the expected number of items
+     */
+    public ArrayDisjointSets(int expectedSize) {
+        this.ids = new HashMap<>((int) (expectedSize / 0.75f) + 1);
+        this.sets = new IntDisjointSets(expectedSize);
+    }
+
+    @Override
+    public void makeSet(T item) {
+        if (this.ids.containsKey(item)) {
+            throw new IllegalArgumentException(item + " is already in a set.");
+        }
+        this.ids.put(item, this.sets.makeSet());
+    }
+
+    @Override
+    public int findSet(T item) {
+        return this.sets.find(idOf(item));
+    }
+
+    @Override
+    public boolean union(T item1, T item2) {
+        return this.sets.union(idOf(item1), idOf(item2));
+    }
+
+    /** Returns the number of disjoint sets. */
+    public int numSets() {
+        return this.sets.numSets();
+    }
+
+    private int idOf(T item) {
+        Integer id = this.ids.get(item);
+        if (id == null) {
+            throw new IllegalArgumentException(item + " is not in any set.");
+        }
+        return id;
+    }
+}
@@ -0,0 +1,107 @@
+package disjointsets;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A lock-free union-find structure over a fixed range of int ids {@code 0 .. size - 1}, safe to
+ * use from many threads at once.
+ *
+ * Every element starts in its own set. Roots are linked by id, always pointing the root with the
+ * smaller id at the one with the larger id, so parent pointers only ever increase and no cycle
+ * can form even when unions race. Finds use path halving, applied with compare-and-set so that a
+ * lost race merely leaves a slightly longer path behind.
+ *
+ * Unlike {@link IntDisjointSets}, the number of elements is fixed up front and there is no
+ * {@code makeSet}.
+ */
+public class ConcurrentIntDisjointSets {
+    private final AtomicIntegerArray parent;
+
+    /**
+     * @param size the number of elements
+     * @throws IllegalArgumentException if size is negative
+     */
+    public ConcurrentIntDisjointSets(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be non-negative");
+        }
+        this.parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            this.parent.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the id of the root of the set containing the given element. Under concurrent
+     * unions, the result is the root at some point during the call.
+     *
+     * @throws IllegalArgumentException if the element does not exist
+     */
+    public int find(int element) {
+        checkElement(element);
+        AtomicIntegerArray p = this.parent;
+        int curr = element;
+        int next;
+        while ((next = p.get(curr)) != curr) {
+            int grandparent = p.get(next);
+            if (grandparent != next) {
+                // Path halving; if another thread got here first, its pointer is at least as good.
+                p.compareAndSet(curr, next, grandparent);
+            }
+            curr = grandparent;
+        }
+        return curr;
+    }
+
+    /**
+     * If the given elements are in different sets, merges those sets and returns true. Otherwise,
+     * does nothing and returns false. When several threads merge the same two sets at once,
+     * exactly one of them returns true.
+     *
+     * @throws IllegalArgumentException if either element does not exist
+     */
+    public boolean union(int element1, int element2) {
+        while (true) {
+            int root1 = find(element1);
+            int root2 = find(element2);
+            if (root1 == root2) {
+                return false;
+            }
+            if (root1 > root2) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            // Fails only if root1 stopped being a root since it was found; then look again.
+            if (this.parent.compareAndSet(root1, root1, root2)) {
+                return true;
+            }
+        }
+    }
+
+    /** Returns true if the given elements are in the same set. */
+    public boolean connected(int element1, int element2) {
+        while (true) {
+            int root1 = find(element1);
+            int root2 = find(element2);
+            if (root1 == root2) {
+                return true;
+            }
+            // root1 may have been linked under root2 after it was found; only trust a root that still is one.
+            if (this.parent.get(root1) == root1) {
+                return false;
+            }
+        }
+    }
+
+    /** Returns the total number of elements. */
+    public int size() {
+        return this.parent.length();
+    }
+
+    private void checkElement(int element) {
+        if (element < 0 || element >= this.parent.length()) {
+            throw new IllegalArgumentException(element + " is not in any set.");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package disjointsets;
+
+import java.util.Arrays;
+
+/**
+ * A union-find structure over dense int ids {@code 0, 1, 2, ...}, using union by size and path
+ * halving.
+ *
+ * Everything is stored in a single {@code int[]}: a non-negative entry is the id of the parent,
+ * and a negative entry marks a root and holds the negated size of its set (the same encoding as
+ * {@link UnionBySizeCompressingDisjointSets}). No operation allocates, apart from
+ * {@link #makeSet()} occasionally growing the array.
+ */
+public class IntDisjointSets {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private int[] parent;
+    private int size;
+    private int numSets;
+
+    public IntDisjointSets() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the expected number of elements
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntDisjointSets(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must be non-negative");
+        }
+        this.parent = new int[Math.max(initialCapacity, 1)];
+        this.size = 0;
+        this.numSets = 0;
+    }
+
+    /**
+     * Creates a new singleton set and returns the id of its only element. Ids are assigned
+     * numerically, starting at 0.
+     */
+    public int makeSet() {
+        if (this.size == this.parent.length) {
+            this.parent = Arrays.copyOf(this.parent, this.parent.length * 2);
+        }
+        this.parent[this.size] = -1;
+        this.numSets++;
+        return this.size++;
+    }
+
+    /**
+     * Returns the id of the root of the set containing the given element.
+     *
+     * @throws IllegalArgumentException if the element does not exist
+     */
+    public int find(int element) {
+        checkElement(element);
+        int[] p = this.parent;
+        int curr = element;
+        while (p[curr] >= 0) {
+            int next = p[curr];
+            if (p[next] >= 0) {
+                // Path halving: point curr at its grandparent, then skip to it.
+                p[curr] = p[next];
+                next = p[next];
+            }
+            curr = next;
+        }
+        return curr;
+    }
+
+    /**
+     * If the given elements are in different sets, merges those sets and returns true. Otherwise,
+     * does nothing and returns false.
+     *
+     * @throws IllegalArgumentException if either element does not exist
+     */
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+        // Sizes are stored negated, so the larger set has the smaller entry.
+        if (this.parent[root1] > this.parent[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        }
+        this.parent[root1] += this.parent[root2];
+        this.parent[root2] = root1;
+        this.numSets--;
+        return true;
+    }
+
+    /** Returns true if the given elements are in the same set. */
+    public boolean connected(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /** Returns the number of elements in the set containing the given element. */
+    public int setSize(int element) {
+        return -this.parent[find(element)];
+    }
+
+    /** Returns the total number of elements. */
+    public int size() {
+        return this.size;
+    }
+
+    /** Returns the number of disjoint sets. */
+    public int numSets() {
+        return this.numSets;
+    }
+
+    private void checkElement(int element) {
+        if (element < 0 || element >= this.size) {
+            throw new IllegalArgumentException(element + " is not in any set.");
+        }
+    }
+}
@@ -12,12 +12,16 @@ import java.util.Set;
 /**
  * An undirected graph stored as an adjacency list.
  *
+ * The {@link IndexedGraph} view (dense vertex and edge ids) is built lazily the first time one of
+ * its methods is called, and is then cached for the lifetime of the graph.
+ *
  * @param <V> The vertex type
  * @param <E> The edge type. Must be a subtype of {@link Edge}.
  */
-public class AdjacencyListUndirectedGraph<V, E extends BaseEdge<V, E>> implements KruskalGraph<V, E> {
+public class AdjacencyListUndirectedGraph<V, E extends BaseEdge<V, E>> implements KruskalGraph<V, E>, IndexedGraph<V, E> {
     private final List<E> allEdges;
     protected final Map<V, Set<E>> adjacencyList;
+    private volatile Index<V, E> index;
 
     /**
      * Constructs a new graph with the given edges.
@@ -57,4 +61,101 @@ public class AdjacencyListUndirectedGraph<V, E extends BaseEdge<V, E>> implement
     public List<E> allEdges() {
         return Collections.unmodifiableList(this.allEdges);
     }
+
+    @Override
+    public int numVertices() {
+        return this.adjacencyList.size();
+    }
+
+    @Override
+    public int indexOf(V vertex) {
+        Integer id = index().ids.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V vertexAt(int index) {
+        return (V) index().vertices[index];
+    }
+
+    @Override
+    public int outgoingEdgesStart(int index) {
+        return index().offsets[index];
+    }
+
+    @Override
+    public int outgoingEdgesEnd(int index) {
+        return index().offsets[index + 1];
+    }
+
+    @Override
+    public int edgeTarget(int edge) {
+        return index().targets[edge];
+    }
+
+    @Override
+    public double edgeWeight(int edge) {
+        return index().weights[edge];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E edgeAt(int edge) {
+        return (E) index().edges[edge];
+    }
+
+    private Index<V, E> index() {
+        Index<V, E> result = this.index;
+        if (result == null) {
+            synchronized (this) {
+                result = this.index;
+                if (result == null) {
+                    result = new Index<>(this.adjacencyList);
+                    this.index = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An immutable snapshot of the adjacency list, laid out as flat arrays.
+     */
+    private static class Index<V, E extends BaseEdge<V, E>> {
+        final Map<V, Integer> ids;
+        final Object[] vertices;
+        final int[] offsets;
+        final int[] targets;
+        final double[] weights;
+        final Object[] edges;
+
+        Index(Map<V, Set<E>> adjacencyList) {
+            int numVertices = adjacencyList.size();
+            this.ids = new HashMap<>();
+            this.vertices = new Object[numVertices];
+            this.offsets = new int[numVertices + 1];
+            int numEdges = 0;
+            for (Map.Entry<V, Set<E>> entry : adjacencyList.entrySet()) {
+                int id = this.ids.size();
+                this.ids.put(entry.getKey(), id);
+                this.vertices[id] = entry.getKey();
+                numEdges += entry.getValue().size();
+                this.offsets[id + 1] = numEdges;
+            }
+
+            this.targets = new int[numEdges];
+            this.weights = new double[numEdges];
+            this.edges = new Object[numEdges];
+            int i = 0;
+            for (Set<E> outgoing : adjacencyList.values()) {
+                for (E e : outgoing) {
+                    this.targets[i] = this.ids.get(e.to());
+                    this.weights[i] = e.weight();
+                    this.edges[i] = e;
+                    i++;
+                }
+            }
+        }
+    }
 }
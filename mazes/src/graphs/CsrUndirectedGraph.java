@@ -0,0 +1,330 @@
+package graphs;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable undirected graph stored in compressed sparse row (CSR) form.
+ *
+ * The outgoing edges of all vertices are laid out back to back in flat arrays: the outgoing edges
+ * of the vertex with id {@code v} occupy {@code [offsets[v], offsets[v + 1])} of {@code targets}
+ * and {@code weights}, ordered by target. Only the edges given to the constructor are kept as
+ * objects; the reversed direction of an edge is created on demand, when it is read through
+ * {@link #outgoingEdgesFrom} or {@link #edgeAt}.
+ *
+ * No boxed ids are kept either: a vertex's id is found by a binary search over the sorted hash
+ * codes of the vertices, and construction sorts primitive arrays instead of filling hash sets.
+ *
+ * Behaves like {@link AdjacencyListUndirectedGraph}, except that {@link #outgoingEdgesFrom}
+ * returns a list view rather than a set.
+ *
+ * @param <V> The vertex type
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public class CsrUndirectedGraph<V, E extends BaseEdge<V, E>> implements KruskalGraph<V, E>, IndexedGraph<V, E> {
+    private final Object[] vertices;
+    // For each vertex, its hash code times 2^32 plus its id, in increasing order.
+    private final long[] vertexHashes;
+    private final Object[] allEdges;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    // For each directed entry, (index into allEdges) * 2, plus 1 if the entry is the reversed edge.
+    private final int[] edgeRefs;
+
+    /**
+     * Constructs a new graph with the given edges.
+     *
+     * Ignores duplicate edges (edges that are exactly equal according to the {@code equals} method,
+     * or edges that would be equal if their directions were flipped).
+     *
+     * @param edges The edges in the graph.
+     * @throws NullPointerException if edges is null, contains null entries, or contains edges with null vertices
+     */
+    public CsrUndirectedGraph(Collection<E> edges) {
+        Object[] input = edges.toArray();
+        int m = input.length;
+        for (Object o : input) {
+            E e = edge(o);
+            if (e.from() == null || e.to() == null) {
+                throw new NullPointerException(
+                    "Graph edge contains a null vertex, but null vertices are not supported.");
+            }
+        }
+
+        // Vertex ids, in order of first appearance. Endpoint 2i is the source of edge i, and
+        // endpoint 2i + 1 its target; equal endpoints are found among those with equal hash codes.
+        long[] byHash = new long[2 * m];
+        for (int j = 0; j < byHash.length; j++) {
+            byHash[j] = ((long) endpoint(input, j).hashCode() << 32) | j;
+        }
+        Arrays.sort(byHash);
+        // For each endpoint, the first endpoint with an equal vertex; then, its vertex id.
+        int[] endpointIds = new int[2 * m];
+        int[] distinct = new int[2 * m];
+        for (int run = 0; run < byHash.length; ) {
+            int runEnd = run + 1;
+            while (runEnd < byHash.length && (byHash[runEnd] >> 32) == (byHash[run] >> 32)) {
+                runEnd++;
+            }
+            // Within a run, endpoints are in increasing order, so the first of each vertex comes first.
+            int numDistinct = 0;
+            for (int a = run; a < runEnd; a++) {
+                int j = (int) byHash[a];
+                endpointIds[j] = j;
+                for (int b = 0; b < numDistinct; b++) {
+                    if (endpoint(input, distinct[b]).equals(endpoint(input, j))) {
+                        endpointIds[j] = distinct[b];
+                        break;
+                    }
+                }
+                if (endpointIds[j] == j) {
+                    distinct[numDistinct++] = j;
+                }
+            }
+            run = runEnd;
+        }
+        int numVertices = 0;
+        for (int j = 0; j < endpointIds.length; j++) {
+            // The first endpoint of a vertex comes before the others, so it already holds the id.
+            endpointIds[j] = endpointIds[j] == j ? numVertices++ : endpointIds[endpointIds[j]];
+        }
+        this.vertices = new Object[numVertices];
+        this.vertexHashes = new long[numVertices];
+        for (int j = 0; j < endpointIds.length; j++) {
+            int id = endpointIds[j];
+            if (this.vertices[id] == null) {
+                this.vertices[id] = endpoint(input, j);
+                this.vertexHashes[id] = ((long) this.vertices[id].hashCode() << 32) | id;
+            }
+        }
+        Arrays.sort(this.vertexHashes);
+
+        // Every edge in the rows of its endpoints, each row sorted by target and then by edge.
+        int[] rowOffsets = new int[numVertices + 1];
+        for (int i = 0; i < m; i++) {
+            rowOffsets[endpointIds[2 * i] + 1]++;
+            if (endpointIds[2 * i] != endpointIds[2 * i + 1]) {
+                rowOffsets[endpointIds[2 * i + 1] + 1]++;
+            }
+        }
+        for (int v = 0; v < numVertices; v++) {
+            rowOffsets[v + 1] += rowOffsets[v];
+        }
+        long[] rows = new long[rowOffsets[numVertices]];
+        int[] cursors = Arrays.copyOf(rowOffsets, numVertices);
+        for (int i = 0; i < m; i++) {
+            int from = endpointIds[2 * i];
+            int to = endpointIds[2 * i + 1];
+            rows[cursors[from]++] = ((long) to << 32) | (i * 2);
+            if (from != to) {
+                rows[cursors[to]++] = ((long) from << 32) | (i * 2 + 1);
+            }
+        }
+        for (int v = 0; v < numVertices; v++) {
+            Arrays.sort(rows, rowOffsets[v], rowOffsets[v + 1]);
+        }
+
+        // Duplicates share a row and a target, and come after the first of them.
+        boolean[] duplicate = new boolean[m];
+        int[] kept = distinct;
+        for (int group = 0; group < rows.length; ) {
+            int groupEnd = group + 1;
+            while (groupEnd < rows.length && (rows[groupEnd] >>> 32) == (rows[group] >>> 32)) {
+                groupEnd++;
+            }
+            int numKept = 0;
+            for (int a = group; a < groupEnd; a++) {
+                int ref = (int) rows[a];
+                if (duplicate[ref >>> 1]) {
+                    continue;
+                }
+                for (int b = 0; b < numKept; b++) {
+                    if (sameEdge(input, kept[b], ref)) {
+                        duplicate[ref >>> 1] = true;
+                        break;
+                    }
+                }
+                if (!duplicate[ref >>> 1]) {
+                    kept[numKept++] = ref;
+                }
+            }
+            group = groupEnd;
+        }
+
+        int[] newIndex = new int[m];
+        int numEdges = 0;
+        for (int i = 0; i < m; i++) {
+            newIndex[i] = duplicate[i] ? -1 : numEdges++;
+        }
+        this.allEdges = new Object[numEdges];
+        for (int i = 0; i < m; i++) {
+            if (!duplicate[i]) {
+                this.allEdges[newIndex[i]] = input[i];
+            }
+        }
+        int numEntries = 0;
+        for (long entry : rows) {
+            if (!duplicate[(int) entry >>> 1]) {
+                numEntries++;
+            }
+        }
+        this.offsets = new int[numVertices + 1];
+        this.targets = new int[numEntries];
+        this.weights = new double[numEntries];
+        this.edgeRefs = new int[numEntries];
+        int next = 0;
+        for (int v = 0; v < numVertices; v++) {
+            for (int r = rowOffsets[v]; r < rowOffsets[v + 1]; r++) {
+                int ref = (int) rows[r];
+                if (!duplicate[ref >>> 1]) {
+                    put(next++, (int) (rows[r] >>> 32), edge(input[ref >>> 1]).weight(),
+                        newIndex[ref >>> 1] * 2 + (ref & 1));
+                }
+            }
+            this.offsets[v + 1] = next;
+        }
+    }
+
+    /** Returns the source of edge j / 2 of the given edges if j is even, or its target if odd. */
+    private V endpoint(Object[] edges, int j) {
+        E e = edge(edges[j >>> 1]);
+        return (j & 1) == 0 ? e.from() : e.to();
+    }
+
+    /**
+     * Returns whether the given row entries, of edges in the given array, are the same edge when
+     * seen from the vertex of their row.
+     */
+    private boolean sameEdge(Object[] edges, int ref1, int ref2) {
+        E e1 = edge(edges[ref1 >>> 1]);
+        E e2 = edge(edges[ref2 >>> 1]);
+        return (ref1 & 1) == (ref2 & 1) ? e1.equals(e2) : e1.equals(e2.reversed());
+    }
+
+    private void put(int entry, int target, double weight, int edgeRef) {
+        this.targets[entry] = target;
+        this.weights[entry] = weight;
+        this.edgeRefs[entry] = edgeRef;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E edge(Object o) {
+        return (E) o;
+    }
+
+    @Override
+    public List<E> outgoingEdgesFrom(V vertex) {
+        int id = indexOf(vertex);
+        if (id < 0) {
+            return List.of();
+        }
+        int start = this.offsets[id];
+        int size = this.offsets[id + 1] - start;
+        return new AbstractList<>() {
+            @Override
+            public E get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return edgeAt(start + index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public List<V> allVertices() {
+        return listView(this.vertices);
+    }
+
+    @Override
+    public List<E> allEdges() {
+        return listView(this.allEdges);
+    }
+
+    private static <T> List<T> listView(Object[] array) {
+        return new AbstractList<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public T get(int index) {
+                return (T) array[index];
+            }
+
+            @Override
+            public int size() {
+                return array.length;
+            }
+        };
+    }
+
+    @Override
+    public int numVertices() {
+        return this.vertices.length;
+    }
+
+    @Override
+    public int indexOf(V vertex) {
+        if (vertex == null) {
+            return -1;
+        }
+        long hash = vertex.hashCode();
+        // The first position whose hash code is at least the vertex's.
+        int lo = 0;
+        int hi = this.vertexHashes.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.vertexHashes[mid] >> 32 < hash) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        for (int i = lo; i < this.vertexHashes.length && this.vertexHashes[i] >> 32 == hash; i++) {
+            int id = (int) this.vertexHashes[i];
+            if (this.vertices[id].equals(vertex)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V vertexAt(int index) {
+        return (V) this.vertices[index];
+    }
+
+    @Override
+    public int outgoingEdgesStart(int index) {
+        return this.offsets[index];
+    }
+
+    @Override
+    public int outgoingEdgesEnd(int index) {
+        return this.offsets[index + 1];
+    }
+
+    @Override
+    public int edgeTarget(int edge) {
+        return this.targets[edge];
+    }
+
+    @Override
+    public double edgeWeight(int edge) {
+        return this.weights[edge];
+    }
+
+    @Override
+    public E edgeAt(int edge) {
+        int ref = this.edgeRefs[edge];
+        E e = edge(this.allEdges[ref >>> 1]);
+        return (ref & 1) == 0 ? e : e.reversed();
+    }
+}
@@ -0,0 +1,40 @@
+package graphs;
+
+/**
+ * A graph that assigns each of its vertices a dense int id in {@code [0, numVertices())}, and each
+ * of its (directed) outgoing edges a dense int id, so that algorithms can keep per-vertex state in
+ * primitive arrays instead of hash maps.
+ *
+ * The outgoing edges of vertex {@code v} are exactly the edge ids in
+ * {@code [outgoingEdgesStart(v), outgoingEdgesEnd(v))}.
+ *
+ * Ids are only meaningful for the graph instance that produced them.
+ *
+ * @param <V> The vertex type.
+ * @param <E> The edge type. Must be a subtype of {@link Edge}.
+ */
+public interface IndexedGraph<V, E extends BaseEdge<V, E>> extends Graph<V, E> {
+    /** Returns the number of vertices in the graph. */
+    int numVertices();
+
+    /** Returns the id of the given vertex, or -1 if the vertex is not in the graph. */
+    int indexOf(V vertex);
+
+    /** Returns the vertex with the given id. */
+    V vertexAt(int index);
+
+    /** Returns the id of the first outgoing edge of the given vertex. */
+    int outgoingEdgesStart(int index);
+
+    /** Returns one past the id of the last outgoing edge of the given vertex. */
+    int outgoingEdgesEnd(int index);
+
+    /** Returns the id of the vertex that the given edge points to. */
+    int edgeTarget(int edge);
+
+    /** Returns the weight of the given edge. */
+    double edgeWeight(int edge);
+
+    /** Returns the edge object with the given id. */
+    E edgeAt(int edge);
+}
@@ -0,0 +1,223 @@
+package graphs.minspantrees;
+
+import disjointsets.ConcurrentIntDisjointSets;
+import graphs.BaseEdge;
+import graphs.KruskalGraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Computes minimum spanning trees using Boruvka's algorithm, parallelized with fork-join.
+ *
+ * Each round has two parallel phases. First, every edge whose endpoints are still in different
+ * components is offered to both components, which keep only their cheapest one. Then every
+ * component's cheapest edge is added to the tree and its endpoints are merged in a
+ * {@link ConcurrentIntDisjointSets}. Each round at least halves the number of components, so
+ * there are at most {@code log2(V)} rounds; the search stops early once one component remains,
+ * or reports that no MST exists once a round merges nothing.
+ *
+ * Edges with equal weights are ordered by their position in {@link KruskalGraph#allEdges()}, which
+ * is what keeps components from choosing edges that form a cycle. Edges found to lie inside a
+ * single component are dropped, so later rounds scan fewer edges.
+ *
+ * @see MinimumSpanningTreeFinder for more documentation.
+ */
+public class BoruvkaMinimumSpanningTreeFinder<G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
+    implements MinimumSpanningTreeFinder<G, V, E> {
+    /** The number of edges (or vertices) that one fork-join task handles without splitting further. */
+    static final int DEFAULT_GRAIN = 4096;
+
+    private final ForkJoinPool pool;
+    private final int grain;
+
+    /** Creates a finder that runs on the common fork-join pool. */
+    public BoruvkaMinimumSpanningTreeFinder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaMinimumSpanningTreeFinder(ForkJoinPool pool) {
+        this(pool, DEFAULT_GRAIN);
+    }
+
+    BoruvkaMinimumSpanningTreeFinder(ForkJoinPool pool, int grain) {
+        if (grain <= 0) {
+            throw new IllegalArgumentException("Grain must be positive");
+        }
+        this.pool = pool;
+        this.grain = grain;
+    }
+
+    @Override
+    public MinimumSpanningTree<V, E> findMinimumSpanningTree(G graph) {
+        Collection<V> vertices = graph.allVertices();
+        if (vertices.size() <= 1) {
+            return new MinimumSpanningTree.Success<>(new HashSet<E>());
+        }
+        Map<V, Integer> ids = new HashMap<>();
+        for (V vertex : vertices) {
+            ids.put(vertex, ids.size());
+        }
+        List<E> edges = new ArrayList<>(graph.allEdges());
+
+        Run run = new Run(ids, edges);
+        int components = vertices.size();
+        while (components > 1) {
+            int numChunks = (edges.size() + this.grain - 1) / this.grain;
+            this.pool.invoke(new RangeTask(0, numChunks, 1, run::findCheapest));
+            int merged = this.pool.invoke(new RangeTask(0, vertices.size(), this.grain, run::contract));
+            if (merged == 0) {
+                return new MinimumSpanningTree.Failure<>();
+            }
+            components -= merged;
+        }
+
+        Set<E> result = new HashSet<>();
+        for (int e = 0; e < edges.size(); e++) {
+            if (run.accepted[e]) {
+                result.add(edges.get(e));
+            }
+        }
+        return new MinimumSpanningTree.Success<>(result);
+    }
+
+    /**
+     * The state of one MST computation.
+     */
+    private class Run {
+        final int[] from;
+        final int[] to;
+        final double[] weights;
+        final ConcurrentIntDisjointSets sets;
+        // For each component root, the id of the cheapest edge leaving it this round, or -1.
+        final AtomicIntegerArray cheapest;
+        // The ids of the edges not yet known to lie inside one component, stored in chunks of
+        // `grain`; chunk c holds chunkLive[c] ids starting at c * grain.
+        final int[] live;
+        final int[] chunkLive;
+        final boolean[] accepted;
+
+        Run(Map<V, Integer> ids, List<E> edges) {
+            int m = edges.size();
+            this.from = new int[m];
+            this.to = new int[m];
+            this.weights = new double[m];
+            this.live = new int[m];
+            for (int e = 0; e < m; e++) {
+                E edge = edges.get(e);
+                this.from[e] = ids.get(edge.from());
+                this.to[e] = ids.get(edge.to());
+                this.weights[e] = edge.weight();
+                this.live[e] = e;
+            }
+            this.chunkLive = new int[(m + grain - 1) / grain];
+            for (int c = 0; c < this.chunkLive.length; c++) {
+                this.chunkLive[c] = Math.min(grain, m - c * grain);
+            }
+            this.sets = new ConcurrentIntDisjointSets(ids.size());
+            this.cheapest = new AtomicIntegerArray(ids.size());
+            for (int v = 0; v < ids.size(); v++) {
+                this.cheapest.set(v, -1);
+            }
+            this.accepted = new boolean[m];
+        }
+
+        /** Offers the live edges of chunks lo to hi to their components, dropping internal ones. */
+        int findCheapest(int lo, int hi) {
+            for (int c = lo; c < hi; c++) {
+                int start = c * grain;
+                int end = start + this.chunkLive[c];
+                int kept = start;
+                for (int i = start; i < end; i++) {
+                    int e = this.live[i];
+                    int root1 = this.sets.find(this.from[e]);
+                    int root2 = this.sets.find(this.to[e]);
+                    if (root1 != root2) {
+                        this.live[kept++] = e;
+                        offer(root1, e);
+                        offer(root2, e);
+                    }
+                }
+                this.chunkLive[c] = kept - start;
+            }
+            return 0;
+        }
+
+        private void offer(int root, int edge) {
+            while (true) {
+                int current = this.cheapest.get(root);
+                if (current >= 0 && !lighter(edge, current)) {
+                    return;
+                }
+                if (this.cheapest.compareAndSet(root, current, edge)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean lighter(int edge1, int edge2) {
+            double w1 = this.weights[edge1];
+            double w2 = this.weights[edge2];
+            return w1 < w2 || (w1 == w2 && edge1 < edge2);
+        }
+
+        /** Adds the cheapest edges of vertices lo to hi to the tree and returns how many merged. */
+        int contract(int lo, int hi) {
+            int merged = 0;
+            for (int v = lo; v < hi; v++) {
+                int e = this.cheapest.get(v);
+                if (e < 0) {
+                    continue;
+                }
+                this.cheapest.set(v, -1);
+                // Two components may pick the same edge; only the first union succeeds.
+                if (this.sets.union(this.from[e], this.to[e])) {
+                    this.accepted[e] = true;
+                    merged++;
+                }
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Applies an operation to a range of ints, splitting it in half until each piece is at most
+     * {@code grain} long, and sums the results.
+     */
+    private static class RangeTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int lo;
+        private final int hi;
+        private final int grain;
+        private final IntBinaryOperator operation;
+
+        RangeTask(int lo, int hi, int grain, IntBinaryOperator operation) {
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+            this.operation = operation;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (this.hi - this.lo <= this.grain) {
+                return this.operation.applyAsInt(this.lo, this.hi);
+            }
+            int mid = (this.lo + this.hi) >>> 1;
+            RangeTask left = new RangeTask(this.lo, mid, this.grain, this.operation);
+            left.fork();
+            int right = new RangeTask(mid, this.hi, this.grain, this.operation).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package graphs.minspantrees;
 
+import disjointsets.ArrayDisjointSets;
 import disjointsets.DisjointSets;
-import disjointsets.QuickFindDisjointSets;
 import graphs.BaseEdge;
 import graphs.KruskalGraph;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -13,46 +14,157 @@ import java.util.Set;
 
 /**
  * Computes minimum spanning trees using Kruskal's algorithm.
+ *
+ * Edges are considered in order of increasing weight, either by sorting all of them up front
+ * ({@link EdgeOrder#FULL_SORT}) or by heapifying them in linear time and popping them one at a
+ * time ({@link EdgeOrder#LAZY_HEAP}). Either way, the search stops as soon as the tree spans all
+ * vertices, and connectivity is decided by counting the remaining components rather than by a
+ * separate pass over the vertices. The lazy order pays off when the tree is complete long before
+ * the heaviest edges are reached, as in maze carving.
+ *
  * @see MinimumSpanningTreeFinder for more documentation.
  */
 public class KruskalMinimumSpanningTreeFinder<G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
     implements MinimumSpanningTreeFinder<G, V, E> {
 
+    /** How edges are put in order of increasing weight. */
+    public enum EdgeOrder {
+        /** Sort all edges before scanning them. */
+        FULL_SORT,
+        /** Heapify the edges, then pop only as many as are needed. */
+        LAZY_HEAP
+    }
+
+    private final EdgeOrder edgeOrder;
+
+    public KruskalMinimumSpanningTreeFinder() {
+        this(EdgeOrder.FULL_SORT);
+    }
+
+    public KruskalMinimumSpanningTreeFinder(EdgeOrder edgeOrder) {
+        this.edgeOrder = edgeOrder;
+    }
+
     protected DisjointSets<V> createDisjointSets() {
-        return new QuickFindDisjointSets<>();
-        //return new UnionBySizeCompressingDisjointSets<>();
+        return new ArrayDisjointSets<>();
     }
 
     @Override
     public MinimumSpanningTree<V, E> findMinimumSpanningTree(G graph) {
-        List<E> edges = new ArrayList<>(graph.allEdges());
-        edges.sort(Comparator.comparingDouble(E::weight));
-
+        Collection<V> vertices = graph.allVertices();
         Set<E> result = new HashSet<>();
-        if (edges.isEmpty()) {
-            if (graph.allVertices().size() <= 1) {
-                return new MinimumSpanningTree.Success<>(result);
-            } else {
-                return new MinimumSpanningTree.Failure<>();
+        int components = vertices.size();
+        if (components <= 1) {
+            return new MinimumSpanningTree.Success<>(result);
+        }
+
+        DisjointSets<V> sets = createDisjointSets();
+        for (V curr : vertices) {
+            sets.makeSet(curr);
+        }
+        EdgeIterator<E> edges = this.edgeOrder == EdgeOrder.LAZY_HEAP
+            ? new LazyHeapEdges<>(graph.allEdges())
+            : new SortedEdges<>(graph.allEdges());
+        while (components > 1 && edges.hasNext()) {
+            E curr = edges.next();
+            if (sets.union(curr.to(), curr.from())) {
+                result.add(curr);
+                components--;
             }
-        } else {
-            DisjointSets<V> sets = createDisjointSets();
-            for (V curr : graph.allVertices()) {
-                sets.makeSet(curr);
+        }
+        if (components > 1) {
+            return new MinimumSpanningTree.Failure<>();
+        }
+        return new MinimumSpanningTree.Success<>(result);
+    }
+
+    private interface EdgeIterator<E> {
+        boolean hasNext();
+
+        E next();
+    }
+
+    private static class SortedEdges<E extends BaseEdge<?, E>> implements EdgeIterator<E> {
+        private final List<E> edges;
+        private int next;
+
+        SortedEdges(Collection<E> edges) {
+            this.edges = new ArrayList<>(edges);
+            this.edges.sort(Comparator.comparingDouble(E::weight));
+            this.next = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.edges.size();
+        }
+
+        @Override
+        public E next() {
+            return this.edges.get(this.next++);
+        }
+    }
+
+    /**
+     * A binary min-heap of edges keyed on a parallel {@code double[]} of weights, built bottom-up
+     * in linear time.
+     */
+    private static class LazyHeapEdges<E extends BaseEdge<?, E>> implements EdgeIterator<E> {
+        private final Object[] edges;
+        private final double[] weights;
+        private int size;
+
+        LazyHeapEdges(Collection<E> edges) {
+            this.edges = edges.toArray();
+            this.size = this.edges.length;
+            this.weights = new double[this.size];
+            for (int i = 0; i < this.size; i++) {
+                this.weights[i] = weightOf(this.edges[i]);
             }
-            for (E curr : edges) {
-                if (sets.findSet(curr.to()) != sets.findSet(curr.from())) {
-                    sets.union(curr.to(), curr.from());
-                    result.add(curr);
-                }
+            for (int i = this.size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
             }
-            int checker = sets.findSet(edges.get(0).to());
-            for (V curr : graph.allVertices()) {
-                if (checker != sets.findSet(curr)) {
-                    return new MinimumSpanningTree.Failure<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        private double weightOf(Object edge) {
+            return ((E) edge).weight();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.size > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            E min = (E) this.edges[0];
+            this.size--;
+            this.edges[0] = this.edges[this.size];
+            this.weights[0] = this.weights[this.size];
+            this.edges[this.size] = null;
+            siftDown(0);
+            return min;
+        }
+
+        private void siftDown(int index) {
+            Object edge = this.edges[index];
+            double weight = this.weights[index];
+            int child;
+            while ((child = 2 * index + 1) < this.size) {
+                if (child + 1 < this.size && this.weights[child + 1] < this.weights[child]) {
+                    child++;
                 }
+                if (this.weights[child] >= weight) {
+                    break;
+                }
+                this.edges[index] = this.edges[child];
+                this.weights[index] = this.weights[child];
+                index = child;
             }
-            return new MinimumSpanningTree.Success<>(result);
+            this.edges[index] = edge;
+            this.weights[index] = weight;
         }
     }
 }
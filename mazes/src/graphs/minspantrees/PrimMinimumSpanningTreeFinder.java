@@ -0,0 +1,86 @@
+package graphs.minspantrees;
+
+import graphs.BaseEdge;
+import graphs.KruskalGraph;
+import priorityqueues.ArrayHeapMinPQ;
+import priorityqueues.ExtrinsicMinPQ;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes minimum spanning trees using Prim's algorithm.
+ *
+ * The tree grows from an arbitrary vertex. Each vertex outside the tree waits in the priority
+ * queue, keyed on the weight of its cheapest edge into the tree, and that key is lowered with
+ * {@link ExtrinsicMinPQ#changePriority} whenever a cheaper edge turns up. Unlike Kruskal's
+ * algorithm, no edges are ever sorted, which pays off on dense graphs.
+ *
+ * The returned tree contains the edges exactly as they appear in {@link KruskalGraph#allEdges()},
+ * regardless of the direction in which the tree reached them. If the tree stops growing before
+ * it spans every vertex, the graph is disconnected and no MST exists.
+ *
+ * @see MinimumSpanningTreeFinder for more documentation.
+ */
+public class PrimMinimumSpanningTreeFinder<G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
+    implements MinimumSpanningTreeFinder<G, V, E> {
+
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new ArrayHeapMinPQ<>();
+    }
+
+    @Override
+    public MinimumSpanningTree<V, E> findMinimumSpanningTree(G graph) {
+        Collection<V> vertices = graph.allVertices();
+        Set<E> result = new HashSet<>();
+        if (vertices.size() <= 1) {
+            return new MinimumSpanningTree.Success<>(result);
+        }
+
+        Map<V, List<E>> incident = new HashMap<>();
+        for (E edge : graph.allEdges()) {
+            incident.computeIfAbsent(edge.from(), v -> new ArrayList<>()).add(edge);
+            if (!Objects.equals(edge.from(), edge.to())) {
+                incident.computeIfAbsent(edge.to(), v -> new ArrayList<>()).add(edge);
+            }
+        }
+
+        ExtrinsicMinPQ<V> pq = createMinPQ();
+        Map<V, E> cheapest = new HashMap<>();
+        Set<V> inTree = new HashSet<>();
+        pq.add(vertices.iterator().next(), 0.0);
+        while (!pq.isEmpty()) {
+            V curr = pq.removeMin();
+            inTree.add(curr);
+            E via = cheapest.remove(curr);
+            if (via != null) {
+                result.add(via);
+            }
+            for (E edge : incident.getOrDefault(curr, List.of())) {
+                V neighbor = Objects.equals(edge.from(), curr) ? edge.to() : edge.from();
+                if (inTree.contains(neighbor)) {
+                    continue;
+                }
+                E best = cheapest.get(neighbor);
+                if (best == null) {
+                    cheapest.put(neighbor, edge);
+                    pq.add(neighbor, edge.weight());
+                } else if (edge.weight() < best.weight()) {
+                    cheapest.put(neighbor, edge);
+                    pq.changePriority(neighbor, edge.weight());
+                }
+            }
+        }
+
+        if (inTree.size() < vertices.size()) {
+            return new MinimumSpanningTree.Failure<>();
+        }
+        return new MinimumSpanningTree.Success<>(result);
+    }
+}
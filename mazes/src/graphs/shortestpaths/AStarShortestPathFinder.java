@@ -0,0 +1,201 @@
+package graphs.shortestpaths;
+
+import graphs.BaseEdge;
+import graphs.Graph;
+import graphs.IndexedGraph;
+import priorityqueues.DaryHeapMinPQ;
+import priorityqueues.ExtrinsicMinPQ;
+import priorityqueues.IndexedIntMinPQ;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Computes shortest paths using A* search: Dijkstra's algorithm, except that vertices are
+ * prioritized by their distance from the start plus a heuristic estimate of their remaining
+ * distance to the end.
+ *
+ * The heuristic must be admissible (never overestimate the remaining distance) for the returned
+ * paths to be shortest paths. A heuristic that always returns 0 makes this behave like Dijkstra.
+ *
+ * Like {@link DijkstraShortestPathFinder}, uses primitive arrays when the graph is an
+ * {@link IndexedGraph}.
+ *
+ * @see SPTShortestPathFinder
+ */
+public class AStarShortestPathFinder<G extends Graph<V, E>, V, E extends BaseEdge<V, E>>
+    extends SPTShortestPathFinder<G, V, E> {
+
+    private final ToDoubleBiFunction<V, V> heuristic;
+
+    /**
+     * @param heuristic given a vertex and the end vertex, returns a lower bound on the distance
+     *                  between them
+     */
+    public AStarShortestPathFinder(ToDoubleBiFunction<V, V> heuristic) {
+        this.heuristic = Objects.requireNonNull(heuristic);
+    }
+
+    protected <T> ExtrinsicMinPQ<T> createMinPQ() {
+        return new DaryHeapMinPQ<>();
+    }
+
+    /**
+     * Returns the priority queue over vertex ids used when the graph is an {@link IndexedGraph}.
+     */
+    protected IndexedIntMinPQ createIndexedMinPQ(int numVertices) {
+        return new IndexedIntMinPQ(IndexedIntMinPQ.DEFAULT_ARITY, numVertices);
+    }
+
+    @Override
+    public ShortestPath<V, E> findShortestPath(G graph, V start, V end) {
+        if (!(graph instanceof IndexedGraph)) {
+            return super.findShortestPath(graph, start, end);
+        }
+        if (Objects.equals(start, end)) {
+            return new ShortestPath.SingleVertex<>(start);
+        }
+        @SuppressWarnings("unchecked")
+        IndexedGraph<V, E> indexed = (IndexedGraph<V, E>) graph;
+        int source = indexed.indexOf(start);
+        int target = indexed.indexOf(end);
+        if (source < 0 || target < 0) {
+            return new ShortestPath.Failure<>();
+        }
+        int[] parentEdge = search(indexed, source, target);
+        if (parentEdge[target] < 0) {
+            return new ShortestPath.Failure<>();
+        }
+
+        List<E> edges = new ArrayList<>();
+        for (int v = target; v != source; ) {
+            E e = indexed.edgeAt(parentEdge[v]);
+            edges.add(e);
+            v = indexed.indexOf(e.from());
+        }
+        Collections.reverse(edges);
+        return new ShortestPath.Success<>(edges);
+    }
+
+    @Override
+    protected Map<V, E> constructShortestPathsTree(G graph, V start, V end) {
+        HashMap<V, E> edges = new HashMap<>();
+        if (Objects.equals(start, end)) {
+            return edges;
+        }
+        if (graph instanceof IndexedGraph) {
+            @SuppressWarnings("unchecked")
+            IndexedGraph<V, E> indexed = (IndexedGraph<V, E>) graph;
+            int source = indexed.indexOf(start);
+            int target = indexed.indexOf(end);
+            if (source < 0 || target < 0) {
+                return edges;
+            }
+            int[] parentEdge = search(indexed, source, target);
+            for (int v = 0; v < parentEdge.length; v++) {
+                if (parentEdge[v] >= 0) {
+                    edges.put(indexed.vertexAt(v), indexed.edgeAt(parentEdge[v]));
+                }
+            }
+            return edges;
+        }
+
+        ExtrinsicMinPQ<V> pq = createMinPQ();
+        HashMap<V, Double> distances = new HashMap<>();
+        distances.put(start, 0.0);
+        pq.add(start, heuristic.applyAsDouble(start, end));
+        while (!pq.isEmpty()) {
+            V curr = pq.removeMin();
+            if (Objects.equals(curr, end)) {
+                break;
+            }
+            double currDist = distances.get(curr);
+            for (E edge : graph.outgoingEdgesFrom(curr)) {
+                V neighbor = edge.to();
+                double newDist = currDist + edge.weight();
+                Double oldDist = distances.get(neighbor);
+                if (oldDist == null || newDist < oldDist) {
+                    distances.put(neighbor, newDist);
+                    edges.put(neighbor, edge);
+                    double priority = newDist + heuristic.applyAsDouble(neighbor, end);
+                    if (pq.contains(neighbor)) {
+                        pq.changePriority(neighbor, priority);
+                    } else {
+                        pq.add(neighbor, priority);
+                    }
+                }
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Runs A* over vertex ids from source until target is settled. Returns the id of the edge
+     * leading into each reached vertex, or -1 for the source and unreached vertices.
+     */
+    private int[] search(IndexedGraph<V, E> graph, int source, int target) {
+        int n = graph.numVertices();
+        V end = graph.vertexAt(target);
+        double[] dist = new double[n];
+        double[] estimates = new double[n];
+        int[] parentEdge = new int[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(estimates, Double.NaN);
+        Arrays.fill(parentEdge, -1);
+        IndexedIntMinPQ pq = createIndexedMinPQ(n);
+
+        dist[source] = 0.0;
+        pq.add(source, heuristic.applyAsDouble(graph.vertexAt(source), end));
+        while (!pq.isEmpty()) {
+            int curr = pq.removeMin();
+            if (curr == target) {
+                break;
+            }
+            double currDist = dist[curr];
+            int edgesEnd = graph.outgoingEdgesEnd(curr);
+            for (int edge = graph.outgoingEdgesStart(curr); edge < edgesEnd; edge++) {
+                int neighbor = graph.edgeTarget(edge);
+                double newDist = currDist + graph.edgeWeight(edge);
+                if (newDist < dist[neighbor]) {
+                    dist[neighbor] = newDist;
+                    parentEdge[neighbor] = edge;
+                    if (Double.isNaN(estimates[neighbor])) {
+                        estimates[neighbor] = heuristic.applyAsDouble(graph.vertexAt(neighbor), end);
+                    }
+                    double priority = newDist + estimates[neighbor];
+                    if (pq.contains(neighbor)) {
+                        pq.changePriority(neighbor, priority);
+                    } else {
+                        pq.add(neighbor, priority);
+                    }
+                }
+            }
+        }
+        return parentEdge;
+    }
+
+    @Override
+    protected ShortestPath<V, E> extractShortestPath(Map<V, E> spt, V start, V end) {
+        if (Objects.equals(start, end)) {
+            return new ShortestPath.SingleVertex<>(start);
+        }
+        List<E> edges = new ArrayList<>();
+        V vertex = end;
+        while (!Objects.equals(vertex, start)) {
+            E edge = spt.get(vertex);
+            if (edge == null) {
+                return new ShortestPath.Failure<>();
+            }
+            edges.add(edge);
+            vertex = edge.from();
+        }
+        Collections.reverse(edges);
+        return new ShortestPath.Success<>(edges);
+    }
+}
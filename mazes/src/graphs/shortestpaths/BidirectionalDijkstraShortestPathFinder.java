@@ -0,0 +1,178 @@
+package graphs.shortestpaths;
+
+import graphs.BaseEdge;
+import graphs.IndexedGraph;
+import graphs.KruskalGraph;
+import priorityqueues.IndexedIntMinPQ;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Computes single-pair shortest paths on undirected graphs by running Dijkstra's algorithm from
+ * both ends at once.
+ *
+ * Each round advances whichever search has the smaller frontier distance, and every time one
+ * search reaches a vertex already reached by the other, the combined distance is recorded as a
+ * candidate. The search stops once the two frontier distances add up to at least the best
+ * candidate, since no later meeting point can be shorter.
+ *
+ * The bidirectional search needs an {@link IndexedGraph}; other graphs fall back to the
+ * forward-only search of {@link DijkstraShortestPathFinder}.
+ *
+ * When no path exists, the SPT contains only the vertices reached by the forward search before
+ * either search ran out of vertices, rather than every vertex reachable from start.
+ *
+ * @see DijkstraShortestPathFinder
+ */
+public class BidirectionalDijkstraShortestPathFinder<G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
+    extends DijkstraShortestPathFinder<G, V, E> {
+
+    @Override
+    public ShortestPath<V, E> findShortestPath(G graph, V start, V end) {
+        if (!(graph instanceof IndexedGraph)) {
+            return super.findShortestPath(graph, start, end);
+        }
+        if (Objects.equals(start, end)) {
+            return new ShortestPath.SingleVertex<>(start);
+        }
+        @SuppressWarnings("unchecked")
+        IndexedGraph<V, E> indexed = (IndexedGraph<V, E>) graph;
+        int source = indexed.indexOf(start);
+        int target = indexed.indexOf(end);
+        if (source < 0 || target < 0) {
+            return new ShortestPath.Failure<>();
+        }
+        Search search = new Search(indexed, source, target);
+        if (search.meet < 0) {
+            return new ShortestPath.Failure<>();
+        }
+        return new ShortestPath.Success<>(search.path());
+    }
+
+    @Override
+    protected Map<V, E> constructShortestPathsTree(G graph, V start, V end) {
+        if (!(graph instanceof IndexedGraph)) {
+            return super.constructShortestPathsTree(graph, start, end);
+        }
+        HashMap<V, E> edges = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        IndexedGraph<V, E> indexed = (IndexedGraph<V, E>) graph;
+        int source = indexed.indexOf(start);
+        int target = indexed.indexOf(end);
+        if (source < 0 || target < 0 || Objects.equals(start, end)) {
+            return edges;
+        }
+        Search search = new Search(indexed, source, target);
+        for (int v = 0; v < search.parentForward.length; v++) {
+            if (search.parentForward[v] >= 0) {
+                edges.put(indexed.vertexAt(v), indexed.edgeAt(search.parentForward[v]));
+            }
+        }
+        if (search.meet >= 0) {
+            // Overwrite the forward tree along the second half of the path, so that it leads to end.
+            for (E edge : search.path()) {
+                edges.put(edge.to(), edge);
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * The state of one bidirectional search, run to completion by the constructor.
+     */
+    private class Search {
+        final IndexedGraph<V, E> graph;
+        final int source;
+        final int target;
+        final double[] distForward;
+        final double[] distBackward;
+        // The edge by which each vertex was reached; for the backward search the edge points from
+        // the vertex's parent (closer to target) towards the vertex.
+        final int[] parentForward;
+        final int[] parentBackward;
+        double best = Double.POSITIVE_INFINITY;
+        int meet = -1;
+
+        Search(IndexedGraph<V, E> graph, int source, int target) {
+            this.graph = graph;
+            this.source = source;
+            this.target = target;
+            int n = graph.numVertices();
+            this.distForward = new double[n];
+            this.distBackward = new double[n];
+            this.parentForward = new int[n];
+            this.parentBackward = new int[n];
+            Arrays.fill(this.distForward, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.distBackward, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.parentForward, -1);
+            Arrays.fill(this.parentBackward, -1);
+
+            IndexedIntMinPQ forward = createIndexedMinPQ(n);
+            IndexedIntMinPQ backward = createIndexedMinPQ(n);
+            this.distForward[source] = 0.0;
+            this.distBackward[target] = 0.0;
+            forward.add(source, 0.0);
+            backward.add(target, 0.0);
+
+            while (!forward.isEmpty() && !backward.isEmpty()) {
+                double forwardMin = forward.peekMinPriority();
+                double backwardMin = backward.peekMinPriority();
+                if (forwardMin + backwardMin >= this.best) {
+                    break;
+                }
+                if (forwardMin <= backwardMin) {
+                    step(forward, this.distForward, this.parentForward, this.distBackward);
+                } else {
+                    step(backward, this.distBackward, this.parentBackward, this.distForward);
+                }
+            }
+        }
+
+        private void step(IndexedIntMinPQ pq, double[] dist, int[] parent, double[] otherDist) {
+            int curr = pq.removeMin();
+            double currDist = dist[curr];
+            int edgesEnd = this.graph.outgoingEdgesEnd(curr);
+            for (int edge = this.graph.outgoingEdgesStart(curr); edge < edgesEnd; edge++) {
+                int neighbor = this.graph.edgeTarget(edge);
+                double newDist = currDist + this.graph.edgeWeight(edge);
+                if (newDist < dist[neighbor]) {
+                    dist[neighbor] = newDist;
+                    parent[neighbor] = edge;
+                    if (pq.contains(neighbor)) {
+                        pq.changePriority(neighbor, newDist);
+                    } else {
+                        pq.add(neighbor, newDist);
+                    }
+                    double total = newDist + otherDist[neighbor];
+                    if (total < this.best) {
+                        this.best = total;
+                        this.meet = neighbor;
+                    }
+                }
+            }
+        }
+
+        /** Returns the edges of the path through the meeting vertex, in order from source to target. */
+        List<E> path() {
+            List<E> edges = new ArrayList<>();
+            for (int v = this.meet; v != this.source; ) {
+                E e = this.graph.edgeAt(this.parentForward[v]);
+                edges.add(e);
+                v = this.graph.indexOf(e.from());
+            }
+            Collections.reverse(edges);
+            for (int v = this.meet; v != this.target; ) {
+                E e = this.graph.edgeAt(this.parentBackward[v]);
+                edges.add(e.reversed());
+                v = this.graph.indexOf(e.from());
+            }
+            return edges;
+        }
+    }
+}
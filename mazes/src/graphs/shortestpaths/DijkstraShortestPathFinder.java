@@ -2,25 +2,149 @@ package graphs.shortestpaths;
 
 import graphs.BaseEdge;
 import graphs.Graph;
-import priorityqueues.DoubleMapMinPQ;
+import graphs.IndexedGraph;
+import priorityqueues.DaryHeapMinPQ;
 import priorityqueues.ExtrinsicMinPQ;
+import priorityqueues.IndexedIntMinPQ;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Computes shortest paths using Dijkstra's algorithm.
+ *
+ * When the graph is an {@link IndexedGraph}, the search keeps its state in primitive arrays indexed
+ * by vertex id (and uses an {@link IndexedIntMinPQ}), and {@link #findShortestPath} walks the
+ * parent-edge array directly without building an SPT map. Other graphs use the map-based search.
+ *
+ * @see SPTShortestPathFinder
+ */
 public class DijkstraShortestPathFinder<G extends Graph<V, E>, V, E extends BaseEdge<V, E>>
     extends SPTShortestPathFinder<G, V, E> {
 
+    /**
+     * Returns the priority queue used by {@link #constructShortestPathsTree}. Defaults to a 4-ary
+     * {@link DaryHeapMinPQ}; subclasses may override this to plug in a different implementation
+     * (e.g., {@code DoubleMapMinPQ} or {@code ArrayHeapMinPQ}) or arity.
+     */
     protected <T> ExtrinsicMinPQ<T> createMinPQ() {
-        return new DoubleMapMinPQ<>();
+        return new DaryHeapMinPQ<>();
+    }
+
+    /**
+     * Returns the priority queue over vertex ids used when the graph is an {@link IndexedGraph}.
+     */
+    protected IndexedIntMinPQ createIndexedMinPQ(int numVertices) {
+        return new IndexedIntMinPQ(IndexedIntMinPQ.DEFAULT_ARITY, numVertices);
+    }
+
+    @Override
+    public ShortestPath<V, E> findShortestPath(G graph, V start, V end) {
+        if (!(graph instanceof IndexedGraph)) {
+            return super.findShortestPath(graph, start, end);
+        }
+        if (Objects.equals(start, end)) {
+            return new ShortestPath.SingleVertex<>(start);
+        }
+        @SuppressWarnings("unchecked")
+        IndexedGraph<V, E> indexed = (IndexedGraph<V, E>) graph;
+        int source = indexed.indexOf(start);
+        int target = indexed.indexOf(end);
+        if (source < 0 || target < 0) {
+            return new ShortestPath.Failure<>();
+        }
+        int[] parentEdge = search(indexed, source, target);
+        if (parentEdge[target] < 0) {
+            return new ShortestPath.Failure<>();
+        }
+
+        List<E> edges = new ArrayList<>();
+        for (int v = target; v != source; ) {
+            int edge = parentEdge[v];
+            E e = indexed.edgeAt(edge);
+            edges.add(e);
+            v = indexed.indexOf(e.from());
+        }
+        Collections.reverse(edges);
+        return new ShortestPath.Success<>(edges);
+    }
+
+    /**
+     * Computes the complete shortest paths tree from the given source, which can then answer
+     * {@link ShortestPathTree#pathTo} for every vertex without searching again. Use this instead of
+     * repeated calls to {@link #findShortestPath} when asking for paths from one start to many ends.
+     *
+     * The whole reachable part of the graph is searched, so the graph must be finite.
+     */
+    public ShortestPathTree<V, E> shortestPathTree(G graph, V source) {
+        return shortestPathTree(graph, Collections.singletonList(source));
+    }
+
+    /**
+     * Computes the complete shortest paths forest grown from all the given sources at once, in a
+     * single search. Every reachable vertex ends up in the tree of its nearest source, so
+     * {@link ShortestPathTree#distanceTo} gives the distance to the nearest source (such as the
+     * nearest of many exits).
+     *
+     * Sources that are not in the graph are ignored. The whole reachable part of the graph is
+     * searched, so the graph must be finite.
+     */
+    public ShortestPathTree<V, E> shortestPathTree(G graph, Collection<V> sources) {
+        if (graph instanceof IndexedGraph) {
+            @SuppressWarnings("unchecked")
+            IndexedGraph<V, E> indexed = (IndexedGraph<V, E>) graph;
+            int[] ids = sources.stream().mapToInt(indexed::indexOf).filter(id -> id >= 0).toArray();
+            int n = indexed.numVertices();
+            double[] dist = new double[n];
+            int[] parentEdge = new int[n];
+            search(indexed, ids, -1, dist, parentEdge);
+            return new ShortestPathTree.Indexed<>(indexed, parentEdge, dist);
+        }
+
+        ExtrinsicMinPQ<V> pq = createMinPQ();
+        HashMap<V, E> edges = new HashMap<>();
+        HashMap<V, Double> distances = new HashMap<>();
+        for (V source : sources) {
+            if (!distances.containsKey(source)) {
+                distances.put(source, 0.0);
+                pq.add(source, 0.0);
+            }
+        }
+        while (!pq.isEmpty()) {
+            V curr = pq.removeMin();
+            double currDist = distances.get(curr);
+            for (E edge : graph.outgoingEdgesFrom(curr)) {
+                V neighbor = edge.to();
+                double newDist = currDist + edge.weight();
+                Double oldDist = distances.get(neighbor);
+                if (oldDist == null || newDist < oldDist) {
+                    distances.put(neighbor, newDist);
+                    edges.put(neighbor, edge);
+                    if (pq.contains(neighbor)) {
+                        pq.changePriority(neighbor, newDist);
+                    } else if (oldDist == null) {
+                        pq.add(neighbor, newDist);
+                    }
+                }
+            }
+        }
+        return new ShortestPathTree.Mapped<>(edges, distances);
     }
 
     @Override
     protected Map<V, E> constructShortestPathsTree(G graph, V start, V end) {
-        DoubleMapMinPQ<V> pq = new DoubleMapMinPQ<V>();
+        if (graph instanceof IndexedGraph) {
+            @SuppressWarnings("unchecked")
+            IndexedGraph<V, E> indexed = (IndexedGraph<V, E>) graph;
+            return constructIndexedShortestPathsTree(indexed, start, end);
+        }
+        ExtrinsicMinPQ<V> pq = createMinPQ();
         HashMap<V, E> edges = new HashMap<>();
         HashMap<V, Double> distances = new HashMap<>();
 
@@ -56,6 +180,73 @@ public class DijkstraShortestPathFinder<G extends Graph<V, E>, V, E extends Base
         return edges;
     }
 
+    private Map<V, E> constructIndexedShortestPathsTree(IndexedGraph<V, E> graph, V start, V end) {
+        HashMap<V, E> edges = new HashMap<>();
+        int source = graph.indexOf(start);
+        if (source < 0 || Objects.equals(start, end)) {
+            return edges;
+        }
+        int[] parentEdge = search(graph, source, graph.indexOf(end));
+        for (int v = 0; v < parentEdge.length; v++) {
+            if (parentEdge[v] >= 0) {
+                edges.put(graph.vertexAt(v), graph.edgeAt(parentEdge[v]));
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm over vertex ids from source, stopping once target (which may be -1)
+     * is settled. Returns the id of the edge leading into each reached vertex, or -1 for the source
+     * and unreached vertices.
+     */
+    private int[] search(IndexedGraph<V, E> graph, int source, int target) {
+        int n = graph.numVertices();
+        double[] dist = new double[n];
+        int[] parentEdge = new int[n];
+        search(graph, new int[]{source}, target, dist, parentEdge);
+        return parentEdge;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm over vertex ids from all given sources at once, stopping once target
+     * (which may be -1) is settled. Fills in the distance to and the id of the edge leading into
+     * each vertex (infinity and -1 for unreached vertices; 0 and -1 for the sources).
+     */
+    private void search(IndexedGraph<V, E> graph, int[] sources, int target, double[] dist, int[] parentEdge) {
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(parentEdge, -1);
+        IndexedIntMinPQ pq = createIndexedMinPQ(graph.numVertices());
+
+        for (int source : sources) {
+            if (!pq.contains(source)) {
+                dist[source] = 0.0;
+                pq.add(source, 0.0);
+            }
+        }
+        while (!pq.isEmpty()) {
+            int curr = pq.removeMin();
+            if (curr == target) {
+                break;
+            }
+            double currDist = dist[curr];
+            int edgesEnd = graph.outgoingEdgesEnd(curr);
+            for (int edge = graph.outgoingEdgesStart(curr); edge < edgesEnd; edge++) {
+                int neighbor = graph.edgeTarget(edge);
+                double newDist = currDist + graph.edgeWeight(edge);
+                if (newDist < dist[neighbor]) {
+                    dist[neighbor] = newDist;
+                    parentEdge[neighbor] = edge;
+                    if (pq.contains(neighbor)) {
+                        pq.changePriority(neighbor, newDist);
+                    } else {
+                        pq.add(neighbor, newDist);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     protected ShortestPath<V, E> extractShortestPath(Map<V, E> spt, V start, V end) {
         if (Objects.equals(start, end)) {
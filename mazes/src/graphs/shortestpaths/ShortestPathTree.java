@@ -0,0 +1,167 @@
+package graphs.shortestpaths;
+
+import graphs.BaseEdge;
+import graphs.IndexedGraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A complete shortest paths tree, grown from one or more source vertices, that can be queried for
+ * the shortest path to any vertex without searching the graph again.
+ *
+ * With several sources, each vertex is reached from whichever source is nearest to it, so
+ * {@link #distanceTo} gives the distance to the nearest source.
+ *
+ * {@link DijkstraShortestPathFinder#shortestPathTree} returns an object implementing this
+ * interface.
+ */
+public interface ShortestPathTree<V, E extends BaseEdge<V, E>> {
+    /**
+     * Returns the last edge of the shortest path to the given vertex, or null if the vertex is a
+     * source or is not reachable from any source.
+     */
+    E edgeTo(V vertex);
+
+    /**
+     * Returns the length of the shortest path to the given vertex, or
+     * {@link Double#POSITIVE_INFINITY} if the vertex is not reachable from any source.
+     */
+    double distanceTo(V vertex);
+
+    /** Returns true iff the given vertex is reachable from some source. */
+    default boolean hasPathTo(V vertex) {
+        return distanceTo(vertex) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the source that the shortest path to the given vertex starts from, in time
+     * proportional to the length of the path.
+     *
+     * @throws IllegalArgumentException if the vertex is not reachable from any source
+     */
+    default V sourceOf(V vertex) {
+        if (!hasPathTo(vertex)) {
+            throw new IllegalArgumentException("Vertex is not reachable: " + vertex);
+        }
+        V curr = vertex;
+        for (E edge = edgeTo(curr); edge != null; edge = edgeTo(curr)) {
+            curr = edge.from();
+        }
+        return curr;
+    }
+
+    /**
+     * Returns the shortest path to the given vertex, in time proportional to its length. The path
+     * of a source is that single vertex; if the vertex is not reachable, the returned path does not
+     * exist.
+     */
+    default ShortestPath<V, E> pathTo(V vertex) {
+        if (!hasPathTo(vertex)) {
+            return new ShortestPath.Failure<>();
+        }
+        E edge = edgeTo(vertex);
+        if (edge == null) {
+            return new ShortestPath.SingleVertex<>(vertex);
+        }
+        List<E> edges = new ArrayList<>();
+        for (; edge != null; edge = edgeTo(edge.from())) {
+            edges.add(edge);
+        }
+        Collections.reverse(edges);
+        return new ShortestPath.Success<>(edges);
+    }
+
+    /** A shortest paths tree stored in hash maps, for graphs of any type. */
+    class Mapped<V, E extends BaseEdge<V, E>> implements ShortestPathTree<V, E> {
+        private final Map<V, E> edges;
+        private final Map<V, Double> distances;
+
+        /**
+         * @param edges     the edge leading into each reached vertex other than the sources
+         * @param distances the distance to each reached vertex, including the sources
+         */
+        public Mapped(Map<V, E> edges, Map<V, Double> distances) {
+            this.edges = edges;
+            this.distances = distances;
+        }
+
+        @Override
+        public E edgeTo(V vertex) {
+            return this.edges.get(vertex);
+        }
+
+        @Override
+        public double distanceTo(V vertex) {
+            return this.distances.getOrDefault(vertex, Double.POSITIVE_INFINITY);
+        }
+    }
+
+    /**
+     * A shortest paths tree stored in arrays indexed by the vertex ids of an {@link IndexedGraph}.
+     */
+    class Indexed<V, E extends BaseEdge<V, E>> implements ShortestPathTree<V, E> {
+        private final IndexedGraph<V, E> graph;
+        private final int[] parentEdge;
+        private final double[] distances;
+
+        /**
+         * @param graph      the graph that the ids refer to
+         * @param parentEdge the id of the edge leading into each vertex, or -1 for the sources and
+         *                   unreached vertices
+         * @param distances  the distance to each vertex, or infinity for unreached vertices
+         */
+        public Indexed(IndexedGraph<V, E> graph, int[] parentEdge, double[] distances) {
+            this.graph = graph;
+            this.parentEdge = parentEdge;
+            this.distances = distances;
+        }
+
+        @Override
+        public E edgeTo(V vertex) {
+            int v = this.graph.indexOf(vertex);
+            return v < 0 || this.parentEdge[v] < 0 ? null : this.graph.edgeAt(this.parentEdge[v]);
+        }
+
+        @Override
+        public double distanceTo(V vertex) {
+            int v = this.graph.indexOf(vertex);
+            return v < 0 ? Double.POSITIVE_INFINITY : this.distances[v];
+        }
+
+        @Override
+        public ShortestPath<V, E> pathTo(V vertex) {
+            int v = this.graph.indexOf(vertex);
+            if (v < 0 || this.distances[v] == Double.POSITIVE_INFINITY) {
+                return new ShortestPath.Failure<>();
+            }
+            if (this.parentEdge[v] < 0) {
+                return new ShortestPath.SingleVertex<>(vertex);
+            }
+            List<E> edges = new ArrayList<>();
+            while (this.parentEdge[v] >= 0) {
+                E edge = this.graph.edgeAt(this.parentEdge[v]);
+                edges.add(edge);
+                v = this.graph.indexOf(edge.from());
+            }
+            Collections.reverse(edges);
+            return new ShortestPath.Success<>(edges);
+        }
+
+        @Override
+        public V sourceOf(V vertex) {
+            int v = this.graph.indexOf(vertex);
+            if (v < 0 || this.distances[v] == Double.POSITIVE_INFINITY) {
+                throw new IllegalArgumentException("Vertex is not reachable: " + vertex);
+            }
+            V curr = vertex;
+            while (this.parentEdge[v] >= 0) {
+                curr = this.graph.edgeAt(this.parentEdge[v]).from();
+                v = this.graph.indexOf(curr);
+            }
+            return curr;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package mazes;
 
 import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
-import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.AStarShortestPathFinder;
 import mazes.gui.MainWindow;
-import mazes.logic.MazeSolver;
+import mazes.logic.CachingMazeSolver;
+import mazes.logic.MazeHeuristics;
 import mazes.logic.carvers.KruskalMazeCarver;
 import mazes.logic.carvers.MazeCarver;
 import mazes.logic.carvers.RandomMazeCarver;
+import mazes.logic.carvers.RecursiveBacktrackerMazeCarver;
+import mazes.logic.carvers.WilsonMazeCarver;
 import mazes.logic.generators.GridGenerator;
 import mazes.logic.generators.HexagonGenerator;
 import mazes.logic.generators.MazeBaseGenerator;
@@ -62,9 +65,20 @@ public class Main {
             new RandomMazeCarver(0.5));
         baseCarvers.put(
             "Run (randomized) Kruskal",
-            new KruskalMazeCarver(new KruskalMinimumSpanningTreeFinder<>()));
+            new KruskalMazeCarver(
+                new KruskalMinimumSpanningTreeFinder<>(KruskalMinimumSpanningTreeFinder.EdgeOrder.LAZY_HEAP)));
+        baseCarvers.put(
+            "Run recursive backtracker",
+            new RecursiveBacktrackerMazeCarver());
+        baseCarvers.put(
+            "Run Wilson's algorithm",
+            new WilsonMazeCarver());
 
         // This actually launches the window itself and starts the program.
-        MainWindow.launch(baseGenerators, baseCarvers, new MazeSolver(new DijkstraShortestPathFinder<>()));
+        // A* with the straight-line heuristic finds the same paths as Dijkstra, but expands fewer rooms.
+        // The caching solver keeps the graph and the path of the current maze, so solving it again
+        // does not search at all.
+        MainWindow.launch(baseGenerators, baseCarvers,
+            new CachingMazeSolver(new AStarShortestPathFinder<>(MazeHeuristics.EUCLIDEAN)));
     }
 }
@@ -0,0 +1,249 @@
+package mazes.batch;
+
+import graphs.EdgeWithData;
+import graphs.minspantrees.BoruvkaMinimumSpanningTreeFinder;
+import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
+import graphs.shortestpaths.AStarShortestPathFinder;
+import graphs.shortestpaths.BidirectionalDijkstraShortestPathFinder;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPathFinder;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.logic.MazeGraph;
+import mazes.logic.MazeHeuristics;
+import mazes.logic.MazeSolver;
+import mazes.logic.carvers.EllerMazeCarver;
+import mazes.logic.carvers.KruskalMazeCarver;
+import mazes.logic.carvers.MazeCarver;
+import mazes.logic.carvers.RandomMazeCarver;
+import mazes.logic.carvers.RandomizedKruskalMazeCarver;
+import mazes.logic.carvers.RecursiveBacktrackerMazeCarver;
+import mazes.logic.carvers.WilsonMazeCarver;
+import mazes.logic.generators.GridGenerator;
+import mazes.logic.generators.HexagonGenerator;
+import mazes.logic.generators.MazeBaseGenerator;
+import mazes.logic.generators.VoronoiGenerator;
+
+import java.awt.Rectangle;
+import java.util.Locale;
+
+/**
+ * The settings for a headless batch run, parsed from command-line arguments.
+ *
+ * Every maze in a batch gets its own generator, carver and solver, seeded with
+ * {@code seed + index} so that runs are reproducible regardless of thread scheduling.
+ */
+public class BatchConfig {
+    public static final String USAGE = String.join(System.lineSeparator(),
+        "Options (all optional):",
+        "  --generator grid|hexagon|voronoi   maze shape (default grid)",
+        "  --rows N                           grid/hexagon rows (default 60)",
+        "  --cols N                           grid columns (default 80)",
+        "  --rooms N                          voronoi rooms (default 3000)",
+        "  --width N --height N               bounding box in pixels (default 800x600)",
+        "  --carver NAME                      wall carver: kruskal, boruvka (parallel), streaming-kruskal,",
+        "                                     backtracker, wilson, eller (grid only) or random (default kruskal)",
+        "  --keep P                           random carver: probability of keeping a wall (default 0.5)",
+        "  --solver dijkstra|astar|bidirectional  shortest path finder (default dijkstra)",
+        "  --seed N                           seed of the first maze (default 0)",
+        "  --count N                          number of mazes (default 1)",
+        "  --threads N                        worker threads (default: available processors)",
+        "  --mode pool|pipeline               one task per maze, or separate generate/carve/solve stages",
+        "                                     connected by bounded queues (default pool)",
+        "  --generate-threads N               pipeline: generator threads (default 1)",
+        "  --carve-threads N                  pipeline: carver threads (default 1)",
+        "  --solve-threads N                  pipeline: solver threads (default 1)",
+        "  --queue-capacity N                 pipeline: capacity of each queue between stages (default 16)",
+        "  --output FILE                      write results to FILE instead of stdout");
+
+    String generator = "grid";
+    int rows = 60;
+    int cols = 80;
+    int rooms = 3000;
+    int width = 800;
+    int height = 600;
+    String carver = "kruskal";
+    double keep = 0.5;
+    String solver = "dijkstra";
+    long seed = 0;
+    int count = 1;
+    int threads = Runtime.getRuntime().availableProcessors();
+    String mode = "pool";
+    int generateThreads = 1;
+    int carveThreads = 1;
+    int solveThreads = 1;
+    int queueCapacity = 16;
+    String output = null;
+
+    /**
+     * Parses the given command-line arguments.
+     *
+     * @throws IllegalArgumentException if an option is unknown, is missing its value, or has an
+     *                                  invalid value
+     */
+    public static BatchConfig parse(String... args) {
+        BatchConfig config = new BatchConfig();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[i + 1];
+            switch (option) {
+                case "--generator":
+                    config.generator = oneOf(option, value, "grid", "hexagon", "voronoi");
+                    break;
+                case "--rows":
+                    config.rows = positiveInt(option, value);
+                    break;
+                case "--cols":
+                    config.cols = positiveInt(option, value);
+                    break;
+                case "--rooms":
+                    config.rooms = positiveInt(option, value);
+                    break;
+                case "--width":
+                    config.width = positiveInt(option, value);
+                    break;
+                case "--height":
+                    config.height = positiveInt(option, value);
+                    break;
+                case "--carver":
+                    config.carver = oneOf(option, value, "kruskal", "boruvka", "streaming-kruskal", "backtracker",
+                        "wilson", "eller", "random");
+                    break;
+                case "--keep":
+                    config.keep = Double.parseDouble(value);
+                    if (config.keep < 0 || config.keep > 1) {
+                        throw new IllegalArgumentException("--keep must be between 0 and 1");
+                    }
+                    break;
+                case "--solver":
+                    config.solver = oneOf(option, value, "dijkstra", "astar", "bidirectional");
+                    break;
+                case "--seed":
+                    config.seed = Long.parseLong(value);
+                    break;
+                case "--count":
+                    config.count = positiveInt(option, value);
+                    break;
+                case "--threads":
+                    config.threads = positiveInt(option, value);
+                    break;
+                case "--mode":
+                    config.mode = oneOf(option, value, "pool", "pipeline");
+                    break;
+                case "--generate-threads":
+                    config.generateThreads = positiveInt(option, value);
+                    break;
+                case "--carve-threads":
+                    config.carveThreads = positiveInt(option, value);
+                    break;
+                case "--solve-threads":
+                    config.solveThreads = positiveInt(option, value);
+                    break;
+                case "--queue-capacity":
+                    config.queueCapacity = positiveInt(option, value);
+                    break;
+                case "--output":
+                    config.output = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        return config;
+    }
+
+    private static String oneOf(String option, String value, String... allowed) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        for (String candidate : allowed) {
+            if (candidate.equals(lower)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("Invalid value for " + option + ": " + value);
+    }
+
+    private static int positiveInt(String option, String value) {
+        int result;
+        try {
+            result = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + option + ": " + value, e);
+        }
+        if (result <= 0) {
+            throw new IllegalArgumentException(option + " must be positive, but was " + result);
+        }
+        return result;
+    }
+
+    public Rectangle boundingBox() {
+        return new Rectangle(0, 0, this.width, this.height);
+    }
+
+    public MazeBaseGenerator createGenerator(long mazeSeed) {
+        switch (this.generator) {
+            case "grid":
+                return new GridGenerator(this.rows, this.cols);
+            case "hexagon":
+                return new HexagonGenerator(this.rows);
+            case "voronoi":
+                return new VoronoiGenerator(this.rooms, 10, 5, 5, (int) mazeSeed);
+            default:
+                throw new IllegalStateException("Unknown generator " + this.generator);
+        }
+    }
+
+    public MazeCarver createCarver(long mazeSeed) {
+        switch (this.carver) {
+            case "kruskal":
+                return new KruskalMazeCarver(
+                    new KruskalMinimumSpanningTreeFinder<>(KruskalMinimumSpanningTreeFinder.EdgeOrder.LAZY_HEAP), mazeSeed);
+            case "boruvka":
+                return new KruskalMazeCarver(new BoruvkaMinimumSpanningTreeFinder<>(), mazeSeed);
+            case "streaming-kruskal":
+                return new RandomizedKruskalMazeCarver(mazeSeed);
+            case "backtracker":
+                return new RecursiveBacktrackerMazeCarver(mazeSeed);
+            case "wilson":
+                return new WilsonMazeCarver(mazeSeed);
+            case "eller":
+                return new EllerMazeCarver(mazeSeed);
+            case "random":
+                return new RandomMazeCarver(this.keep, mazeSeed);
+            default:
+                throw new IllegalStateException("Unknown carver " + this.carver);
+        }
+    }
+
+    public MazeSolver createSolver() {
+        ShortestPathFinder<MazeGraph, Room, EdgeWithData<Room, Wall>> finder;
+        switch (this.solver) {
+            case "dijkstra":
+                finder = new DijkstraShortestPathFinder<>();
+                break;
+            case "astar":
+                finder = new AStarShortestPathFinder<>(MazeHeuristics.EUCLIDEAN);
+                break;
+            case "bidirectional":
+                finder = new BidirectionalDijkstraShortestPathFinder<>();
+                break;
+            default:
+                throw new IllegalStateException("Unknown solver " + this.solver);
+        }
+        return new MazeSolver(finder);
+    }
+
+    @Override
+    public String toString() {
+        String threading = this.mode.equals("pipeline")
+            ? String.format(Locale.ROOT, "mode=pipeline generate_threads=%d carve_threads=%d solve_threads=%d "
+                + "queue_capacity=%d", this.generateThreads, this.carveThreads, this.solveThreads, this.queueCapacity)
+            : String.format(Locale.ROOT, "mode=pool threads=%d", this.threads);
+        return String.format(Locale.ROOT, "generator=%s rows=%d cols=%d rooms=%d size=%dx%d carver=%s keep=%s solver=%s "
+                + "seed=%d count=%d %s",
+            this.generator, this.rows, this.cols, this.rooms, this.width, this.height, this.carver, this.keep,
+            this.solver, this.seed, this.count, threading);
+    }
+}
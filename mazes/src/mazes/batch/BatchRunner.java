@@ -0,0 +1,190 @@
+package mazes.batch;
+
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.logic.carvers.MazeCarver;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates, carves and solves a batch of mazes without any GUI.
+ *
+ * Mazes are processed either on a fixed-size thread pool (one task per maze) or, in pipeline
+ * mode, by a {@link MazePipeline}. Either way, results are written in maze order as
+ * tab-separated lines: one header line, one line per maze, and final summary lines.
+ *
+ * Run {@code mazes.batch.BatchRunner --help} for the available options.
+ */
+public class BatchRunner {
+    public static final String HEADER = String.join("\t",
+        "maze", "seed", "rooms", "walls", "pathways", "generate_ms", "carve_ms", "solve_ms",
+        "solved", "path_walls", "path_length");
+
+    private final BatchConfig config;
+
+    public BatchRunner(BatchConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) {
+        // Make sure nothing in the pipeline can try to open a display.
+        System.setProperty("java.awt.headless", "true");
+        if (args.length == 1 && (args[0].equals("--help") || args[0].equals("-h"))) {
+            System.out.println(BatchConfig.USAGE);
+            return;
+        }
+        BatchConfig config;
+        try {
+            config = BatchConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(BatchConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        if (config.output == null) {
+            new BatchRunner(config).run(System.out);
+        } else {
+            try (PrintStream out = new PrintStream(new FileOutputStream(config.output))) {
+                new BatchRunner(config).run(out);
+            } catch (FileNotFoundException e) {
+                System.err.println("Cannot write to " + config.output + ": " + e.getMessage());
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Runs the whole batch, writing results to the given stream, and returns the per-maze results
+     * in maze order.
+     */
+    public List<Result> run(PrintStream out) {
+        out.println("# " + this.config);
+        out.println(HEADER);
+        long start = System.nanoTime();
+
+        List<Result> results;
+        if (this.config.mode.equals("pipeline")) {
+            results = runPipeline(out);
+        } else {
+            results = runPool(out);
+        }
+
+        double elapsedMs = (System.nanoTime() - start) / 1e6;
+        out.printf(Locale.ROOT, "# total_ms=%.3f mazes_per_s=%.2f solved=%d/%d%n",
+            elapsedMs, results.size() / (elapsedMs / 1000), results.stream().filter(r -> r.solved).count(),
+            results.size());
+        return results;
+    }
+
+    private List<Result> runPool(PrintStream out) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.config.threads, this.config.count));
+        List<Result> results = new ArrayList<>();
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < this.config.count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> runOne(index)));
+            }
+            for (Future<Result> future : futures) {
+                Result result = future.get();
+                results.add(result);
+                out.println(result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for mazes", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Maze failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private List<Result> runPipeline(PrintStream out) {
+        // The pipeline finishes mazes out of order; hold each one back until all earlier ones are written.
+        Result[] results = new Result[this.config.count];
+        int[] nextToWrite = {0};
+        MazePipeline pipeline = new MazePipeline(this.config);
+        pipeline.run(result -> {
+            results[result.index] = result;
+            while (nextToWrite[0] < results.length && results[nextToWrite[0]] != null) {
+                out.println(results[nextToWrite[0]]);
+                nextToWrite[0]++;
+            }
+        });
+        for (MazePipeline.Stage stage : pipeline.stages()) {
+            out.println("# " + stage);
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Generates, carves and solves the maze with the given index.
+     */
+    public Result runOne(int index) {
+        long seed = this.config.seed + index;
+
+        long t0 = System.nanoTime();
+        Maze maze = this.config.createGenerator(seed).generateBaseMaze(this.config.boundingBox());
+        long t1 = System.nanoTime();
+        MazeCarver.CarvedMaze carved = this.config.createCarver(seed).carveMaze(maze);
+        long t2 = System.nanoTime();
+        Optional<List<Wall>> solution = this.config.createSolver()
+            .solveMaze(carved.pathways(), maze.getStart(), maze.getEnd());
+        long t3 = System.nanoTime();
+
+        return new Result(index, seed, maze.getRooms().size(), carved.walls().size(), carved.pathways().size(),
+            t1 - t0, t2 - t1, t3 - t2, solution.orElse(null));
+    }
+
+    /** The outcome and per-stage timings of one maze. */
+    public static class Result {
+        public final int index;
+        public final long seed;
+        public final int rooms;
+        public final int walls;
+        public final int pathways;
+        public final long generateNanos;
+        public final long carveNanos;
+        public final long solveNanos;
+        public final boolean solved;
+        public final int pathWalls;
+        public final double pathLength;
+
+        public Result(int index, long seed, int rooms, int walls, int pathways,
+                      long generateNanos, long carveNanos, long solveNanos, List<Wall> solution) {
+            this.index = index;
+            this.seed = seed;
+            this.rooms = rooms;
+            this.walls = walls;
+            this.pathways = pathways;
+            this.generateNanos = generateNanos;
+            this.carveNanos = carveNanos;
+            this.solveNanos = solveNanos;
+            this.solved = solution != null;
+            this.pathWalls = this.solved ? solution.size() : 0;
+            this.pathLength = this.solved ? solution.stream().mapToDouble(Wall::getDistance).sum() : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d\t%d\t%d\t%d\t%d\t%.3f\t%.3f\t%.3f\t%b\t%d\t%.3f",
+                this.index, this.seed, this.rooms, this.walls, this.pathways,
+                this.generateNanos / 1e6, this.carveNanos / 1e6, this.solveNanos / 1e6,
+                this.solved, this.pathWalls, this.pathLength);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package mazes.batch;
+
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.logic.MazeSolver;
+import mazes.logic.carvers.MazeCarver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Runs a batch of mazes as a three-stage pipeline: generate, carve, then solve.
+ *
+ * Each stage has its own pool of worker threads, and consecutive stages are connected by bounded
+ * queues. A stage that gets ahead of the next one blocks once the queue between them is full, so
+ * at most {@code queueCapacity} finished-but-unconsumed mazes wait between any two stages.
+ *
+ * Any {@link mazes.logic.generators.MazeBaseGenerator} and {@link MazeCarver} can be used; they
+ * are created per maze by the {@link BatchConfig}, exactly as in {@link BatchRunner#runOne}.
+ */
+public class MazePipeline {
+    /** Marks the end of a queue; each consuming worker takes exactly one. */
+    private static final Job END = new Job(-1, 0);
+
+    private final BatchConfig config;
+    private final Stage generate;
+    private final Stage carve;
+    private final Stage solve;
+
+    public MazePipeline(BatchConfig config) {
+        this.config = config;
+        this.generate = new Stage("generate", 0, config.generateThreads);
+        this.carve = new Stage("carve", 1, config.carveThreads);
+        this.solve = new Stage("solve", 2, config.solveThreads);
+    }
+
+    /**
+     * Runs the whole batch, passing each result to the given consumer as soon as it is solved
+     * (so not necessarily in maze order). The consumer is only ever called by one thread at a time.
+     *
+     * @throws IllegalStateException if any stage throws; the other stages are then cancelled
+     */
+    public void run(Consumer<BatchRunner.Result> onResult) {
+        BlockingQueue<Job> toCarve = new ArrayBlockingQueue<>(this.config.queueCapacity);
+        BlockingQueue<Job> toSolve = new ArrayBlockingQueue<>(this.config.queueCapacity);
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicInteger generatorsLeft = new AtomicInteger(this.generate.threads);
+        AtomicInteger carversLeft = new AtomicInteger(this.carve.threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            this.generate.threads + this.carve.threads + this.solve.threads);
+        List<Runnable> workers = new ArrayList<>();
+        for (int i = 0; i < this.generate.threads; i++) {
+            workers.add(() -> {
+                int index;
+                while ((index = nextIndex.getAndIncrement()) < this.config.count) {
+                    Job job = new Job(index, this.config.seed + index);
+                    this.generate.time(() -> job.maze =
+                        this.config.createGenerator(job.seed).generateBaseMaze(this.config.boundingBox()), job);
+                    put(toCarve, job);
+                }
+                if (generatorsLeft.decrementAndGet() == 0) {
+                    for (int j = 0; j < this.carve.threads; j++) {
+                        put(toCarve, END);
+                    }
+                }
+            });
+        }
+        for (int i = 0; i < this.carve.threads; i++) {
+            workers.add(() -> {
+                Job job;
+                while ((job = take(toCarve)) != END) {
+                    Job current = job;
+                    this.carve.time(() -> current.carved =
+                        this.config.createCarver(current.seed).carveMaze(current.maze), current);
+                    put(toSolve, current);
+                }
+                if (carversLeft.decrementAndGet() == 0) {
+                    for (int j = 0; j < this.solve.threads; j++) {
+                        put(toSolve, END);
+                    }
+                }
+            });
+        }
+        for (int i = 0; i < this.solve.threads; i++) {
+            workers.add(() -> {
+                MazeSolver solver = this.config.createSolver();
+                Job job;
+                while ((job = take(toSolve)) != END) {
+                    Job current = job;
+                    this.solve.time(() -> current.solution = solver.solveMaze(
+                        current.carved.pathways(), current.maze.getStart(), current.maze.getEnd()), current);
+                    BatchRunner.Result result = current.toResult();
+                    synchronized (onResult) {
+                        onResult.accept(result);
+                    }
+                }
+            });
+        }
+
+        try {
+            for (Runnable worker : workers) {
+                executor.execute(() -> {
+                    try {
+                        worker.run();
+                    } catch (Throwable t) {
+                        if (failure.compareAndSet(null, t)) {
+                            executor.shutdownNow();
+                        }
+                    }
+                });
+            }
+        } catch (RejectedExecutionException e) {
+            // Only a failing worker shuts the pool down, after recording its failure; that failure
+            // is reported below.
+        }
+        executor.shutdown();
+        try {
+            // A failing worker shuts the pool down, so this cannot wait forever on a dead stage.
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for mazes", e);
+        }
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new IllegalStateException("Maze pipeline failed",
+                t instanceof PipelineInterrupted ? t.getCause() : t);
+        }
+    }
+
+    /** Returns the statistics of each stage, in pipeline order. */
+    public List<Stage> stages() {
+        return List.of(this.generate, this.carve, this.solve);
+    }
+
+    private static void put(BlockingQueue<Job> queue, Job job) {
+        try {
+            queue.put(job);
+        } catch (InterruptedException e) {
+            throw new PipelineInterrupted(e);
+        }
+    }
+
+    private static Job take(BlockingQueue<Job> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            throw new PipelineInterrupted(e);
+        }
+    }
+
+    private static class PipelineInterrupted extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        PipelineInterrupted(InterruptedException cause) {
+            super(cause);
+        }
+    }
+
+    /** One maze as it moves through the pipeline. */
+    private static class Job {
+        final int index;
+        final long seed;
+        Maze maze;
+        MazeCarver.CarvedMaze carved;
+        Optional<List<Wall>> solution;
+        final long[] nanos = new long[3];
+
+        Job(int index, long seed) {
+            this.index = index;
+            this.seed = seed;
+        }
+
+        BatchRunner.Result toResult() {
+            return new BatchRunner.Result(this.index, this.seed, this.maze.getRooms().size(),
+                this.carved.walls().size(), this.carved.pathways().size(),
+                this.nanos[0], this.nanos[1], this.nanos[2], this.solution.orElse(null));
+        }
+    }
+
+    /**
+     * Throughput statistics for one pipeline stage.
+     */
+    public static class Stage {
+        private final String name;
+        private final int ordinal;
+        private final int threads;
+        private final AtomicLong items = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+        Stage(String name, int ordinal, int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException(name + " stage needs at least one thread");
+            }
+            this.name = name;
+            this.ordinal = ordinal;
+            this.threads = threads;
+        }
+
+        void time(Runnable work, Job job) {
+            long start = System.nanoTime();
+            work.run();
+            long end = System.nanoTime();
+            job.nanos[this.ordinal] = end - start;
+            this.items.incrementAndGet();
+            this.busyNanos.addAndGet(end - start);
+            this.firstStart.accumulateAndGet(start, Math::min);
+            this.lastEnd.accumulateAndGet(end, Math::max);
+        }
+
+        public String name() {
+            return this.name;
+        }
+
+        public int threads() {
+            return this.threads;
+        }
+
+        public long items() {
+            return this.items.get();
+        }
+
+        /** Returns the total time spent inside this stage, summed over its threads. */
+        public long busyNanos() {
+            return this.busyNanos.get();
+        }
+
+        /** Returns the time from the first item entering this stage to the last one leaving it. */
+        public long wallNanos() {
+            return this.items.get() == 0 ? 0 : this.lastEnd.get() - this.firstStart.get();
+        }
+
+        /** Returns the number of items completed per second of this stage's wall-clock time. */
+        public double throughput() {
+            long wall = wallNanos();
+            return wall == 0 ? 0 : this.items.get() / (wall / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "stage=%s threads=%d items=%d busy_ms=%.3f wall_ms=%.3f items_per_s=%.2f",
+                this.name, this.threads, items(), busyNanos() / 1e6, wallNanos() / 1e6, throughput());
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package mazes.entities;
+
+import java.awt.Point;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A grid maze stored as two bits per cell: whether the wall on its east side and the wall on its
+ * south side are present. A 20,000 x 20,000 grid takes 100 MB.
+ *
+ * Cells are numbered row by row, {@code cell = row * numColumns() + column}. The walls around the
+ * outside of the grid always exist and are not stored.
+ *
+ * No {@link Room} or {@link Wall} objects are kept. When something needs them (for example, the
+ * GUI), {@link #toMaze()}, {@link #presentWalls()} and {@link #removedWalls()} return views that
+ * create them on the fly. The rooms and walls they create are equal to those that
+ * {@link mazes.logic.generators.GridGenerator} creates for the same grid size and bounding box.
+ */
+public class BitGridMaze {
+    public static final int EAST = 0;
+    public static final int SOUTH = 1;
+    public static final int WEST = 2;
+    public static final int NORTH = 3;
+
+    private final int numRows;
+    private final int numColumns;
+    private final long[] bits;
+    // The pixel coordinates of the boundaries between columns and between rows.
+    private final int[] xBounds;
+    private final int[] yBounds;
+    private long numRemoved;
+
+    /**
+     * Creates a grid with every wall present.
+     *
+     * @throws IllegalArgumentException if numRows or numColumns is not positive, or the grid has
+     *                                  more than {@code Integer.MAX_VALUE / 2} cells
+     */
+    public BitGridMaze(int numRows, int numColumns, Rectangle boundingBox) {
+        if (numRows <= 0 || numColumns <= 0) {
+            throw new IllegalArgumentException("The grid must have at least one row and one column");
+        }
+        if ((long) numRows * numColumns > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("The grid has too many cells");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        int numCells = numRows * numColumns;
+        // Two bits per cell, 32 cells per long.
+        this.bits = new long[(int) ((2L * numCells + 63) / 64)];
+        for (int i = 0; i < this.bits.length; i++) {
+            this.bits[i] = -1L;
+        }
+
+        this.xBounds = new int[numColumns + 1];
+        this.yBounds = new int[numRows + 1];
+        double xDelta = 1.0 * boundingBox.width / numColumns;
+        double yDelta = 1.0 * boundingBox.height / numRows;
+        for (int j = 0; j <= numColumns; j++) {
+            this.xBounds[j] = (int) Math.round(j * xDelta + boundingBox.x);
+        }
+        for (int i = 0; i <= numRows; i++) {
+            this.yBounds[i] = (int) Math.round(i * yDelta + boundingBox.y);
+        }
+        this.numRemoved = 0;
+    }
+
+    public int numRows() {
+        return this.numRows;
+    }
+
+    public int numColumns() {
+        return this.numColumns;
+    }
+
+    public int numCells() {
+        return this.numRows * this.numColumns;
+    }
+
+    public int cell(int column, int row) {
+        return row * this.numColumns + column;
+    }
+
+    public int column(int cell) {
+        return cell % this.numColumns;
+    }
+
+    public int row(int cell) {
+        return cell / this.numColumns;
+    }
+
+    /** Returns the number of walls between cells, present or not. */
+    public long numInteriorWalls() {
+        return (long) this.numRows * (this.numColumns - 1) + (long) (this.numRows - 1) * this.numColumns;
+    }
+
+    /** Returns the number of walls between cells that have been removed. */
+    public long numRemovedWalls() {
+        return this.numRemoved;
+    }
+
+    /**
+     * Returns the cell next to the given one in the given direction, ignoring walls, or -1 if that
+     * would be outside the grid.
+     */
+    public int neighbor(int cell, int direction) {
+        switch (direction) {
+            case EAST:
+                return column(cell) + 1 < this.numColumns ? cell + 1 : -1;
+            case SOUTH:
+                return row(cell) + 1 < this.numRows ? cell + this.numColumns : -1;
+            case WEST:
+                return column(cell) > 0 ? cell - 1 : -1;
+            case NORTH:
+                return row(cell) > 0 ? cell - this.numColumns : -1;
+            default:
+                throw new IllegalArgumentException("Invalid direction " + direction);
+        }
+    }
+
+    /**
+     * Returns the cell reachable from the given one in the given direction, or -1 if there is a
+     * wall in the way.
+     */
+    public int openNeighbor(int cell, int direction) {
+        return hasWall(cell, direction) ? -1 : neighbor(cell, direction);
+    }
+
+    /**
+     * Stores the cells reachable in one step from the given cell in {@code out}, which must have
+     * room for four, and returns how many there are.
+     */
+    public int openNeighbors(int cell, int[] out) {
+        int count = 0;
+        for (int direction = EAST; direction <= NORTH; direction++) {
+            int neighbor = openNeighbor(cell, direction);
+            if (neighbor >= 0) {
+                out[count++] = neighbor;
+            }
+        }
+        return count;
+    }
+
+    /** Returns whether there is a wall on the given side of the given cell. */
+    public boolean hasWall(int cell, int direction) {
+        int position = position(cell, direction);
+        return position < 0 || (this.bits[position >>> 6] & (1L << position)) != 0;
+    }
+
+    /**
+     * Removes the wall on the given side of the given cell, if present.
+     *
+     * @throws IllegalArgumentException if the wall is on the outside of the grid
+     */
+    public void removeWall(int cell, int direction) {
+        int position = requireInterior(cell, direction);
+        long mask = 1L << position;
+        if ((this.bits[position >>> 6] & mask) != 0) {
+            this.bits[position >>> 6] &= ~mask;
+            this.numRemoved++;
+        }
+    }
+
+    /**
+     * Puts back the wall on the given side of the given cell, if missing.
+     *
+     * @throws IllegalArgumentException if the wall is on the outside of the grid
+     */
+    public void addWall(int cell, int direction) {
+        int position = requireInterior(cell, direction);
+        long mask = 1L << position;
+        if ((this.bits[position >>> 6] & mask) == 0) {
+            this.bits[position >>> 6] |= mask;
+            this.numRemoved--;
+        }
+    }
+
+    /**
+     * Removes the given wall, as created by {@link #wall}.
+     *
+     * @throws IllegalArgumentException if the wall does not separate two cells of this grid
+     */
+    public void removeWall(Wall wall) {
+        int position = positionOf(wall);
+        if (position < 0) {
+            throw new IllegalArgumentException(wall + " is not a wall of this grid");
+        }
+        removeWall(position >>> 1, position & 1);
+    }
+
+    /** Returns the distance between the centers of the given cell and its neighbor in the given direction. */
+    public double distance(int cell, int direction) {
+        int neighbor = neighbor(cell, direction);
+        if (neighbor < 0) {
+            throw new IllegalArgumentException("There is no cell in direction " + direction);
+        }
+        long dx = centerX(column(cell)) - centerX(column(neighbor));
+        long dy = centerY(row(cell)) - centerY(row(neighbor));
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /** Returns the room of the given cell; a new object every time. */
+    public Room room(int cell) {
+        int column = column(cell);
+        int row = row(cell);
+        int xMin = this.xBounds[column];
+        int xMax = this.xBounds[column + 1];
+        int yMin = this.yBounds[row];
+        int yMax = this.yBounds[row + 1];
+        return new Room(
+            new Point(centerX(column), centerY(row)),
+            new Polygon(new int[]{xMin, xMax, xMax, xMin}, new int[]{yMin, yMin, yMax, yMax}, 4));
+    }
+
+    /**
+     * Returns the wall on the given side of the given cell, whether or not it is present; a new
+     * object every time.
+     *
+     * @throws IllegalArgumentException if the wall is on the outside of the grid
+     */
+    public Wall wall(int cell, int direction) {
+        int position = requireInterior(cell, direction);
+        int first = position >>> 1;
+        // As in GridGenerator: room1 is the east or south cell, and the line is its west or north side.
+        int second = (position & 1) == EAST ? first + 1 : first + this.numColumns;
+        int column = column(second);
+        int row = row(second);
+        Point start = new Point(this.xBounds[column], this.yBounds[row]);
+        Point end = (position & 1) == EAST
+            ? new Point(this.xBounds[column], this.yBounds[row + 1])
+            : new Point(this.xBounds[column + 1], this.yBounds[row]);
+        return new Wall(room(second), room(first), new LineSegment(start, end));
+    }
+
+    /**
+     * Returns this grid as a maze base: every wall between cells is removable, whether or not it
+     * is currently present. The returned sets are views that create rooms and walls as they are
+     * iterated over.
+     */
+    public Maze toMaze() {
+        return new Maze(new RoomSet(), new WallSet(WallSet.ALL), Collections.emptySet(),
+            room(0), room(numCells() - 1));
+    }
+
+    /**
+     * Returns a view of the walls between cells that are currently present.
+     */
+    public Set<Wall> presentWalls() {
+        return new WallSet(WallSet.PRESENT);
+    }
+
+    /**
+     * Returns a view of the walls between cells that have been removed.
+     */
+    public Set<Wall> removedWalls() {
+        return new WallSet(WallSet.REMOVED);
+    }
+
+    /**
+     * Returns the cell of the given room, or -1 if it is not a room of this grid.
+     */
+    public int cellOf(Room room) {
+        Point center = room.getCenter();
+        int column = search(this.xBounds, center.x);
+        int row = search(this.yBounds, center.y);
+        if (column < 0 || row < 0 || centerX(column) != center.x || centerY(row) != center.y) {
+            return -1;
+        }
+        return cell(column, row);
+    }
+
+    private int centerX(int column) {
+        return (int) Math.round((this.xBounds[column] + this.xBounds[column + 1]) / 2.0);
+    }
+
+    private int centerY(int row) {
+        return (int) Math.round((this.yBounds[row] + this.yBounds[row + 1]) / 2.0);
+    }
+
+    /** Returns the i such that bounds[i] <= value < bounds[i + 1], or -1. */
+    private static int search(int[] bounds, int value) {
+        int lo = 0;
+        int hi = bounds.length - 1;
+        if (value < bounds[lo] || value >= bounds[hi]) {
+            return -1;
+        }
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (bounds[mid] <= value) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the bit position of the given wall (twice the west or north cell, plus one for a
+     * south wall), or -1 for a wall on the outside of the grid.
+     */
+    private int position(int cell, int direction) {
+        if (cell < 0 || cell >= numCells()) {
+            throw new IllegalArgumentException(cell + " is not a cell of this grid");
+        }
+        int neighbor = neighbor(cell, direction);
+        if (neighbor < 0) {
+            return -1;
+        }
+        switch (direction) {
+            case EAST:
+                return 2 * cell;
+            case SOUTH:
+                return 2 * cell + 1;
+            case WEST:
+                return 2 * neighbor;
+            default:
+                return 2 * neighbor + 1;
+        }
+    }
+
+    private int requireInterior(int cell, int direction) {
+        int position = position(cell, direction);
+        if (position < 0) {
+            throw new IllegalArgumentException("The wall on side " + direction + " of " + cell
+                + " is on the outside of the grid");
+        }
+        return position;
+    }
+
+    private int positionOf(Wall wall) {
+        int cell1 = cellOf(wall.getRoom1());
+        int cell2 = cellOf(wall.getRoom2());
+        if (cell1 < 0 || cell2 < 0) {
+            return -1;
+        }
+        int west = Math.min(cell1, cell2);
+        int east = Math.max(cell1, cell2);
+        int position;
+        if (east == west + 1 && row(east) == row(west)) {
+            position = 2 * west;
+        } else if (east == west + this.numColumns) {
+            position = 2 * west + 1;
+        } else {
+            return -1;
+        }
+        return wall.equals(wall(west, position & 1)) ? position : -1;
+    }
+
+    private class RoomSet extends AbstractSet<Room> {
+        @Override
+        public Iterator<Room> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < numCells();
+                }
+
+                @Override
+                public Room next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return room(this.next++);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Room)) {
+                return false;
+            }
+            // Rooms are equal if their centers are.
+            return cellOf((Room) o) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return numCells();
+        }
+    }
+
+    private class WallSet extends AbstractSet<Wall> {
+        static final int ALL = 0;
+        static final int PRESENT = 1;
+        static final int REMOVED = 2;
+
+        private final int mode;
+
+        WallSet(int mode) {
+            this.mode = mode;
+        }
+
+        private boolean includes(int position) {
+            if (this.mode == ALL) {
+                return true;
+            }
+            boolean present = (bits[position >>> 6] & (1L << position)) != 0;
+            return present == (this.mode == PRESENT);
+        }
+
+        @Override
+        public Iterator<Wall> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                private int advance(int position) {
+                    int end = 2 * numCells();
+                    while (position < end
+                        && (neighbor(position >>> 1, position & 1) < 0 || !includes(position))) {
+                        position++;
+                    }
+                    return position;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < 2 * numCells();
+                }
+
+                @Override
+                public Wall next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int position = this.next;
+                    this.next = advance(position + 1);
+                    return wall(position >>> 1, position & 1);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Wall)) {
+                return false;
+            }
+            int position = positionOf((Wall) o);
+            return position >= 0 && includes(position);
+        }
+
+        @Override
+        public int size() {
+            long size = this.mode == ALL ? numInteriorWalls()
+                : this.mode == REMOVED ? numRemoved : numInteriorWalls() - numRemoved;
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -24,6 +24,14 @@ public class Room {
         return this.polygon;
     }
 
+    /**
+     * Returns a number identifying this room: two rooms have the same id exactly when they are
+     * equal. This lets rooms be used as keys of primitive maps such as {@link maps.LongIntHashMap}.
+     */
+    public long id() {
+        return ((long) this.center.x << 32) | (this.center.y & 0xFFFFFFFFL);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) { return true; }
@@ -3,6 +3,7 @@ package mazes.gui;
 import mazes.entities.Maze;
 import mazes.entities.Room;
 import mazes.entities.Wall;
+import mazes.logic.FingerprintedWallSet;
 import mazes.logic.MazeSolver;
 import mazes.logic.carvers.MazeCarver;
 import mazes.logic.generators.MazeBaseGenerator;
@@ -109,7 +110,8 @@ public class ControlsPanel extends JPanel {
         Maze baseMaze = generator.generateBaseMaze(bound);
         MazeCarver.CarvedMaze finalMaze = carver.carveMaze(baseMaze);
 
-        this.pathways = finalMaze.pathways();
+        // Fingerprinted once here, so a caching solver need not hash every pathway on each click.
+        this.pathways = new FingerprintedWallSet(finalMaze.pathways());
         this.start = baseMaze.getStart();
         this.end = baseMaze.getEnd();
 
@@ -0,0 +1,377 @@
+package mazes.logic;
+
+import graphs.EdgeWithData;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPath;
+import graphs.shortestpaths.ShortestPathFinder;
+import graphs.shortestpaths.ShortestPathTree;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+
+import java.awt.Point;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link MazeSolver} that remembers the graphs it builds and the answers it finds, so that asking
+ * again about the same maze skips both steps.
+ *
+ * Mazes are recognized by a fingerprint of their pathways: the sum of a 64-bit hash of each wall.
+ * Being a sum, it does not depend on iteration order, and can be kept up to date as pathways are
+ * added or removed one at a time: a {@link FingerprintedWallSet} does so, and its fingerprint is
+ * used instead of being recomputed. Callers can also keep it themselves with
+ * {@link #fingerprint(Wall)} and pass it to {@link #solveMaze(Set, long, Room, Room)}. Two
+ * different sets of pathways with the same fingerprint and size would be mistaken for each other,
+ * but with 64-bit hashes that is vanishingly unlikely.
+ *
+ * What is kept for each maze depends on the shortest path finder. With a
+ * {@link DijkstraShortestPathFinder}, it is the full shortest paths tree from each start room asked
+ * about, so any end room can be solved from a cached start in time proportional to the length of
+ * its path. With any other finder, such as A*, it is the path for each (start, end) pair asked
+ * about. Graphs and answers share one least-recently-used cache, bounded both by number of entries
+ * and by an estimate of the memory they use; a graph is always used at least as recently as its
+ * answers, so it is only evicted once they are gone.
+ *
+ * Grids ({@link #solveMaze(mazes.entities.BitGridMaze)}) and {@link PreparedMaze}s are solved as
+ * usual, without caching.
+ * All methods are synchronized.
+ */
+public class CachingMazeSolver extends MazeSolver {
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    // Rough retained sizes, in bytes, used to estimate the memory used by the cache.
+    private static final long BYTES_PER_ENTRY = 64;
+    private static final long BYTES_PER_PATHWAY = 160;
+    private static final long BYTES_PER_ROOM = 12;
+    private static final long BYTES_PER_PATH_WALL = 8;
+
+    // Null unless trees are cached; otherwise paths are cached, found by the superclass.
+    private final DijkstraShortestPathFinder<MazeGraph, Room, EdgeWithData<Room, Wall>> shortestPathTreeFinder;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<Object, Entry> cache;
+    private long bytes;
+    private long graphHits;
+    private long graphMisses;
+    private long treeHits;
+    private long treeMisses;
+    private long pathHits;
+    private long pathMisses;
+    private long evictions;
+
+    public CachingMazeSolver() {
+        this(new DijkstraShortestPathFinder<>(), DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @see #CachingMazeSolver(ShortestPathFinder, int, long)
+     */
+    public CachingMazeSolver(ShortestPathFinder<MazeGraph, Room, EdgeWithData<Room, Wall>> shortestPathFinder) {
+        this(shortestPathFinder, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Caches the shortest paths trees grown by the given finder if it is a
+     * {@link DijkstraShortestPathFinder}, and the paths it finds otherwise.
+     *
+     * @param maxEntries the maximum number of graphs, trees and paths to keep
+     * @param maxBytes   the maximum estimated memory use of the kept graphs, trees and paths
+     * @throws IllegalArgumentException if maxEntries or maxBytes is not positive
+     */
+    public CachingMazeSolver(ShortestPathFinder<MazeGraph, Room, EdgeWithData<Room, Wall>> shortestPathFinder,
+                             int maxEntries, long maxBytes) {
+        super(shortestPathFinder);
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache limits must be positive");
+        }
+        this.shortestPathTreeFinder = shortestPathFinder instanceof DijkstraShortestPathFinder
+            ? (DijkstraShortestPathFinder<MazeGraph, Room, EdgeWithData<Room, Wall>>) shortestPathFinder : null;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /** Returns the fingerprint of a single wall. */
+    public static long fingerprint(Wall wall) {
+        Point p1 = wall.getRoom1().getCenter();
+        Point p2 = wall.getRoom2().getCenter();
+        long h = mix(((long) p1.x << 32) ^ (p1.y & 0xFFFFFFFFL));
+        return mix(h + (((long) p2.x << 32) ^ (p2.y & 0xFFFFFFFFL)));
+    }
+
+    /** Returns the fingerprint of a set of pathways: the sum of the fingerprints of its walls. */
+    public static long fingerprint(Collection<Wall> pathways) {
+        long sum = 0;
+        for (Wall wall : pathways) {
+            sum += fingerprint(wall);
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * If the pathways are a {@link FingerprintedWallSet}, its fingerprint is used; otherwise, it
+     * is computed, in time proportional to the number of pathways.
+     */
+    @Override
+    public synchronized Optional<List<Wall>> solveMaze(Set<Wall> pathways, Room start, Room end) {
+        long fingerprint = pathways instanceof FingerprintedWallSet
+            ? ((FingerprintedWallSet) pathways).fingerprint() : fingerprint(pathways);
+        return solveMaze(pathways, fingerprint, start, end);
+    }
+
+    /**
+     * Like {@link #solveMaze(Set, Room, Room)}, but with the fingerprint of the pathways given
+     * instead of computed.
+     *
+     * @param fingerprint must equal {@link #fingerprint(Collection)} of the pathways
+     */
+    public synchronized Optional<List<Wall>> solveMaze(Set<Wall> pathways, long fingerprint, Room start, Room end) {
+        MazeKey mazeKey = new MazeKey(fingerprint, pathways.size());
+        if (this.shortestPathTreeFinder == null) {
+            return solveWithPathCache(pathways, mazeKey, start, end);
+        }
+
+        TreeKey treeKey = new TreeKey(mazeKey, start);
+        ShortestPathTree<Room, EdgeWithData<Room, Wall>> tree;
+        Entry treeEntry = this.cache.get(treeKey);
+        if (treeEntry != null) {
+            this.treeHits++;
+            tree = treeEntry.tree;
+            // Keep the graph at least as recent as its trees.
+            this.cache.get(mazeKey);
+        } else {
+            this.treeMisses++;
+            PreparedMaze maze = prepare(pathways, mazeKey);
+            tree = this.shortestPathTreeFinder.shortestPathTree(maze.graph(), start);
+            put(treeKey, new Entry(null, tree, null, BYTES_PER_ENTRY + BYTES_PER_ROOM * maze.graph().numVertices()));
+            this.cache.get(mazeKey);
+            evict();
+        }
+
+        ShortestPath<Room, EdgeWithData<Room, Wall>> shortestPath = tree.pathTo(end);
+        if (shortestPath.exists()) {
+            List<Wall> walls = shortestPath.edges().stream().map(EdgeWithData::data).collect(Collectors.toList());
+            return Optional.of(walls);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<List<Wall>> solveWithPathCache(Set<Wall> pathways, MazeKey mazeKey, Room start, Room end) {
+        PathKey pathKey = new PathKey(mazeKey, start, end);
+        Entry pathEntry = this.cache.get(pathKey);
+        if (pathEntry != null) {
+            this.pathHits++;
+            // Keep the graph at least as recent as its paths.
+            this.cache.get(mazeKey);
+            return pathEntry.path.map(List::copyOf);
+        }
+
+        this.pathMisses++;
+        PreparedMaze maze = prepare(pathways, mazeKey);
+        Optional<List<Wall>> path = solveMaze(maze, start, end);
+        put(pathKey, new Entry(null, null, path.map(List::copyOf),
+            BYTES_PER_ENTRY + BYTES_PER_PATH_WALL * path.map(List::size).orElse(0)));
+        this.cache.get(mazeKey);
+        evict();
+        return path;
+    }
+
+    /**
+     * Returns the cached graph of the maze, building and caching it if needed.
+     */
+    private PreparedMaze prepare(Set<Wall> pathways, MazeKey mazeKey) {
+        Entry mazeEntry = this.cache.get(mazeKey);
+        if (mazeEntry != null) {
+            this.graphHits++;
+            return mazeEntry.maze;
+        }
+        this.graphMisses++;
+        PreparedMaze maze = new PreparedMaze(pathways);
+        put(mazeKey, new Entry(maze, null, null, BYTES_PER_ENTRY + BYTES_PER_PATHWAY * maze.numPathways()));
+        return maze;
+    }
+
+    /** Empties the cache. The counters are kept. */
+    public synchronized void clear() {
+        this.cache.clear();
+        this.bytes = 0;
+    }
+
+    /** Returns the number of graphs, trees and paths in the cache. */
+    public synchronized int size() {
+        return this.cache.size();
+    }
+
+    /** Returns the estimated memory used by the graphs, trees and paths in the cache. */
+    public synchronized long estimatedBytes() {
+        return this.bytes;
+    }
+
+    /** Returns the number of times a graph was found in the cache instead of built. */
+    public synchronized long graphHits() {
+        return this.graphHits;
+    }
+
+    /** Returns the number of times a graph had to be built. */
+    public synchronized long graphMisses() {
+        return this.graphMisses;
+    }
+
+    /** Returns the number of times a shortest paths tree was found in the cache. */
+    public synchronized long treeHits() {
+        return this.treeHits;
+    }
+
+    /** Returns the number of times a shortest paths tree had to be computed. */
+    public synchronized long treeMisses() {
+        return this.treeMisses;
+    }
+
+    /** Returns the number of times a path was found in the cache, when paths are cached. */
+    public synchronized long pathHits() {
+        return this.pathHits;
+    }
+
+    /** Returns the number of times a path had to be found, when paths are cached. */
+    public synchronized long pathMisses() {
+        return this.pathMisses;
+    }
+
+    /** Returns the number of graphs, trees and paths evicted from the cache. */
+    public synchronized long evictions() {
+        return this.evictions;
+    }
+
+    private void put(Object key, Entry entry) {
+        this.cache.put(key, entry);
+        this.bytes += entry.bytes;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Object, Entry>> eldest = this.cache.entrySet().iterator();
+        while (eldest.hasNext() && (this.cache.size() > this.maxEntries || this.bytes > this.maxBytes)) {
+            this.bytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+            this.evictions++;
+        }
+    }
+
+    /** Finalizer to mix the bits of a hash (from MurmurHash3). */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static class Entry {
+        final PreparedMaze maze;
+        final ShortestPathTree<Room, EdgeWithData<Room, Wall>> tree;
+        final Optional<List<Wall>> path;
+        final long bytes;
+
+        Entry(PreparedMaze maze, ShortestPathTree<Room, EdgeWithData<Room, Wall>> tree, Optional<List<Wall>> path,
+              long bytes) {
+            this.maze = maze;
+            this.tree = tree;
+            this.path = path;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class MazeKey {
+        final long fingerprint;
+        final int size;
+
+        MazeKey(long fingerprint, int size) {
+            this.fingerprint = fingerprint;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MazeKey other = (MazeKey) o;
+            return this.fingerprint == other.fingerprint && this.size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this.fingerprint) * 31 + this.size;
+        }
+    }
+
+    private static class TreeKey {
+        final MazeKey maze;
+        final Room start;
+
+        TreeKey(MazeKey maze, Room start) {
+            this.maze = maze;
+            this.start = start;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TreeKey other = (TreeKey) o;
+            return this.maze.equals(other.maze) && Objects.equals(this.start, other.start);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.maze.hashCode() * 31 + Objects.hashCode(this.start);
+        }
+    }
+
+    private static class PathKey {
+        final MazeKey maze;
+        final Room start;
+        final Room end;
+
+        PathKey(MazeKey maze, Room start, Room end) {
+            this.maze = maze;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PathKey other = (PathKey) o;
+            return this.maze.equals(other.maze) && Objects.equals(this.start, other.start)
+                && Objects.equals(this.end, other.end);
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.maze.hashCode() * 31 + Objects.hashCode(this.start)) * 31 + Objects.hashCode(this.end);
+        }
+    }
+}
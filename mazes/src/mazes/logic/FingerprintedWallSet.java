@@ -0,0 +1,95 @@
+package mazes.logic;
+
+import mazes.entities.Wall;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * A set of walls that keeps its {@link CachingMazeSolver#fingerprint(Collection) fingerprint} up
+ * to date as walls are added and removed, so that a {@link CachingMazeSolver} can look up the maze
+ * it describes without hashing every wall again.
+ */
+public class FingerprintedWallSet extends AbstractSet<Wall> {
+    private final Set<Wall> walls;
+    private long fingerprint;
+
+    public FingerprintedWallSet() {
+        this.walls = new HashSet<>();
+    }
+
+    /**
+     * Constructs a set containing the given walls, in time proportional to their number.
+     */
+    public FingerprintedWallSet(Collection<Wall> walls) {
+        this.walls = new HashSet<>(walls);
+        this.fingerprint = CachingMazeSolver.fingerprint(this.walls);
+    }
+
+    /** Returns the fingerprint of the walls currently in this set. */
+    public long fingerprint() {
+        return this.fingerprint;
+    }
+
+    @Override
+    public boolean add(Wall wall) {
+        if (!this.walls.add(wall)) {
+            return false;
+        }
+        this.fingerprint += CachingMazeSolver.fingerprint(wall);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!this.walls.remove(o)) {
+            return false;
+        }
+        this.fingerprint -= CachingMazeSolver.fingerprint((Wall) o);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return this.walls.contains(o);
+    }
+
+    @Override
+    public void clear() {
+        this.walls.clear();
+        this.fingerprint = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.walls.size();
+    }
+
+    @Override
+    public Iterator<Wall> iterator() {
+        Iterator<Wall> iterator = this.walls.iterator();
+        return new Iterator<>() {
+            private Wall last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Wall next() {
+                this.last = iterator.next();
+                return this.last;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                FingerprintedWallSet.this.fingerprint -= CachingMazeSolver.fingerprint(this.last);
+            }
+        };
+    }
+}
@@ -1,21 +1,140 @@
 package mazes.logic;
 
 import graphs.AdjacencyListUndirectedGraph;
+import graphs.CsrUndirectedGraph;
 import graphs.EdgeWithData;
+import graphs.IndexedGraph;
+import graphs.KruskalGraph;
 import mazes.entities.Room;
 import mazes.entities.Wall;
 
 import java.util.Collection;
 
 /**
- * A convenience class that sets the generic parameters for a {@link AdjacencyListUndirectedGraph}
- * representing a maze.
+ * A convenience class that sets the generic parameters for an undirected graph representing a
+ * maze, and lets callers choose how that graph is stored.
+ *
+ * Both representations implement {@link IndexedGraph}, so {@code DijkstraShortestPathFinder}
+ * runs on primitive arrays for maze graphs.
+ *
+ * This class is not a subtype of {@link AdjacencyListUndirectedGraph}: it implements the graph
+ * interfaces and delegates to whichever representation was chosen, so that a {@code CSR} maze
+ * graph does not also pay for an adjacency list it never uses. Code that needs an
+ * {@code AdjacencyListUndirectedGraph} should construct one from {@link #allEdges()}.
  */
-public class MazeGraph extends AdjacencyListUndirectedGraph<Room, EdgeWithData<Room, Wall>> {
+public class MazeGraph implements KruskalGraph<Room, EdgeWithData<Room, Wall>>,
+    IndexedGraph<Room, EdgeWithData<Room, Wall>> {
+
+    /** The underlying graph representation. */
+    public enum Representation {
+        /** A {@link AdjacencyListUndirectedGraph}; outgoing edges are returned as sets. */
+        ADJACENCY_LIST,
+        /** A {@link CsrUndirectedGraph}; much more compact, but immutable. */
+        CSR
+    }
+
+    private final Representation representation;
+    private final Delegate graph;
+
     /**
      * @see AdjacencyListUndirectedGraph#AdjacencyListUndirectedGraph(Collection)
      */
     public MazeGraph(Collection<EdgeWithData<Room, Wall>> edges) {
-        super(edges);
+        this(edges, Representation.ADJACENCY_LIST);
+    }
+
+    /**
+     * @see AdjacencyListUndirectedGraph#AdjacencyListUndirectedGraph(Collection)
+     * @see CsrUndirectedGraph#CsrUndirectedGraph(Collection)
+     */
+    public MazeGraph(Collection<EdgeWithData<Room, Wall>> edges, Representation representation) {
+        this.representation = representation;
+        switch (representation) {
+            case ADJACENCY_LIST:
+                this.graph = new AdjacencyListDelegate(edges);
+                break;
+            case CSR:
+                this.graph = new CsrDelegate(edges);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown representation: " + representation);
+        }
+    }
+
+    public Representation representation() {
+        return this.representation;
+    }
+
+    @Override
+    public Collection<EdgeWithData<Room, Wall>> outgoingEdgesFrom(Room vertex) {
+        return this.graph.outgoingEdgesFrom(vertex);
+    }
+
+    @Override
+    public Collection<Room> allVertices() {
+        return this.graph.allVertices();
+    }
+
+    @Override
+    public Collection<EdgeWithData<Room, Wall>> allEdges() {
+        return this.graph.allEdges();
+    }
+
+    @Override
+    public int numVertices() {
+        return this.graph.numVertices();
+    }
+
+    @Override
+    public int indexOf(Room vertex) {
+        return this.graph.indexOf(vertex);
+    }
+
+    @Override
+    public Room vertexAt(int index) {
+        return this.graph.vertexAt(index);
+    }
+
+    @Override
+    public int outgoingEdgesStart(int index) {
+        return this.graph.outgoingEdgesStart(index);
+    }
+
+    @Override
+    public int outgoingEdgesEnd(int index) {
+        return this.graph.outgoingEdgesEnd(index);
+    }
+
+    @Override
+    public int edgeTarget(int edge) {
+        return this.graph.edgeTarget(edge);
+    }
+
+    @Override
+    public double edgeWeight(int edge) {
+        return this.graph.edgeWeight(edge);
+    }
+
+    @Override
+    public EdgeWithData<Room, Wall> edgeAt(int edge) {
+        return this.graph.edgeAt(edge);
+    }
+
+    private interface Delegate extends KruskalGraph<Room, EdgeWithData<Room, Wall>>,
+        IndexedGraph<Room, EdgeWithData<Room, Wall>> {
+    }
+
+    private static class AdjacencyListDelegate
+        extends AdjacencyListUndirectedGraph<Room, EdgeWithData<Room, Wall>> implements Delegate {
+        AdjacencyListDelegate(Collection<EdgeWithData<Room, Wall>> edges) {
+            super(edges);
+        }
+    }
+
+    private static class CsrDelegate
+        extends CsrUndirectedGraph<Room, EdgeWithData<Room, Wall>> implements Delegate {
+        CsrDelegate(Collection<EdgeWithData<Room, Wall>> edges) {
+            super(edges);
+        }
     }
 }
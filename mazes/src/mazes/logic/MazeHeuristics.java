@@ -0,0 +1,21 @@
+package mazes.logic;
+
+import mazes.entities.Room;
+
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Heuristics for {@link graphs.shortestpaths.AStarShortestPathFinder} on a {@link MazeGraph}.
+ */
+public class MazeHeuristics {
+    private MazeHeuristics() {}
+
+    /**
+     * The straight-line distance between the centers of two rooms.
+     *
+     * Since every maze edge is weighted by the distance between the centers of the rooms it
+     * connects, this never overestimates the remaining path length.
+     */
+    public static final ToDoubleBiFunction<Room, Room> EUCLIDEAN =
+        (room, end) -> room.getCenter().distance(end.getCenter());
+}
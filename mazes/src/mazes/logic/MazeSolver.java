@@ -3,9 +3,13 @@ package mazes.logic;
 import graphs.EdgeWithData;
 import graphs.shortestpaths.ShortestPath;
 import graphs.shortestpaths.ShortestPathFinder;
+import mazes.entities.BitGridMaze;
 import mazes.entities.Room;
 import mazes.entities.Wall;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -25,23 +29,21 @@ public class MazeSolver {
     /**
      * Returns an optional containing the list of pathway "walls" to traverse to get from start to
      * end, if possible. If no path exists, returns an empty Optional.
+     *
+     * The graph of the pathways is built anew on every call; to solve the same maze repeatedly,
+     * build a {@link PreparedMaze} once and use {@link #solveMaze(PreparedMaze, Room, Room)}.
      */
     public Optional<List<Wall>> solveMaze(Set<Wall> pathways, Room start, Room end) {
-        /*
-        From the given walls, construct a new MazeGraph with an edge for each wall.
-
-        (The vertices are the rooms on either side of the wall,
-        and the weight is the distance between the centers of the two rooms.
-        Each edge also stores the Wall instance it represents so that we can recover the
-        Walls after running the ShortestPathFinder.)
-        */
-        List<EdgeWithData<Room, Wall>> edges = pathways.stream()
-            .map(wall -> new EdgeWithData<>(wall.getRoom1(), wall.getRoom2(), wall.getDistance(), wall))
-            .collect(Collectors.toList());
-        MazeGraph graph = new MazeGraph(edges);
+        return solveMaze(new PreparedMaze(pathways), start, end);
+    }
 
+    /**
+     * Returns an optional containing the list of pathway "walls" to traverse to get from start to
+     * end in the given prepared maze, if possible. If no path exists, returns an empty Optional.
+     */
+    public Optional<List<Wall>> solveMaze(PreparedMaze maze, Room start, Room end) {
         ShortestPath<Room, EdgeWithData<Room, Wall>> shortestPath = shortestPathFinder.findShortestPath(
-            graph, start, end);
+            maze.graph(), start, end);
 
         // Extract the wall from each edge in the shortest path.
         if (shortestPath.exists()) {
@@ -50,4 +52,128 @@ public class MazeSolver {
         }
         return Optional.empty();
     }
+
+    /**
+     * Returns an optional containing the list of pathway "walls" to traverse to get from the first
+     * to the last cell of the given grid, if possible. If no path exists, returns an empty Optional.
+     *
+     * The grid is searched directly, with Dijkstra's algorithm over cell numbers, instead of with
+     * this solver's {@link ShortestPathFinder}; only the walls on the path are ever created. Instead
+     * of a distance and a queue slot per cell, it keeps three bits per cell (whether the cell is
+     * done, and the direction it was reached from), plus the cells on the frontier of the search:
+     * about 150 MB for a 20,000 x 20,000 grid, on top of the 100 MB of the grid itself.
+     */
+    public Optional<List<Wall>> solveMaze(BitGridMaze grid) {
+        int numCells = grid.numCells();
+        int start = 0;
+        int end = numCells - 1;
+        // One bit per cell: whether its shortest distance is known.
+        long[] settled = new long[(numCells + 63) >>> 6];
+        // Two bits per cell: the direction in which its predecessor on the shortest path lies.
+        long[] cameFrom = new long[(numCells + 31) >>> 5];
+
+        // A cell may be on the frontier several times, once per neighbor that reached it; only the
+        // first time it is removed counts, since that is with its shortest distance.
+        GridFrontier frontier = new GridFrontier();
+        frontier.add(start, BitGridMaze.EAST, 0.0);
+        boolean found = false;
+        while (!frontier.isEmpty()) {
+            double distance = frontier.minDistance();
+            int curr = frontier.minCell();
+            int from = frontier.minDirection();
+            frontier.removeMin();
+            if ((settled[curr >>> 6] & (1L << curr)) != 0) {
+                continue;
+            }
+            settled[curr >>> 6] |= 1L << curr;
+            cameFrom[curr >>> 5] |= (long) from << (2 * (curr & 31));
+            if (curr == end) {
+                found = true;
+                break;
+            }
+            for (int direction = BitGridMaze.EAST; direction <= BitGridMaze.NORTH; direction++) {
+                int neighbor = grid.openNeighbor(curr, direction);
+                if (neighbor >= 0 && (settled[neighbor >>> 6] & (1L << neighbor)) == 0) {
+                    frontier.add(neighbor, (direction + 2) % 4, distance + grid.distance(curr, direction));
+                }
+            }
+        }
+
+        if (!found) {
+            return Optional.empty();
+        }
+        List<Wall> walls = new ArrayList<>();
+        for (int curr = end; curr != start; ) {
+            int direction = (int) (cameFrom[curr >>> 5] >>> (2 * (curr & 31))) & 3;
+            walls.add(grid.wall(curr, direction));
+            curr = grid.neighbor(curr, direction);
+        }
+        Collections.reverse(walls);
+        return Optional.of(walls);
+    }
+
+    /**
+     * A binary min-heap of cells by distance, each with the direction it was reached from, kept in
+     * flat arrays that grow as needed.
+     */
+    private static class GridFrontier {
+        private double[] distances = new double[16];
+        // The cell times four, plus the direction.
+        private long[] cells = new long[16];
+        private int size;
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        double minDistance() {
+            return this.distances[0];
+        }
+
+        int minCell() {
+            return (int) (this.cells[0] >>> 2);
+        }
+
+        int minDirection() {
+            return (int) (this.cells[0] & 3);
+        }
+
+        void add(int cell, int direction, double distance) {
+            if (this.size == this.distances.length) {
+                this.distances = Arrays.copyOf(this.distances, 2 * this.size);
+                this.cells = Arrays.copyOf(this.cells, 2 * this.size);
+            }
+            long packed = ((long) cell << 2) | direction;
+            int i = this.size++;
+            while (i > 0 && this.distances[(i - 1) >>> 1] > distance) {
+                int parent = (i - 1) >>> 1;
+                this.distances[i] = this.distances[parent];
+                this.cells[i] = this.cells[parent];
+                i = parent;
+            }
+            this.distances[i] = distance;
+            this.cells[i] = packed;
+        }
+
+        void removeMin() {
+            this.size--;
+            double distance = this.distances[this.size];
+            long packed = this.cells[this.size];
+            int i = 0;
+            while (2 * i + 1 < this.size) {
+                int child = 2 * i + 1;
+                if (child + 1 < this.size && this.distances[child + 1] < this.distances[child]) {
+                    child++;
+                }
+                if (this.distances[child] >= distance) {
+                    break;
+                }
+                this.distances[i] = this.distances[child];
+                this.cells[i] = this.cells[child];
+                i = child;
+            }
+            this.distances[i] = distance;
+            this.cells[i] = packed;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package mazes.logic;
+
+import graphs.EdgeWithData;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.logic.carvers.MazeCarver;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The pathways of a carved maze, already built into a graph, so that the maze can be solved many
+ * times (between any rooms) without building the graph again.
+ *
+ * The graph is stored in the compact {@link MazeGraph.Representation#CSR} form; it never changes
+ * after construction.
+ *
+ * @see MazeSolver#solveMaze(PreparedMaze, Room, Room)
+ */
+public class PreparedMaze {
+    private final MazeGraph graph;
+    private final int numPathways;
+
+    public PreparedMaze(MazeCarver.CarvedMaze maze) {
+        this(maze.pathways());
+    }
+
+    public PreparedMaze(Collection<Wall> pathways) {
+        /*
+        Construct a graph with an edge for each pathway.
+
+        (The vertices are the rooms on either side of the wall,
+        and the weight is the distance between the centers of the two rooms.
+        Each edge also stores the Wall instance it represents so that we can recover the
+        Walls after running a ShortestPathFinder.)
+        */
+        List<EdgeWithData<Room, Wall>> edges = pathways.stream()
+            .map(wall -> new EdgeWithData<>(wall.getRoom1(), wall.getRoom2(), wall.getDistance(), wall))
+            .collect(Collectors.toList());
+        this.graph = new MazeGraph(edges, MazeGraph.Representation.CSR);
+        this.numPathways = edges.size();
+    }
+
+    /** Returns the graph of the pathways. */
+    public MazeGraph graph() {
+        return this.graph;
+    }
+
+    /** Returns the number of pathways in this maze. */
+    public int numPathways() {
+        return this.numPathways;
+    }
+}
@@ -0,0 +1,119 @@
+package mazes.logic.carvers;
+
+import mazes.entities.BitGridMaze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Carves out a grid maze with Eller's algorithm, one row at a time.
+ *
+ * The walls are first arranged into a grid by the centers of their rooms; the carving itself then
+ * only keeps the state of one row (see {@link EllerRowCarver}). To carve grids too tall to hold
+ * in memory, use {@link EllerRowCarver} directly, as the streaming grid generator does.
+ *
+ * Only works on complete rectangular grids, such as those made by
+ * {@link mazes.logic.generators.GridGenerator}. A {@link BitGridMaze} is carved directly, without
+ * creating any rooms or walls.
+ */
+public class EllerMazeCarver extends MazeCarver {
+    private final Random rand;
+
+    public EllerMazeCarver() {
+        this.rand = new Random();
+    }
+
+    public EllerMazeCarver(long seed) {
+        this.rand = new Random(seed);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the walls do not form a complete rectangular grid
+     */
+    @Override
+    protected Set<Wall> chooseWallsToRemove(Set<Wall> walls) {
+        Set<Room> rooms = new HashSet<>();
+        for (Wall wall : walls) {
+            rooms.add(wall.getRoom1());
+            rooms.add(wall.getRoom2());
+        }
+        int[] xs = rooms.stream().mapToInt(room -> room.getCenter().x).distinct().sorted().toArray();
+        int[] ys = rooms.stream().mapToInt(room -> room.getCenter().y).distinct().sorted().toArray();
+        int width = xs.length;
+        int height = ys.length;
+        if ((long) width * height != rooms.size()) {
+            throw new IllegalArgumentException("Rooms do not form a rectangular grid");
+        }
+
+        // east[row * width + col] separates (col, row) from (col + 1, row); south, from (col, row + 1).
+        Wall[] east = new Wall[width * height];
+        Wall[] south = new Wall[width * height];
+        for (Wall wall : walls) {
+            int col1 = Arrays.binarySearch(xs, wall.getRoom1().getCenter().x);
+            int row1 = Arrays.binarySearch(ys, wall.getRoom1().getCenter().y);
+            int col2 = Arrays.binarySearch(xs, wall.getRoom2().getCenter().x);
+            int row2 = Arrays.binarySearch(ys, wall.getRoom2().getCenter().y);
+            if (row1 == row2 && Math.abs(col1 - col2) == 1) {
+                east[row1 * width + Math.min(col1, col2)] = wall;
+            } else if (col1 == col2 && Math.abs(row1 - row2) == 1) {
+                south[Math.min(row1, row2) * width + col1] = wall;
+            } else {
+                throw new IllegalArgumentException("Wall does not separate adjacent grid cells: " + wall);
+            }
+        }
+
+        Set<Wall> toRemove = new HashSet<>();
+        EllerRowCarver carver = new EllerRowCarver(width, this.rand);
+        boolean[] eastOpen = new boolean[width];
+        boolean[] southOpen = new boolean[width];
+        for (int row = 0; row < height; row++) {
+            carver.nextRow(row == height - 1, eastOpen, southOpen);
+            for (int col = 0; col < width; col++) {
+                if (col + 1 < width && eastOpen[col]) {
+                    toRemove.add(requireWall(east[row * width + col]));
+                }
+                if (southOpen[col]) {
+                    toRemove.add(requireWall(south[row * width + col]));
+                }
+            }
+        }
+        return toRemove;
+    }
+
+    /**
+     * Carves the given grid row by row, directly on its bits, using only {@code O(numColumns)}
+     * extra memory.
+     */
+    @Override
+    public CarvedMaze carveMaze(BitGridMaze grid) {
+        int width = grid.numColumns();
+        int height = grid.numRows();
+        EllerRowCarver carver = new EllerRowCarver(width, this.rand);
+        boolean[] eastOpen = new boolean[width];
+        boolean[] southOpen = new boolean[width];
+        for (int row = 0; row < height; row++) {
+            carver.nextRow(row == height - 1, eastOpen, southOpen);
+            for (int col = 0; col < width; col++) {
+                int cell = grid.cell(col, row);
+                if (col + 1 < width && eastOpen[col]) {
+                    grid.removeWall(cell, BitGridMaze.EAST);
+                }
+                if (southOpen[col]) {
+                    grid.removeWall(cell, BitGridMaze.SOUTH);
+                }
+            }
+        }
+        return new CarvedMaze(grid.presentWalls(), grid.removedWalls());
+    }
+
+    private static Wall requireWall(Wall wall) {
+        if (wall == null) {
+            throw new IllegalArgumentException("Grid is missing a wall between adjacent cells");
+        }
+        return wall;
+    }
+}
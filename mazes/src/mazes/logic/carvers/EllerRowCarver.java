@@ -0,0 +1,123 @@
+package mazes.logic.carvers;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * The row-by-row core of Eller's algorithm, which carves a perfect grid maze while remembering
+ * only the current row.
+ *
+ * Each call to {@link #nextRow} decides, for one row of {@code width} cells, which walls between
+ * horizontally adjacent cells and which walls to the row below to remove. The only state carried
+ * from one row to the next is which cells of the current row belong to the same set (that is, are
+ * already connected through earlier rows), so memory use is {@code O(width)} no matter how many
+ * rows are carved.
+ *
+ * Within a row, adjacent cells in different sets are joined at random; then every set gets at
+ * least one opening downwards, so no set is cut off. On the last row, all remaining sets are
+ * joined, which makes the whole maze connected.
+ */
+public class EllerRowCarver {
+    private final int width;
+    private final Random rand;
+    // For each column, the set carried down from the previous row, or -1 for a fresh cell. Sets
+    // carried down are named by a column in [0, width); fresh ones by width + column.
+    private final int[] labels;
+    private final int[] parent;
+    private final int[] firstWithLabel;
+    private final int[] lastInSet;
+    private final boolean[] setOpensDown;
+    private boolean finished;
+
+    /**
+     * @throws IllegalArgumentException if width is not positive
+     */
+    public EllerRowCarver(int width, Random rand) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("Width must be positive");
+        }
+        this.width = width;
+        this.rand = rand;
+        this.labels = new int[width];
+        this.parent = new int[width];
+        this.firstWithLabel = new int[2 * width];
+        this.lastInSet = new int[width];
+        this.setOpensDown = new boolean[width];
+        Arrays.fill(this.labels, -1);
+        this.finished = false;
+    }
+
+    public int width() {
+        return this.width;
+    }
+
+    /**
+     * Carves the next row.
+     *
+     * @param lastRow    whether this is the last row of the maze
+     * @param eastOpen   set to whether the wall between column i and i + 1 is removed; must have
+     *                   at least {@code width - 1} entries
+     * @param southOpen  set to whether the wall between column i and the row below is removed; must
+     *                   have at least {@code width} entries. Always all false on the last row.
+     * @throws IllegalStateException if the last row has already been carved
+     */
+    public void nextRow(boolean lastRow, boolean[] eastOpen, boolean[] southOpen) {
+        if (this.finished) {
+            throw new IllegalStateException("The last row has already been carved");
+        }
+        this.finished = lastRow;
+        int w = this.width;
+
+        // Rebuild the sets of this row from the labels carried down.
+        Arrays.fill(this.firstWithLabel, -1);
+        for (int c = 0; c < w; c++) {
+            this.parent[c] = c;
+            int label = this.labels[c] >= 0 ? this.labels[c] : w + c;
+            if (this.firstWithLabel[label] < 0) {
+                this.firstWithLabel[label] = c;
+            } else {
+                this.parent[c] = find(this.firstWithLabel[label]);
+            }
+        }
+
+        for (int c = 0; c + 1 < w; c++) {
+            int root1 = find(c);
+            int root2 = find(c + 1);
+            eastOpen[c] = root1 != root2 && (lastRow || this.rand.nextBoolean());
+            if (eastOpen[c]) {
+                this.parent[root2] = root1;
+            }
+        }
+
+        if (lastRow) {
+            Arrays.fill(southOpen, 0, w, false);
+            return;
+        }
+        for (int c = 0; c < w; c++) {
+            int root = find(c);
+            this.lastInSet[root] = c;
+            this.setOpensDown[root] = false;
+        }
+        for (int c = 0; c < w; c++) {
+            int root = find(c);
+            // The last cell of a set that has no opening yet must open, or the set is cut off.
+            boolean open = this.rand.nextBoolean() || (this.lastInSet[root] == c && !this.setOpensDown[root]);
+            southOpen[c] = open;
+            if (open) {
+                this.setOpensDown[root] = true;
+            }
+        }
+        for (int c = 0; c < w; c++) {
+            this.labels[c] = southOpen[c] ? find(c) : -1;
+        }
+    }
+
+    private int find(int column) {
+        int curr = column;
+        while (this.parent[curr] != curr) {
+            this.parent[curr] = this.parent[this.parent[curr]];
+            curr = this.parent[curr];
+        }
+        return curr;
+    }
+}
@@ -1,5 +1,6 @@
 package mazes.logic.carvers;
 
+import mazes.entities.BitGridMaze;
 import mazes.entities.Maze;
 import mazes.entities.Wall;
 
@@ -31,6 +32,21 @@ public abstract class MazeCarver {
         return new CarvedMaze(walls, pathways);
     }
 
+    /**
+     * Carves the given grid maze in place, removing walls from it, and returns views of the walls
+     * kept and removed.
+     *
+     * By default, this runs {@link #chooseWallsToRemove} on a view of the grid's walls, so any
+     * carver works, but the carver's own data structures are as large as ever. Carvers that can
+     * work on the bits directly override this.
+     */
+    public CarvedMaze carveMaze(BitGridMaze grid) {
+        for (Wall wall : this.chooseWallsToRemove(grid.toMaze().getRemovableWalls())) {
+            grid.removeWall(wall);
+        }
+        return new CarvedMaze(grid.presentWalls(), grid.removedWalls());
+    }
+
     /**
      * The output of {@link #carveMaze}; contains `walls`, the set of walls to keep, and `pathways`,
      * the set of walls to remove.
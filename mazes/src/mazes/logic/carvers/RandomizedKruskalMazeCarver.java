@@ -0,0 +1,49 @@
+package mazes.logic.carvers;
+
+import disjointsets.IntDisjointSets;
+
+import java.util.BitSet;
+
+/**
+ * Carves out a maze with randomized Kruskal's algorithm, without building a graph.
+ *
+ * Giving every wall a random weight and running Kruskal's algorithm is the same as visiting the
+ * walls in a random order, so this carver shuffles the wall ids and removes each wall whose rooms
+ * are not yet connected, tracked with an {@link IntDisjointSets}. It stops as soon as every room
+ * is connected.
+ *
+ * @see KruskalMazeCarver
+ */
+public class RandomizedKruskalMazeCarver extends StreamingMazeCarver {
+    public RandomizedKruskalMazeCarver() {
+        super();
+    }
+
+    public RandomizedKruskalMazeCarver(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected void carve(WallTopology topology, BitSet pathways) {
+        int numWalls = topology.numWalls();
+        int[] order = new int[numWalls];
+        for (int w = 0; w < numWalls; w++) {
+            order[w] = w;
+        }
+        IntDisjointSets sets = new IntDisjointSets(topology.numRooms());
+        for (int r = 0; r < topology.numRooms(); r++) {
+            sets.makeSet();
+        }
+
+        // Shuffle lazily: each step picks a random wall among those not yet visited.
+        for (int i = 0; i < numWalls && sets.numSets() > 1; i++) {
+            int j = i + this.rand.nextInt(numWalls - i);
+            int wall = order[j];
+            order[j] = order[i];
+            order[i] = wall;
+            if (sets.union(topology.room1(wall), topology.room2(wall))) {
+                pathways.set(wall);
+            }
+        }
+    }
+}
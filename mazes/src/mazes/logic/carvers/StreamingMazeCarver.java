@@ -0,0 +1,45 @@
+package mazes.logic.carvers;
+
+import mazes.entities.Wall;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A carver that works directly on the walls of a maze base, indexed as a {@link WallTopology},
+ * instead of building a {@link mazes.logic.MazeGraph} of weighted edges.
+ *
+ * Subclasses only decide which wall ids to remove; the chosen {@link Wall} objects are looked up
+ * once, at the end.
+ */
+public abstract class StreamingMazeCarver extends MazeCarver {
+    protected final Random rand;
+
+    protected StreamingMazeCarver() {
+        this.rand = new Random();
+    }
+
+    protected StreamingMazeCarver(long seed) {
+        this.rand = new Random(seed);
+    }
+
+    @Override
+    protected Set<Wall> chooseWallsToRemove(Set<Wall> walls) {
+        WallTopology topology = new WallTopology(walls);
+        BitSet pathways = new BitSet(topology.numWalls());
+        this.carve(topology, pathways);
+
+        Set<Wall> result = new HashSet<>();
+        for (int w = pathways.nextSetBit(0); w >= 0; w = pathways.nextSetBit(w + 1)) {
+            result.add(topology.wall(w));
+        }
+        return result;
+    }
+
+    /**
+     * Sets the bit of every wall in the given topology that should be removed.
+     */
+    protected abstract void carve(WallTopology topology, BitSet pathways);
+}
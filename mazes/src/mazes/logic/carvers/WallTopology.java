@@ -0,0 +1,119 @@
+package mazes.logic.carvers;
+
+import maps.LongIntHashMap;
+import mazes.entities.Wall;
+
+import java.util.Collection;
+
+/**
+ * An int-indexed view of the rooms and walls of a maze base, for carvers that work directly on
+ * walls instead of building a {@link mazes.logic.MazeGraph}.
+ *
+ * Rooms are numbered {@code 0 .. numRooms() - 1} in the order they are first seen, and walls
+ * {@code 0 .. numWalls() - 1} in iteration order. Each room's walls are stored contiguously in
+ * compressed sparse row form, so iterating over a room's neighbors allocates nothing:
+ *
+ * <pre>
+ * for (int i = topology.neighborsStart(room); i &lt; topology.neighborsEnd(room); i++) {
+ *     int neighbor = topology.neighbor(i);
+ *     int wall = topology.wallAt(i);
+ * }
+ * </pre>
+ *
+ * Every wall appears once in the adjacency of each of its rooms. Rooms without any walls do not
+ * appear at all.
+ */
+public class WallTopology {
+    private final Wall[] walls;
+    private final int[] room1;
+    private final int[] room2;
+    private final int numRooms;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final int[] wallIds;
+
+    /**
+     * Indexes the given walls.
+     */
+    public WallTopology(Collection<Wall> walls) {
+        this.walls = walls.toArray(new Wall[0]);
+        int m = this.walls.length;
+        this.room1 = new int[m];
+        this.room2 = new int[m];
+        LongIntHashMap ids = new LongIntHashMap(m);
+        for (int w = 0; w < m; w++) {
+            this.room1[w] = ids.putIfAbsent(this.walls[w].getRoom1().id(), ids.size());
+            this.room2[w] = ids.putIfAbsent(this.walls[w].getRoom2().id(), ids.size());
+        }
+        this.numRooms = ids.size();
+
+        this.offsets = new int[this.numRooms + 1];
+        for (int w = 0; w < m; w++) {
+            this.offsets[this.room1[w] + 1]++;
+            this.offsets[this.room2[w] + 1]++;
+        }
+        for (int r = 0; r < this.numRooms; r++) {
+            this.offsets[r + 1] += this.offsets[r];
+        }
+        this.neighbors = new int[2 * m];
+        this.wallIds = new int[2 * m];
+        int[] next = new int[this.numRooms];
+        System.arraycopy(this.offsets, 0, next, 0, this.numRooms);
+        for (int w = 0; w < m; w++) {
+            int i = next[this.room1[w]]++;
+            this.neighbors[i] = this.room2[w];
+            this.wallIds[i] = w;
+            int j = next[this.room2[w]]++;
+            this.neighbors[j] = this.room1[w];
+            this.wallIds[j] = w;
+        }
+    }
+
+    public int numRooms() {
+        return this.numRooms;
+    }
+
+    public int numWalls() {
+        return this.walls.length;
+    }
+
+    /** Returns the wall with the given id. */
+    public Wall wall(int wall) {
+        return this.walls[wall];
+    }
+
+    /** Returns the id of {@link Wall#getRoom1()} of the given wall. */
+    public int room1(int wall) {
+        return this.room1[wall];
+    }
+
+    /** Returns the id of {@link Wall#getRoom2()} of the given wall. */
+    public int room2(int wall) {
+        return this.room2[wall];
+    }
+
+    /** Returns the first adjacency index of the given room. */
+    public int neighborsStart(int room) {
+        return this.offsets[room];
+    }
+
+    /** Returns one past the last adjacency index of the given room. */
+    public int neighborsEnd(int room) {
+        return this.offsets[room + 1];
+    }
+
+    /** Returns the number of walls of the given room. */
+    public int degree(int room) {
+        return this.offsets[room + 1] - this.offsets[room];
+    }
+
+    /** Returns the room on the other side of the wall at the given adjacency index. */
+    public int neighbor(int index) {
+        return this.neighbors[index];
+    }
+
+    /** Returns the id of the wall at the given adjacency index. */
+    public int wallAt(int index) {
+        return this.wallIds[index];
+    }
+}
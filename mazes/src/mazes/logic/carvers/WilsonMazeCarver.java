@@ -0,0 +1,62 @@
+package mazes.logic.carvers;
+
+import disjointsets.IntDisjointSets;
+
+import java.util.BitSet;
+
+/**
+ * Carves out a maze with Wilson's algorithm, which picks uniformly at random among all spanning
+ * trees of the maze base.
+ *
+ * Starting from a tree containing a single room, each remaining room performs a random walk until
+ * it hits the tree; the walk remembers only the last wall it left each room by, which erases any
+ * loops, and the resulting path is added to the tree. Each walk needs nothing but an {@code int}
+ * per room.
+ */
+public class WilsonMazeCarver extends StreamingMazeCarver {
+    public WilsonMazeCarver() {
+        super();
+    }
+
+    public WilsonMazeCarver(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected void carve(WallTopology topology, BitSet pathways) {
+        int numRooms = topology.numRooms();
+        boolean[] inTree = new boolean[numRooms];
+        // The adjacency index by which the current walk last left each room.
+        int[] exit = new int[numRooms];
+
+        // A walk can only end in a tree within its own component, so seed each component with its
+        // own root; usually there is just one.
+        IntDisjointSets components = new IntDisjointSets(numRooms);
+        for (int r = 0; r < numRooms; r++) {
+            components.makeSet();
+        }
+        for (int w = 0; w < topology.numWalls(); w++) {
+            components.union(topology.room1(w), topology.room2(w));
+        }
+        for (int r = 0; r < numRooms; r++) {
+            if (components.find(r) == r) {
+                inTree[r] = true;
+            }
+        }
+
+        for (int start = 0; start < numRooms; start++) {
+            int curr = start;
+            while (!inTree[curr]) {
+                int i = topology.neighborsStart(curr) + this.rand.nextInt(topology.degree(curr));
+                exit[curr] = i;
+                curr = topology.neighbor(i);
+            }
+            curr = start;
+            while (!inTree[curr]) {
+                inTree[curr] = true;
+                pathways.set(topology.wallAt(exit[curr]));
+                curr = topology.neighbor(exit[curr]);
+            }
+        }
+    }
+}
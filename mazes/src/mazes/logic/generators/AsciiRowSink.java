@@ -0,0 +1,58 @@
+package mazes.logic.generators;
+
+import java.io.PrintStream;
+
+/**
+ * Writes a streamed grid maze as ASCII art, two lines per row, for example:
+ *
+ * <pre>
+ * +--+--+
+ * |     |
+ * +--+  +
+ * |     |
+ * +--+--+
+ * </pre>
+ */
+public class AsciiRowSink implements StreamingMazeGenerator.RowSink {
+    private final PrintStream out;
+    private final StringBuilder line;
+    private int width;
+
+    public AsciiRowSink(PrintStream out) {
+        this.out = out;
+        this.line = new StringBuilder();
+    }
+
+    @Override
+    public void begin(int width, long height) {
+        this.width = width;
+        this.line.setLength(0);
+        this.line.append('+');
+        for (int c = 0; c < width; c++) {
+            this.line.append("--+");
+        }
+        this.out.println(this.line);
+    }
+
+    @Override
+    public void acceptRow(long row, boolean[] eastOpen, boolean[] southOpen) {
+        this.line.setLength(0);
+        this.line.append('|');
+        for (int c = 0; c < this.width; c++) {
+            this.line.append("  ").append(c + 1 < this.width && eastOpen[c] ? ' ' : '|');
+        }
+        this.out.println(this.line);
+
+        this.line.setLength(0);
+        this.line.append('+');
+        for (int c = 0; c < this.width; c++) {
+            this.line.append(southOpen[c] ? "  " : "--").append('+');
+        }
+        this.out.println(this.line);
+    }
+
+    @Override
+    public void end() {
+        this.out.flush();
+    }
+}
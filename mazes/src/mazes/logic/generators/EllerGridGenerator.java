@@ -0,0 +1,44 @@
+package mazes.logic.generators;
+
+import mazes.logic.carvers.EllerRowCarver;
+
+import java.util.Random;
+
+/**
+ * Streams a perfect grid maze row by row using Eller's algorithm, in {@code O(numColumns)} memory
+ * regardless of the number of rows.
+ *
+ * The same seed always produces the same maze.
+ */
+public class EllerGridGenerator extends StreamingMazeGenerator {
+    private final long numRows;
+    private final int numColumns;
+    private final long seed;
+
+    /**
+     * Accepts the number of rows and columns the grid ought to have.
+     *
+     * @throws IllegalArgumentException if either is not positive
+     */
+    public EllerGridGenerator(long numRows, int numColumns, long seed) {
+        if (numRows <= 0 || numColumns <= 0) {
+            throw new IllegalArgumentException("The grid must have at least one row and one column");
+        }
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.seed = seed;
+    }
+
+    @Override
+    public void generate(RowSink sink) {
+        EllerRowCarver carver = new EllerRowCarver(this.numColumns, new Random(this.seed));
+        boolean[] eastOpen = new boolean[this.numColumns];
+        boolean[] southOpen = new boolean[this.numColumns];
+        sink.begin(this.numColumns, this.numRows);
+        for (long row = 0; row < this.numRows; row++) {
+            carver.nextRow(row == this.numRows - 1, eastOpen, southOpen);
+            sink.acceptRow(row, eastOpen, southOpen);
+        }
+        sink.end();
+    }
+}
@@ -1,5 +1,6 @@
 package mazes.logic.generators;
 
+import mazes.entities.BitGridMaze;
 import mazes.entities.LineSegment;
 import mazes.entities.Maze;
 import mazes.entities.Room;
@@ -37,6 +38,14 @@ public class GridGenerator extends MazeBaseGenerator {
                 grid[grid.length - 1][grid[0].length - 1]);
     }
 
+    /**
+     * Generates the same maze base as {@link #generateBaseMaze}, stored compactly as a
+     * {@link BitGridMaze} with every wall present.
+     */
+    public BitGridMaze generateBitGridMaze(Rectangle boundingBox) {
+        return new BitGridMaze(this.numRows, this.numColumns, boundingBox);
+    }
+
     private Room[][] buildRooms(Rectangle boundingBox) {
         Room[][] grid = new Room[this.numColumns][this.numRows];
 
@@ -0,0 +1,44 @@
+package mazes.logic.generators;
+
+/**
+ * A class responsible for generating an already-carved grid maze one row at a time, handing each
+ * row to a {@link RowSink} instead of building a {@link mazes.entities.Maze}.
+ *
+ * Unlike a {@link MazeBaseGenerator} followed by a {@link mazes.logic.carvers.MazeCarver}, no
+ * rooms or walls are ever materialized, so the height of the maze is not limited by memory.
+ */
+public abstract class StreamingMazeGenerator {
+    /**
+     * Generates the maze, passing its rows to the given sink in order from top to bottom.
+     */
+    public abstract void generate(RowSink sink);
+
+    /**
+     * Receives the rows of a streamed grid maze.
+     */
+    public interface RowSink {
+        /**
+         * Called once, before the first row.
+         */
+        default void begin(int width, long height) {
+        }
+
+        /**
+         * Called once per row, in order. The arrays are reused for the next row, so they must not
+         * be kept.
+         *
+         * @param row       the index of the row, starting at 0 at the top
+         * @param eastOpen  {@code eastOpen[i]} is whether there is a passage between column i and
+         *                  i + 1; only the first {@code width - 1} entries are meaningful
+         * @param southOpen {@code southOpen[i]} is whether there is a passage between column i and
+         *                  the same column of the next row; all false on the last row
+         */
+        void acceptRow(long row, boolean[] eastOpen, boolean[] southOpen);
+
+        /**
+         * Called once, after the last row.
+         */
+        default void end() {
+        }
+    }
+}
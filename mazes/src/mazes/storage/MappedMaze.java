@@ -0,0 +1,219 @@
+package mazes.storage;
+
+import graphs.EdgeWithData;
+import graphs.IndexedGraph;
+import graphs.KruskalGraph;
+import mazes.entities.LineSegment;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A carved maze read from a memory-mapped {@link MazeFile}. Every query reads straight from the
+ * mapped file; nothing is copied onto the heap.
+ *
+ * Rooms are identified by their ids in the file and walls by theirs. As a graph, the vertices are
+ * room ids and there is an edge for every pathway (removed wall), weighted by the distance between
+ * the room centers and carrying the wall id as its data, so any
+ * {@link graphs.shortestpaths.ShortestPathFinder} can solve the maze directly:
+ *
+ * <pre>
+ * MappedMaze maze = MazeFile.open(path);
+ * new DijkstraShortestPathFinder&lt;MappedMaze, Integer, EdgeWithData&lt;Integer, Integer&gt;&gt;()
+ *     .findShortestPath(maze, maze.start(), maze.end());
+ * </pre>
+ *
+ * Through {@link IndexedGraph}, the outgoing edge ranges also include walls that are still
+ * present, with infinite weight, so that searches never cross them.
+ */
+public class MappedMaze implements KruskalGraph<Integer, EdgeWithData<Integer, Integer>>,
+    IndexedGraph<Integer, EdgeWithData<Integer, Integer>> {
+    private final int numRooms;
+    private final int numWalls;
+    private final int start;
+    private final int end;
+    private final IntBuffer centers;
+    private final IntBuffer offsets;
+    private final IntBuffer neighbors;
+    private final IntBuffer wallIds;
+    private final IntBuffer wallRooms;
+    private final IntBuffer lines;
+    private final LongBuffer pathways;
+
+    MappedMaze(int numRooms, int numWalls, int start, int end, ByteBuffer[] sections) {
+        this.numRooms = numRooms;
+        this.numWalls = numWalls;
+        this.start = start;
+        this.end = end;
+        this.centers = sections[MazeFile.CENTERS].asIntBuffer();
+        this.offsets = sections[MazeFile.OFFSETS].asIntBuffer();
+        this.neighbors = sections[MazeFile.NEIGHBORS].asIntBuffer();
+        this.wallIds = sections[MazeFile.WALL_IDS].asIntBuffer();
+        this.wallRooms = sections[MazeFile.WALL_ROOMS].asIntBuffer();
+        this.lines = sections[MazeFile.LINES].asIntBuffer();
+        this.pathways = sections[MazeFile.PATHWAYS].asLongBuffer();
+    }
+
+    public int numRooms() {
+        return this.numRooms;
+    }
+
+    public int numWalls() {
+        return this.numWalls;
+    }
+
+    /** Returns the id of the start room, or -1 if the maze had none. */
+    public int start() {
+        return this.start;
+    }
+
+    /** Returns the id of the end room, or -1 if the maze had none. */
+    public int end() {
+        return this.end;
+    }
+
+    public int centerX(int room) {
+        return this.centers.get(2 * room);
+    }
+
+    public int centerY(int room) {
+        return this.centers.get(2 * room + 1);
+    }
+
+    public Point center(int room) {
+        return new Point(centerX(room), centerY(room));
+    }
+
+    public int room1(int wall) {
+        return this.wallRooms.get(wall);
+    }
+
+    public int room2(int wall) {
+        return this.wallRooms.get(this.numWalls + wall);
+    }
+
+    /** Returns whether the given wall has been removed. */
+    public boolean isPathway(int wall) {
+        return (this.pathways.get(wall >>> 6) & (1L << wall)) != 0;
+    }
+
+    public LineSegment dividingLine(int wall) {
+        return new LineSegment(
+            new Point(this.lines.get(4 * wall), this.lines.get(4 * wall + 1)),
+            new Point(this.lines.get(4 * wall + 2), this.lines.get(4 * wall + 3)));
+    }
+
+    /** Returns the distance between the centers of the given rooms. */
+    public double distance(int room1, int room2) {
+        long dx = centerX(room1) - centerX(room2);
+        long dy = centerY(room1) - centerY(room2);
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /** Returns the wall at the given adjacency index. */
+    public int wallAt(int edge) {
+        return this.wallIds.get(edge);
+    }
+
+    // IndexedGraph
+
+    @Override
+    public int numVertices() {
+        return this.numRooms;
+    }
+
+    @Override
+    public int indexOf(Integer vertex) {
+        return vertex != null && vertex >= 0 && vertex < this.numRooms ? vertex : -1;
+    }
+
+    @Override
+    public Integer vertexAt(int index) {
+        return index;
+    }
+
+    @Override
+    public int outgoingEdgesStart(int index) {
+        return this.offsets.get(index);
+    }
+
+    @Override
+    public int outgoingEdgesEnd(int index) {
+        return this.offsets.get(index + 1);
+    }
+
+    @Override
+    public int edgeTarget(int edge) {
+        return this.neighbors.get(edge);
+    }
+
+    @Override
+    public double edgeWeight(int edge) {
+        int wall = wallAt(edge);
+        if (!isPathway(wall)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return distance(room1(wall), room2(wall));
+    }
+
+    @Override
+    public EdgeWithData<Integer, Integer> edgeAt(int edge) {
+        int target = edgeTarget(edge);
+        int wall = wallAt(edge);
+        int source = room1(wall) == target ? room2(wall) : room1(wall);
+        return new EdgeWithData<>(source, target, edgeWeight(edge), wall);
+    }
+
+    // KruskalGraph
+
+    @Override
+    public Collection<EdgeWithData<Integer, Integer>> outgoingEdgesFrom(Integer vertex) {
+        List<EdgeWithData<Integer, Integer>> edges = new ArrayList<>();
+        int index = indexOf(vertex);
+        if (index < 0) {
+            return edges;
+        }
+        for (int edge = outgoingEdgesStart(index); edge < outgoingEdgesEnd(index); edge++) {
+            if (isPathway(wallAt(edge))) {
+                edges.add(edgeAt(edge));
+            }
+        }
+        return edges;
+    }
+
+    @Override
+    public Collection<Integer> allVertices() {
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return numRooms;
+            }
+        };
+    }
+
+    /**
+     * Returns one edge, from room1 to room2, for every pathway. Unlike the other methods, this
+     * scans every wall and copies the pathways into a new list.
+     */
+    @Override
+    public Collection<EdgeWithData<Integer, Integer>> allEdges() {
+        List<EdgeWithData<Integer, Integer>> edges = new ArrayList<>();
+        for (int wall = 0; wall < this.numWalls; wall++) {
+            if (isPathway(wall)) {
+                edges.add(new EdgeWithData<>(room1(wall), room2(wall), distance(room1(wall), room2(wall)), wall));
+            }
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,278 @@
+package mazes.storage;
+
+import maps.LongIntHashMap;
+import mazes.entities.LineSegment;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.logic.carvers.MazeCarver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes carved mazes in a flat binary format that can be memory-mapped and used
+ * without deserializing anything.
+ *
+ * All numbers are little-endian. The file starts with a 64-byte header of ints: the magic number
+ * {@code "MAZE"}, the format version, the number of rooms {@code n}, the number of walls {@code m},
+ * the start room and the end room, followed by zeros. Then come these sections, each starting at
+ * a multiple of 8 bytes:
+ *
+ * <ol>
+ *     <li>room centers: {@code n} pairs of ints {@code (x, y)}</li>
+ *     <li>offsets: {@code n + 1} ints; the walls of room {@code r} are at adjacency indices
+ *         {@code [offsets[r], offsets[r + 1])}</li>
+ *     <li>neighbors: {@code 2m} ints, the room on the other side of each adjacency entry</li>
+ *     <li>wall ids: {@code 2m} ints, the wall of each adjacency entry</li>
+ *     <li>wall rooms: {@code m} ints for {@link Wall#getRoom1()}, then {@code m} for
+ *         {@link Wall#getRoom2()}</li>
+ *     <li>dividing lines: {@code m} quadruples of ints {@code (x1, y1, x2, y2)}</li>
+ *     <li>pathways: {@code ceil(m / 64)} longs; bit {@code w % 64} of long {@code w / 64} is set
+ *         if wall {@code w} has been removed</li>
+ * </ol>
+ *
+ * Each section must fit in 2 GB, so that it can be mapped as one buffer; the file as a whole may
+ * be larger.
+ */
+public class MazeFile {
+    static final int MAGIC = 0x4D415A45;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    static final int CENTERS = 0;
+    static final int OFFSETS = 1;
+    static final int NEIGHBORS = 2;
+    static final int WALL_IDS = 3;
+    static final int WALL_ROOMS = 4;
+    static final int LINES = 5;
+    static final int PATHWAYS = 6;
+    private static final int NUM_SECTIONS = 7;
+
+    private MazeFile() {
+    }
+
+    /**
+     * Writes the given carved maze to the given file, replacing it if it exists.
+     *
+     * @throws IllegalArgumentException if the maze is too large for the format
+     */
+    public static void write(Path path, Maze maze, MazeCarver.CarvedMaze carved) throws IOException {
+        LongIntHashMap ids = new LongIntHashMap(maze.getRooms().size());
+        for (Room room : maze.getRooms()) {
+            ids.putIfAbsent(room.id(), ids.size());
+        }
+        // Pathways first, so that the pathway bits are simply the first carved.pathways().size() walls.
+        List<Wall> walls = new ArrayList<>(carved.pathways());
+        walls.addAll(carved.walls());
+        List<Room> rooms = new ArrayList<>(maze.getRooms());
+        for (Wall wall : walls) {
+            addRoom(ids, rooms, wall.getRoom1());
+            addRoom(ids, rooms, wall.getRoom2());
+        }
+        int n = rooms.size();
+        int m = walls.size();
+        long[] sections = layout(n, m);
+
+        int[] room1 = new int[m];
+        int[] room2 = new int[m];
+        int[] offsets = new int[n + 1];
+        for (int w = 0; w < m; w++) {
+            room1[w] = ids.get(walls.get(w).getRoom1().id(), -1);
+            room2[w] = ids.get(walls.get(w).getRoom2().id(), -1);
+            offsets[room1[w] + 1]++;
+            offsets[room2[w] + 1]++;
+        }
+        for (int r = 0; r < n; r++) {
+            offsets[r + 1] += offsets[r];
+        }
+        int[] neighbors = new int[2 * m];
+        int[] wallIds = new int[2 * m];
+        int[] next = new int[n];
+        System.arraycopy(offsets, 0, next, 0, n);
+        for (int w = 0; w < m; w++) {
+            int i = next[room1[w]]++;
+            neighbors[i] = room2[w];
+            wallIds[i] = w;
+            int j = next[room2[w]]++;
+            neighbors[j] = room1[w];
+            wallIds[j] = w;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            Output out = new Output(channel);
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putInt(n);
+            out.putInt(m);
+            out.putInt(idOf(ids, maze.getStart()));
+            out.putInt(idOf(ids, maze.getEnd()));
+
+            out.padTo(sections[CENTERS]);
+            for (Room room : rooms) {
+                out.putInt(room.getCenter().x);
+                out.putInt(room.getCenter().y);
+            }
+            out.padTo(sections[OFFSETS]);
+            out.putInts(offsets);
+            out.padTo(sections[NEIGHBORS]);
+            out.putInts(neighbors);
+            out.padTo(sections[WALL_IDS]);
+            out.putInts(wallIds);
+            out.padTo(sections[WALL_ROOMS]);
+            out.putInts(room1);
+            out.putInts(room2);
+            out.padTo(sections[LINES]);
+            for (Wall wall : walls) {
+                LineSegment line = wall.getDividingLine();
+                out.putInt(line.start.x);
+                out.putInt(line.start.y);
+                out.putInt(line.end.x);
+                out.putInt(line.end.y);
+            }
+            out.padTo(sections[PATHWAYS]);
+            int numPathways = carved.pathways().size();
+            for (int w = 0; w < m; w += 64) {
+                long word = 0;
+                for (int bit = 0; bit < 64 && w + bit < numPathways; bit++) {
+                    word |= 1L << bit;
+                }
+                out.putLong(word);
+            }
+            out.flush();
+        }
+    }
+
+    private static void addRoom(LongIntHashMap ids, List<Room> rooms, Room room) {
+        if (!ids.containsKey(room.id())) {
+            ids.put(room.id(), ids.size());
+            rooms.add(room);
+        }
+    }
+
+    private static int idOf(LongIntHashMap ids, Room room) {
+        return room == null ? -1 : ids.get(room.id(), -1);
+    }
+
+    /**
+     * Maps the given maze file into memory.
+     *
+     * @throws IOException if the file cannot be read or is not a maze file
+     */
+    public static MappedMaze open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a maze file: " + path);
+            }
+            ByteBuffer header = map(channel, 0, HEADER_BYTES);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a maze file: " + path);
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported maze file version " + header.getInt(4) + ": " + path);
+            }
+            int n = header.getInt(8);
+            int m = header.getInt(12);
+            long[] sections = layout(n, m);
+            if (channel.size() < sections[NUM_SECTIONS]) {
+                throw new IOException("Truncated maze file: " + path);
+            }
+            ByteBuffer[] buffers = new ByteBuffer[NUM_SECTIONS];
+            for (int s = 0; s < NUM_SECTIONS; s++) {
+                buffers[s] = map(channel, sections[s], sections[s + 1] - sections[s]);
+            }
+            // The mappings stay valid after the channel is closed.
+            return new MappedMaze(n, m, header.getInt(16), header.getInt(20), buffers);
+        }
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns the byte offset of each section, followed by the end of the file.
+     */
+    static long[] layout(int numRooms, int numWalls) {
+        long[] sizes = new long[NUM_SECTIONS];
+        sizes[CENTERS] = 8L * numRooms;
+        sizes[OFFSETS] = 4L * (numRooms + 1);
+        sizes[NEIGHBORS] = 8L * numWalls;
+        sizes[WALL_IDS] = 8L * numWalls;
+        sizes[WALL_ROOMS] = 8L * numWalls;
+        sizes[LINES] = 16L * numWalls;
+        sizes[PATHWAYS] = 8L * ((numWalls + 63L) / 64);
+
+        long[] offsets = new long[NUM_SECTIONS + 1];
+        offsets[0] = HEADER_BYTES;
+        for (int s = 0; s < NUM_SECTIONS; s++) {
+            if (sizes[s] > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Maze is too large: section " + s + " needs " + sizes[s] + " bytes");
+            }
+            offsets[s + 1] = (offsets[s] + sizes[s] + 7) / 8 * 8;
+        }
+        return offsets;
+    }
+
+    /**
+     * Writes to a channel through a small reusable buffer.
+     */
+    private static class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            this.position = 0;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(4);
+            this.buffer.putInt(value);
+            this.position += 4;
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(8);
+            this.buffer.putLong(value);
+            this.position += 8;
+        }
+
+        void putInts(int[] values) throws IOException {
+            for (int value : values) {
+                putInt(value);
+            }
+        }
+
+        void padTo(long offset) throws IOException {
+            while (this.position < offset) {
+                ensureRemaining(1);
+                this.buffer.put((byte) 0);
+                this.position++;
+            }
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (this.buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            this.buffer.flip();
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            this.buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package disjointsets;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentIntDisjointSetsTests extends BaseTest {
+
+    @Test
+    void find_initially_returnsOwnId() {
+        ConcurrentIntDisjointSets sets = new ConcurrentIntDisjointSets(3);
+
+        assertThat(sets.find(0)).isEqualTo(0);
+        assertThat(sets.find(2)).isEqualTo(2);
+        assertThat(sets.size()).isEqualTo(3);
+    }
+
+    @Test
+    void find_missingElement_throwsIllegalArgument() {
+        ConcurrentIntDisjointSets sets = new ConcurrentIntDisjointSets(3);
+
+        assertThatThrownBy(() -> sets.find(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sets.find(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void union_sameSet_returnsFalse() {
+        ConcurrentIntDisjointSets sets = new ConcurrentIntDisjointSets(3);
+
+        assertThat(sets.union(0, 1)).isTrue();
+        assertThat(sets.union(1, 0)).isFalse();
+        assertThat(sets.union(2, 2)).isFalse();
+        assertThat(sets.connected(0, 1)).isTrue();
+        assertThat(sets.connected(0, 2)).isFalse();
+    }
+
+    @Test
+    void concurrentUnions_eachMergeSucceedsExactlyOnce() throws InterruptedException {
+        int numElements = 10_000;
+        ConcurrentIntDisjointSets sets = new ConcurrentIntDisjointSets(numElements);
+        AtomicInteger merges = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                Random rand = new Random(seed);
+                for (int i = 0; i < numElements; i++) {
+                    if (sets.union(rand.nextInt(numElements), rand.nextInt(numElements))) {
+                        merges.incrementAndGet();
+                    }
+                }
+                // Every thread also joins everything into one set, racing with the others.
+                for (int i = 1; i < numElements; i++) {
+                    if (sets.union(i - 1, i)) {
+                        merges.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(merges.get()).isEqualTo(numElements - 1);
+        int root = sets.find(0);
+        for (int i = 0; i < numElements; i++) {
+            assertThat(sets.find(i)).isEqualTo(root);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package disjointsets;
+
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+import utils.IntWrapper;
+
+import java.util.Random;
+
+public class IntDisjointSetsTests extends BaseTest {
+
+    protected IntDisjointSets createDisjointSets(int numElements) {
+        IntDisjointSets sets = new IntDisjointSets(2);
+        for (int i = 0; i < numElements; i++) {
+            assertThat(sets.makeSet()).isEqualTo(i);
+        }
+        return sets;
+    }
+
+    @Test
+    void find_afterMakeSet_returnsOwnId() {
+        IntDisjointSets sets = createDisjointSets(3);
+
+        assertThat(sets.find(0)).isEqualTo(0);
+        assertThat(sets.find(2)).isEqualTo(2);
+        assertThat(sets.numSets()).isEqualTo(3);
+    }
+
+    @Test
+    void find_missingElement_throwsIllegalArgument() {
+        IntDisjointSets sets = createDisjointSets(3);
+
+        assertThatThrownBy(() -> sets.find(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sets.find(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void union_sameSet_returnsFalse() {
+        IntDisjointSets sets = createDisjointSets(3);
+
+        assertThat(sets.union(0, 1)).isTrue();
+        assertThat(sets.union(1, 0)).isFalse();
+        assertThat(sets.union(2, 2)).isFalse();
+        assertThat(sets.numSets()).isEqualTo(2);
+    }
+
+    @Test
+    void union_smallerIntoLarger_keepsLargerRoot() {
+        IntDisjointSets sets = createDisjointSets(4);
+        sets.union(0, 1);
+        sets.union(0, 2);
+        int root = sets.find(0);
+
+        sets.union(3, 2);
+
+        assertThat(sets.find(3)).isEqualTo(root);
+        assertThat(sets.setSize(3)).isEqualTo(4);
+    }
+
+    @Test
+    void randomUnions_matchNaiveComponents() {
+        int n = 500;
+        IntDisjointSets sets = createDisjointSets(n);
+        int[] naive = new int[n];
+        for (int i = 0; i < n; i++) {
+            naive[i] = i;
+        }
+        Random rand = new Random(373);
+        for (int i = 0; i < 400; i++) {
+            int a = rand.nextInt(n);
+            int b = rand.nextInt(n);
+            boolean expected = naive[a] != naive[b];
+            if (expected) {
+                int old = naive[a];
+                for (int j = 0; j < n; j++) {
+                    if (naive[j] == old) {
+                        naive[j] = naive[b];
+                    }
+                }
+            }
+            assertThat(sets.union(a, b)).isEqualTo(expected);
+        }
+        for (int i = 0; i < 2000; i++) {
+            int a = rand.nextInt(n);
+            int b = rand.nextInt(n);
+            assertThat(sets.connected(a, b)).isEqualTo(naive[a] == naive[b]);
+        }
+    }
+
+    @Test
+    void arrayDisjointSets_customItems_unionsByEquality() {
+        ArrayDisjointSets<IntWrapper> sets = new ArrayDisjointSets<>();
+        for (int i = 0; i < 4; i++) {
+            sets.makeSet(new IntWrapper(i));
+        }
+
+        assertThat(sets.union(new IntWrapper(0), new IntWrapper(1))).isTrue();
+        assertThat(sets.union(new IntWrapper(2), new IntWrapper(1))).isTrue();
+        assertThat(sets.union(new IntWrapper(0), new IntWrapper(2))).isFalse();
+        assertThat(sets.findSet(new IntWrapper(2))).isEqualTo(sets.findSet(new IntWrapper(0)));
+        assertThat(sets.findSet(new IntWrapper(3))).isNotEqualTo(sets.findSet(new IntWrapper(0)));
+        assertThat(sets.numSets()).isEqualTo(2);
+    }
+
+    @Test
+    void arrayDisjointSets_missingOrDuplicateItem_throwsIllegalArgument() {
+        ArrayDisjointSets<String> sets = new ArrayDisjointSets<>();
+        sets.makeSet("a");
+
+        assertThatThrownBy(() -> sets.makeSet("a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sets.findSet("b")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sets.union("a", "b")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package graphs;
+
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+public class CsrUndirectedGraphTests extends BaseGraphTests {
+
+    protected <V, E extends BaseEdge<V, E>> CsrUndirectedGraph<V, E> csrGraph(List<E> edges) {
+        return new CsrUndirectedGraph<>(edges);
+    }
+
+    private List<Edge<Integer>> randomEdges(int numVertices, int numEdges, long seed) {
+        Random rand = new Random(seed);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < numEdges; i++) {
+            edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(10)));
+        }
+        return edges;
+    }
+
+    @Test
+    void outgoingEdgesFrom_matchesAdjacencyListGraph() {
+        List<Edge<Integer>> edges = randomEdges(50, 200, 373);
+        AdjacencyListUndirectedGraph<Integer, Edge<Integer>> expected = graph(edges);
+        CsrUndirectedGraph<Integer, Edge<Integer>> actual = csrGraph(edges);
+
+        assertThat(actual.allVertices()).containsExactlyInAnyOrderElementsOf(expected.allVertices());
+        assertThat(actual.allEdges()).containsExactlyInAnyOrderElementsOf(expected.allEdges());
+        for (Integer vertex : expected.allVertices()) {
+            assertThat(actual.outgoingEdgesFrom(vertex))
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(expected.outgoingEdgesFrom(vertex));
+        }
+    }
+
+    @Test
+    void constructor_ignoresDuplicateAndReversedEdges() {
+        CsrUndirectedGraph<String, Edge<String>> graph = csrGraph(List.of(
+            edge("a", "b", 1),
+            edge("a", "b", 1),
+            edge("b", "a", 1),
+            edge("a", "b", 2)));
+
+        assertThat(graph.allEdges()).containsExactly(edge("a", "b", 1), edge("a", "b", 2));
+        assertThat(graph.outgoingEdgesFrom("b")).containsExactlyInAnyOrder(edge("b", "a", 1), edge("b", "a", 2));
+    }
+
+    @Test
+    void constructor_verticesWithEqualHashCodes_keepsThemApart() {
+        // "AaAa", "AaBB", "BBAa" and "BBBB" all have the same hash code.
+        CsrUndirectedGraph<String, Edge<String>> graph = csrGraph(List.of(
+            edge("AaAa", "BBBB", 1),
+            edge("AaBB", "BBAa", 2),
+            edge("BBBB", "AaAa", 1),
+            edge("BBAa", "AaAa", 3)));
+
+        assertThat(graph.allVertices()).containsExactly("AaAa", "BBBB", "AaBB", "BBAa");
+        assertThat(graph.allEdges()).containsExactly(
+            edge("AaAa", "BBBB", 1), edge("AaBB", "BBAa", 2), edge("BBAa", "AaAa", 3));
+        for (int v = 0; v < graph.numVertices(); v++) {
+            assertThat(graph.indexOf(graph.vertexAt(v))).isEqualTo(v);
+        }
+        assertThat(graph.indexOf("BBBBAa")).isEqualTo(-1);
+        assertThat(graph.outgoingEdgesFrom("AaAa")).containsExactlyInAnyOrder(
+            edge("AaAa", "BBBB", 1), edge("AaAa", "BBAa", 3));
+    }
+
+    @Test
+    void outgoingEdgesFrom_selfLoop_appearsOnce() {
+        CsrUndirectedGraph<String, Edge<String>> graph = csrGraph(List.of(edge("a", "a", 1), edge("a", "b", 1)));
+
+        assertThat(graph.outgoingEdgesFrom("a")).containsExactlyInAnyOrder(edge("a", "a", 1), edge("a", "b", 1));
+    }
+
+    @Test
+    void outgoingEdgesFrom_vertexNotInGraph_returnsEmpty() {
+        CsrUndirectedGraph<String, Edge<String>> graph = csrGraph(List.of(edge("a", "b", 1)));
+
+        assertThat(graph.outgoingEdgesFrom("c")).isEmpty();
+        assertThat(graph.indexOf("c")).isEqualTo(-1);
+    }
+
+    @Test
+    void constructor_nullVertex_throwsNullPointer() {
+        List<Edge<String>> edges = List.of(edge("a", null, 1));
+
+        assertThatThrownBy(() -> csrGraph(edges)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void indexedView_isConsistentWithOutgoingEdges() {
+        CsrUndirectedGraph<Integer, Edge<Integer>> graph = csrGraph(randomEdges(30, 100, 143));
+
+        for (int v = 0; v < graph.numVertices(); v++) {
+            Integer vertex = graph.vertexAt(v);
+            assertThat(graph.indexOf(vertex)).isEqualTo(v);
+            List<Edge<Integer>> viaIds = new ArrayList<>();
+            for (int e = graph.outgoingEdgesStart(v); e < graph.outgoingEdgesEnd(v); e++) {
+                Edge<Integer> edge = graph.edgeAt(e);
+                assertThat(edge.from()).isEqualTo(vertex);
+                assertThat(graph.vertexAt(graph.edgeTarget(e))).isEqualTo(edge.to());
+                assertThat(graph.edgeWeight(e)).isEqualTo(edge.weight());
+                viaIds.add(edge);
+            }
+            assertThat(new HashSet<>(viaIds)).isEqualTo(new HashSet<>(graph.outgoingEdgesFrom(vertex)));
+        }
+    }
+
+    @Test
+    void dijkstra_onCsrGraph_findsSameWeightsAsAdjacencyListGraph() {
+        List<Edge<Integer>> edges = randomEdges(100, 300, 311);
+        DijkstraShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> finder =
+            new DijkstraShortestPathFinder<>();
+        Graph<Integer, Edge<Integer>> expectedGraph = graph(edges);
+        Graph<Integer, Edge<Integer>> actualGraph = csrGraph(edges);
+
+        for (int end = 1; end < 100; end++) {
+            ShortestPath<Integer, Edge<Integer>> expected = finder.findShortestPath(expectedGraph, 0, end);
+            ShortestPath<Integer, Edge<Integer>> actual = finder.findShortestPath(actualGraph, 0, end);
+            assertThat(actual.exists()).isEqualTo(expected.exists());
+            if (expected.exists()) {
+                assertThat(actual.totalWeight()).isCloseTo(expected.totalWeight(), within(1e-9));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package graphs.minspantrees;
+
+import graphs.AdjacencyListUndirectedGraph;
+import graphs.BaseEdge;
+import graphs.Edge;
+import graphs.KruskalGraph;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class BoruvkaMinimumSpanningTreeFinderTests extends KruskalMinimumSpanningTreeFinderTests {
+    // A tiny grain splits even these small graphs into many tasks.
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutDownPool() {
+        POOL.shutdown();
+    }
+
+    protected <G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>> MinimumSpanningTreeFinder<G, V, E> finder() {
+        return new BoruvkaMinimumSpanningTreeFinder<>(POOL, 2);
+    }
+
+    @Override
+    protected <G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
+    MinimumSpanningTreeFinderAssert.MinimumSpanningTreeAssert<V, E> assertThatMSTOf(G graph) {
+        MinimumSpanningTreeFinder<G, V, E> mstFinder = finder();
+        return new MinimumSpanningTreeFinderAssert.MinimumSpanningTreeAssert<>(
+            mstFinder.findMinimumSpanningTree(graph), graph);
+    }
+
+    @Test
+    void find_withEqualWeights_returnsTree() {
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(
+            edge("a", "b", 1),
+            edge("b", "c", 1),
+            edge("c", "a", 1),
+            edge("c", "d", 1)
+        );
+        MinimumSpanningTree<String, Edge<String>> mst =
+            new BoruvkaMinimumSpanningTreeFinder<AdjacencyListUndirectedGraph<String, Edge<String>>,
+                String, Edge<String>>(POOL, 1).findMinimumSpanningTree(graph);
+
+        assertThat(mst.exists()).isTrue();
+        assertThat(mst.edges()).hasSize(3);
+    }
+
+    @Test
+    void find_onRandomGraphs_hasSameWeightAsKruskal() {
+        Random rand = new Random(373);
+        for (int trial = 0; trial < 50; trial++) {
+            int numVertices = 2 + rand.nextInt(200);
+            List<Edge<Integer>> edges = new ArrayList<>();
+            for (int i = 1; i < numVertices; i++) {
+                edges.add(edge(rand.nextInt(i), i, rand.nextInt(100)));
+            }
+            for (int i = 0; i < 2 * numVertices; i++) {
+                edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(100)));
+            }
+            AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = graph(edges);
+
+            MinimumSpanningTree<Integer, Edge<Integer>> boruvka =
+                this.<AdjacencyListUndirectedGraph<Integer, Edge<Integer>>, Integer, Edge<Integer>>finder()
+                    .findMinimumSpanningTree(graph);
+            MinimumSpanningTree<Integer, Edge<Integer>> kruskal =
+                new KruskalMinimumSpanningTreeFinder<AdjacencyListUndirectedGraph<Integer, Edge<Integer>>,
+                    Integer, Edge<Integer>>().findMinimumSpanningTree(graph);
+
+            assertThat(boruvka.exists()).isTrue();
+            assertThat(boruvka.edges()).hasSize(numVertices - 1);
+            assertThat(boruvka.totalWeight()).isEqualTo(kruskal.totalWeight());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package graphs.minspantrees;
+
+import graphs.AdjacencyListUndirectedGraph;
+import graphs.Edge;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class KruskalLazyHeapMinimumSpanningTreeFinderTests extends KruskalMinimumSpanningTreeFinderTests {
+    @Override
+    protected KruskalMinimumSpanningTreeFinder.EdgeOrder edgeOrder() {
+        return KruskalMinimumSpanningTreeFinder.EdgeOrder.LAZY_HEAP;
+    }
+
+    @Test
+    void find_onRandomGraphs_hasSameWeightAsFullSort() {
+        Random rand = new Random(373);
+        for (int trial = 0; trial < 50; trial++) {
+            int numVertices = 2 + rand.nextInt(30);
+            List<Edge<Integer>> edges = new ArrayList<>();
+            for (int i = 1; i < numVertices; i++) {
+                // A random spanning tree keeps the graph connected; the extra edges form cycles.
+                edges.add(edge(rand.nextInt(i), i, rand.nextInt(100)));
+            }
+            for (int i = 0; i < 2 * numVertices; i++) {
+                edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(100)));
+            }
+            AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = graph(edges);
+
+            MinimumSpanningTree<Integer, Edge<Integer>> lazy =
+                new KruskalMinimumSpanningTreeFinder<AdjacencyListUndirectedGraph<Integer, Edge<Integer>>,
+                    Integer, Edge<Integer>>(edgeOrder()).findMinimumSpanningTree(graph);
+            MinimumSpanningTree<Integer, Edge<Integer>> sorted =
+                new KruskalMinimumSpanningTreeFinder<AdjacencyListUndirectedGraph<Integer, Edge<Integer>>,
+                    Integer, Edge<Integer>>().findMinimumSpanningTree(graph);
+
+            assertThat(lazy.exists()).isTrue();
+            assertThat(lazy.edges()).hasSize(numVertices - 1);
+            assertThat(lazy.totalWeight()).isEqualTo(sorted.totalWeight());
+        }
+    }
+}
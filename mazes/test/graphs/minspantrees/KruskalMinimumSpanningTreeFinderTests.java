@@ -18,7 +18,7 @@ public class KruskalMinimumSpanningTreeFinderTests extends BaseGraphTests {
 
     protected <G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
     MinimumSpanningTreeFinderAssert.MinimumSpanningTreeAssert<V, E> assertThatMSTOf(G graph) {
-        MinimumSpanningTreeFinder<G, V, E> mstFinder = new KruskalMinimumSpanningTreeFinder<>() {
+        MinimumSpanningTreeFinder<G, V, E> mstFinder = new KruskalMinimumSpanningTreeFinder<>(edgeOrder()) {
             /** Override method to simulate behavior on grader. */
             @Override
             protected DisjointSets<V> createDisjointSets() {
@@ -30,6 +30,10 @@ public class KruskalMinimumSpanningTreeFinderTests extends BaseGraphTests {
             mstFinder.findMinimumSpanningTree(graph), graph);
     }
 
+    protected KruskalMinimumSpanningTreeFinder.EdgeOrder edgeOrder() {
+        return KruskalMinimumSpanningTreeFinder.EdgeOrder.FULL_SORT;
+    }
+
     @Test
     void find_onTreeGraph_returnsAllEdges() {
         AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(
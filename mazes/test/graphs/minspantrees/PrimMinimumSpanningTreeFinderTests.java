@@ -0,0 +1,53 @@
+package graphs.minspantrees;
+
+import graphs.AdjacencyListUndirectedGraph;
+import graphs.BaseEdge;
+import graphs.Edge;
+import graphs.KruskalGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class PrimMinimumSpanningTreeFinderTests extends KruskalMinimumSpanningTreeFinderTests {
+
+    @Override
+    protected <G extends KruskalGraph<V, E>, V, E extends BaseEdge<V, E>>
+    MinimumSpanningTreeFinderAssert.MinimumSpanningTreeAssert<V, E> assertThatMSTOf(G graph) {
+        MinimumSpanningTreeFinder<G, V, E> mstFinder = new PrimMinimumSpanningTreeFinder<>();
+        return new MinimumSpanningTreeFinderAssert.MinimumSpanningTreeAssert<>(
+            mstFinder.findMinimumSpanningTree(graph), graph);
+    }
+
+    @Test
+    void find_withIsolatedStartVertex_returnsDoesNotExist() {
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(
+            edge("a", "a", 0),
+            edge("b", "c", 1)
+        );
+        assertThatMSTOf(graph).doesNotExist();
+    }
+
+    @Test
+    void find_onRandomGraphs_hasSameWeightAsKruskal() {
+        Random rand = new Random(373);
+        for (int trial = 0; trial < 50; trial++) {
+            int numVertices = 2 + rand.nextInt(50);
+            List<Edge<Integer>> edges = new ArrayList<>();
+            for (int i = 1; i < numVertices; i++) {
+                edges.add(edge(rand.nextInt(i), i, rand.nextInt(100)));
+            }
+            for (int i = 0; i < 3 * numVertices; i++) {
+                edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(100)));
+            }
+            AdjacencyListUndirectedGraph<Integer, Edge<Integer>> graph = graph(edges);
+
+            MinimumSpanningTree<Integer, Edge<Integer>> kruskal =
+                new KruskalMinimumSpanningTreeFinder<AdjacencyListUndirectedGraph<Integer, Edge<Integer>>,
+                    Integer, Edge<Integer>>().findMinimumSpanningTree(graph);
+
+            assertThatMSTOf(graph).isEquivalentTo(kruskal);
+        }
+    }
+}
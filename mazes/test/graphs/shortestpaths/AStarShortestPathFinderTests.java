@@ -0,0 +1,93 @@
+package graphs.shortestpaths;
+
+import graphs.BaseGraphTests;
+import graphs.Edge;
+import graphs.Graph;
+import graphs.InfiniteGraph;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleBiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+public class AStarShortestPathFinderTests extends BaseGraphTests {
+
+    protected <V> AStarShortestPathFinder<Graph<V, Edge<V>>, V, Edge<V>> createShortestPathFinder(
+        ToDoubleBiFunction<V, V> heuristic) {
+        return new AStarShortestPathFinder<>(heuristic);
+    }
+
+    protected <V> ShortestPathFinderAssert<Graph<V, Edge<V>>, V, Edge<V>> assertThat(
+        SPTShortestPathFinder<Graph<V, Edge<V>>, V, Edge<V>> actual) {
+        return new ShortestPathFinderAssert<>(actual);
+    }
+
+    private List<Edge<Integer>> randomUndirectedEdges(long seed) {
+        Random rand = new Random(seed);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            edges.add(edge(rand.nextInt(100), rand.nextInt(100), rand.nextInt(20)));
+        }
+        return edges;
+    }
+
+    @Test
+    void findShortestPath_withZeroHeuristic_matchesDijkstra() {
+        Graph<Integer, Edge<Integer>> graph = graph(randomUndirectedEdges(373));
+        DijkstraShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> dijkstra =
+            new DijkstraShortestPathFinder<>();
+        AStarShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> aStar =
+            createShortestPathFinder((v, end) -> 0);
+
+        for (int end = 1; end < 100; end++) {
+            assertThat(aStar).findingShortestPath(graph, 0, end)
+                .hasSolutionEquivalentTo(dijkstra.findShortestPath(graph, 0, end));
+        }
+    }
+
+    @Test
+    void findShortestPath_onLineWithExactHeuristic_returnsPath() {
+        AStarShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> aStar =
+            createShortestPathFinder((v, end) -> Math.abs(end - v));
+        Graph<Integer, Edge<Integer>> graph = graph(
+            edge(0, 1, 1), edge(1, 2, 1), edge(2, 3, 1), edge(0, -1, 1), edge(-1, -2, 1));
+
+        assertThat(aStar).findingShortestPath(graph, 0, 3)
+            .hasVertices(0, 1, 2, 3)
+            .hasWeightCloseTo(3);
+        assertThat(aStar).constructingShortestPathsTree(graph, 0, 3)
+            .doesNotContainKeys(-2);
+    }
+
+    @Test
+    void findShortestPath_onInfiniteGraph_withHeuristic_terminates() {
+        AStarShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> aStar =
+            createShortestPathFinder((v, end) -> Math.abs(end - v));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThat(aStar).findingShortestPath(new InfiniteGraph(), 0, 1000)
+                .hasWeightCloseTo(1000);
+        });
+    }
+
+    @Test
+    void findShortestPath_withSameStartAndEnd_returnsSingleVertex() {
+        AStarShortestPathFinder<Graph<String, Edge<String>>, String, Edge<String>> aStar =
+            createShortestPathFinder((v, end) -> 0);
+
+        assertThat(aStar).findingShortestPath(graph(edge("s", "t", 1)), "s", "s").hasVertices("s");
+    }
+
+    @Test
+    void findShortestPath_withNoPath_returnsDoesNotExist() {
+        AStarShortestPathFinder<Graph<String, Edge<String>>, String, Edge<String>> aStar =
+            createShortestPathFinder((v, end) -> 0);
+
+        assertThat(aStar).findingShortestPath(
+            graph(edge("s", "a", 1), edge("b", "t", 1)), "s", "t").doesNotExist();
+    }
+}
@@ -0,0 +1,111 @@
+package graphs.shortestpaths;
+
+import graphs.AdjacencyListUndirectedGraph;
+import graphs.BaseGraphTests;
+import graphs.CsrUndirectedGraph;
+import graphs.Edge;
+import graphs.KruskalGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class BidirectionalDijkstraShortestPathFinderTests extends BaseGraphTests {
+
+    protected <V> BidirectionalDijkstraShortestPathFinder<KruskalGraph<V, Edge<V>>, V, Edge<V>>
+    createShortestPathFinder() {
+        return new BidirectionalDijkstraShortestPathFinder<>();
+    }
+
+    protected <V> ShortestPathFinderAssert<KruskalGraph<V, Edge<V>>, V, Edge<V>> assertThat(
+        SPTShortestPathFinder<KruskalGraph<V, Edge<V>>, V, Edge<V>> actual) {
+        return new ShortestPathFinderAssert<>(actual);
+    }
+
+    private List<Edge<Integer>> randomEdges(int numVertices, int numEdges, long seed) {
+        Random rand = new Random(seed);
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < numEdges; i++) {
+            edges.add(edge(rand.nextInt(numVertices), rand.nextInt(numVertices), rand.nextInt(20)));
+        }
+        return edges;
+    }
+
+    private void assertMatchesDijkstra(KruskalGraph<Integer, Edge<Integer>> graph, int numVertices) {
+        DijkstraShortestPathFinder<KruskalGraph<Integer, Edge<Integer>>, Integer, Edge<Integer>> dijkstra =
+            new DijkstraShortestPathFinder<>();
+        BidirectionalDijkstraShortestPathFinder<KruskalGraph<Integer, Edge<Integer>>, Integer, Edge<Integer>>
+            bidirectional = createShortestPathFinder();
+        for (int start = 0; start < numVertices; start += 7) {
+            for (int end = 0; end < numVertices; end++) {
+                assertThat(bidirectional).findingShortestPath(graph, start, end)
+                    .hasSolutionEquivalentTo(dijkstra.findShortestPath(graph, start, end));
+            }
+        }
+    }
+
+    @Test
+    void findShortestPath_onRandomAdjacencyListGraphs_matchesDijkstra() {
+        for (long seed = 0; seed < 5; seed++) {
+            assertMatchesDijkstra(graph(randomEdges(60, 120, seed)), 60);
+        }
+    }
+
+    @Test
+    void findShortestPath_onRandomCsrGraphs_matchesDijkstra() {
+        for (long seed = 0; seed < 5; seed++) {
+            assertMatchesDijkstra(new CsrUndirectedGraph<>(randomEdges(60, 120, seed)), 60);
+        }
+    }
+
+    @Test
+    void findShortestPath_withSameStartAndEnd_returnsSingleVertex() {
+        assertThat(createShortestPathFinder()).findingShortestPath(graph(edge("s", "t", 1)), "s", "s")
+            .hasVertices("s");
+    }
+
+    @Test
+    void findShortestPath_withDisconnectedVertices_returnsDoesNotExist() {
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(edge("s", "a", 1), edge("b", "t", 1));
+        SPTShortestPathFinder<KruskalGraph<String, Edge<String>>, String, Edge<String>> finder =
+            createShortestPathFinder();
+
+        assertThat(finder).findingShortestPath(graph, "s", "t").doesNotExist();
+        assertThat(finder).findingShortestPath(graph, "s", "x").doesNotExist();
+    }
+
+    @Test
+    void findShortestPath_whenMeetingPointIsNotOnShortestPath_returnsShortestPath() {
+        // The two searches first meet at "m", but the direct s-t edge is shorter.
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(
+            edge("s", "m", 3),
+            edge("m", "t", 3),
+            edge("s", "t", 5));
+        SPTShortestPathFinder<KruskalGraph<String, Edge<String>>, String, Edge<String>> finder =
+            createShortestPathFinder();
+
+        assertThat(finder).findingShortestPath(graph, "s", "t")
+            .hasVertices("s", "t")
+            .hasWeightCloseTo(5);
+    }
+
+    @Test
+    void constructShortestPathsTree_containsPathFromStartToEnd() {
+        AdjacencyListUndirectedGraph<String, Edge<String>> graph = graph(
+            edge("s", "a", 1),
+            edge("a", "b", 1),
+            edge("b", "c", 1),
+            edge("c", "t", 1),
+            edge("s", "d", 5));
+        SPTShortestPathFinder<KruskalGraph<String, Edge<String>>, String, Edge<String>> finder =
+            createShortestPathFinder();
+
+        Map<String, Edge<String>> spt = finder.constructShortestPathsTree(graph, "s", "t");
+
+        assertThat(finder).extractingShortestPathFromShortestPathsTree(graph, spt, "s", "t")
+            .hasVertices("s", "a", "b", "c", "t")
+            .hasWeightCloseTo(4);
+    }
+}
@@ -14,7 +14,10 @@ import priorityqueues.ExtrinsicMinPQ;
 import utils.IntWrapper;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
@@ -366,6 +369,115 @@ public class DijkstraShortestPathFinderTests extends BaseGraphTests {
             .hasWeightCloseTo(2);
     }
 
+    @Test
+    void findShortestPath_onIndexedGraph_matchesMapBasedSearch() {
+        SPTShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder
+            = createShortestPathFinder();
+        List<Edge<Integer>> edges = new ArrayList<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 300; i++) {
+            int from = rand.nextInt(100);
+            int to = rand.nextInt(100);
+            edges.add(edge(from, to, rand.nextInt(20)));
+            edges.add(edge(to, from, edges.get(edges.size() - 1).weight()));
+        }
+        Graph<Integer, Edge<Integer>> indexed = graph(edges);
+        Graph<Integer, Edge<Integer>> unindexed = directedGraph(edges);
+
+        for (int end = 1; end < 100; end++) {
+            ShortestPath<Integer, Edge<Integer>> expected = pathFinder.findShortestPath(unindexed, 0, end);
+            assertThat(pathFinder).findingShortestPath(indexed, 0, end).hasSolutionEquivalentTo(expected);
+        }
+    }
+
+    @Test
+    void findShortestPath_onIndexedGraph_withStartNotInGraph_returnsDoesNotExist() {
+        SPTShortestPathFinder<Graph<String, Edge<String>>, String, Edge<String>> pathFinder
+            = createShortestPathFinder();
+
+        assertThat(pathFinder).findingShortestPath(graph(edge("s", "t", 1)), "x", "t").doesNotExist();
+        assertThat(pathFinder).findingShortestPath(graph(edge("s", "t", 1)), "s", "x").doesNotExist();
+    }
+
+    @Test
+    void shortestPathTree_pathTo_matchesFindShortestPath() {
+        DijkstraShortestPathFinder<Graph<Integer, Edge<Integer>>, Integer, Edge<Integer>> pathFinder
+            = createShortestPathFinder();
+        List<Edge<Integer>> edges = new ArrayList<>();
+        Random rand = new Random(373);
+        for (int i = 0; i < 300; i++) {
+            int from = rand.nextInt(100);
+            int to = rand.nextInt(100);
+            edges.add(edge(from, to, rand.nextInt(20)));
+            edges.add(edge(to, from, edges.get(edges.size() - 1).weight()));
+        }
+
+        for (Graph<Integer, Edge<Integer>> graph : List.of(graph(edges), directedGraph(edges))) {
+            ShortestPathTree<Integer, Edge<Integer>> tree = pathFinder.shortestPathTree(graph, 0);
+            for (int end = 0; end < 100; end++) {
+                ShortestPath<Integer, Edge<Integer>> expected = pathFinder.findShortestPath(graph, 0, end);
+                new ShortestPathFinderAssert.ShortestPathAssert<>(tree.pathTo(end), graph, 0, end)
+                    .hasSolutionEquivalentTo(expected);
+                assertThat(tree.hasPathTo(end)).isEqualTo(expected.exists());
+                if (expected.exists()) {
+                    assertThat(tree.distanceTo(end)).isCloseTo(expected.totalWeight(), within(1e-9));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shortestPathTree_withMultipleSources_reachesEachVertexFromNearestSource() {
+        DijkstraShortestPathFinder<Graph<String, Edge<String>>, String, Edge<String>> pathFinder
+            = createShortestPathFinder();
+        List<Edge<String>> edges = List.of(
+            edge("a", "b", 1),
+            edge("b", "c", 1),
+            edge("c", "d", 1),
+            edge("d", "e", 2),
+            edge("e", "f", 1));
+
+        for (Graph<String, Edge<String>> graph : List.of(graph(edges), directedGraph(edges))) {
+            ShortestPathTree<String, Edge<String>> tree = pathFinder.shortestPathTree(graph, List.of("a", "e"));
+
+            assertThat(tree.distanceTo("a")).isEqualTo(0);
+            assertThat(tree.distanceTo("e")).isEqualTo(0);
+            assertThat(tree.distanceTo("f")).isEqualTo(1);
+            assertThat(tree.sourceOf("f")).isEqualTo("e");
+            assertThat(tree.sourceOf("a")).isEqualTo("a");
+            assertThat(tree.pathTo("a").vertices()).containsExactly("a");
+            assertThat(tree.distanceTo("c")).isEqualTo(2);
+            assertThat(tree.sourceOf("c")).isEqualTo("a");
+        }
+
+        // Only the undirected graph can reach d backwards from e, which is nearer than a.
+        ShortestPathTree<String, Edge<String>> directed
+            = pathFinder.shortestPathTree(directedGraph(edges), List.of("a", "e"));
+        assertThat(directed.pathTo("d").vertices()).containsExactly("a", "b", "c", "d");
+        ShortestPathTree<String, Edge<String>> undirected
+            = pathFinder.shortestPathTree(graph(edges), List.of("a", "e"));
+        assertThat(undirected.pathTo("d").vertices()).containsExactly("e", "d");
+        assertThat(undirected.distanceTo("d")).isEqualTo(2);
+    }
+
+    @Test
+    void shortestPathTree_withUnreachableVertex_hasNoPathToIt() {
+        DijkstraShortestPathFinder<Graph<String, Edge<String>>, String, Edge<String>> pathFinder
+            = createShortestPathFinder();
+        List<Edge<String>> edges = List.of(edge("s", "a", 1), edge("b", "t", 1));
+
+        for (Graph<String, Edge<String>> graph : List.of(graph(edges), directedGraph(edges))) {
+            ShortestPathTree<String, Edge<String>> tree = pathFinder.shortestPathTree(graph, "s");
+
+            assertThat(tree.hasPathTo("t")).isFalse();
+            assertThat(tree.distanceTo("t")).isEqualTo(Double.POSITIVE_INFINITY);
+            assertThat(tree.edgeTo("t")).isNull();
+            assertThat(tree.pathTo("t").exists()).isFalse();
+            assertThat(tree.hasPathTo("x")).isFalse();
+            assertThatThrownBy(() -> tree.sourceOf("t")).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     abstract class PathExists<V, E extends BaseEdge<V, E>> {
         final Graph<V, E> graph;
         final Map<V, E> spt;
@@ -0,0 +1,155 @@
+package mazes.batch;
+
+import edu.washington.cse373.BaseTest;
+import mazes.logic.carvers.MazeCarver;
+import mazes.logic.generators.MazeBaseGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BatchRunnerTests extends BaseTest {
+
+    @Test
+    void parse_withNoArguments_usesDefaults() {
+        BatchConfig config = BatchConfig.parse();
+
+        assertThat(config.generator).isEqualTo("grid");
+        assertThat(config.carver).isEqualTo("kruskal");
+        assertThat(config.count).isEqualTo(1);
+    }
+
+    @Test
+    void parse_withOptions_setsFields() {
+        BatchConfig config = BatchConfig.parse(
+            "--generator", "HEXAGON", "--rows", "10", "--carver", "random", "--keep", "0.3",
+            "--seed", "42", "--count", "5", "--threads", "2", "--solver", "astar");
+
+        assertThat(config.generator).isEqualTo("hexagon");
+        assertThat(config.rows).isEqualTo(10);
+        assertThat(config.carver).isEqualTo("random");
+        assertThat(config.keep).isEqualTo(0.3);
+        assertThat(config.seed).isEqualTo(42);
+        assertThat(config.count).isEqualTo(5);
+        assertThat(config.threads).isEqualTo(2);
+        assertThat(config.solver).isEqualTo("astar");
+    }
+
+    @Test
+    void parse_withInvalidOptions_throwsIllegalArgument() {
+        assertThatThrownBy(() -> BatchConfig.parse("--generator", "triangle"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchConfig.parse("--count", "0"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchConfig.parse("--count"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchConfig.parse("--colour", "red"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void run_kruskalGridMazes_solvesEveryMazeAndWritesOneLineEach() {
+        BatchConfig config = BatchConfig.parse(
+            "--rows", "20", "--cols", "20", "--count", "6", "--threads", "3", "--seed", "7");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        List<BatchRunner.Result> results = new BatchRunner(config).run(
+            new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+        assertThat(results).hasSize(6).allMatch(r -> r.solved && r.pathways == 20 * 20 - 1);
+        assertThat(results).extracting(r -> r.index).containsExactly(0, 1, 2, 3, 4, 5);
+        String[] lines = bytes.toString(StandardCharsets.UTF_8).split("\\R");
+        assertThat(lines).hasSize(1 + 1 + 6 + 1);
+        assertThat(lines[1]).isEqualTo(BatchRunner.HEADER);
+    }
+
+    @Test
+    void runOne_withSameSeed_isReproducible() {
+        BatchConfig config = BatchConfig.parse("--rows", "15", "--cols", "15", "--seed", "3");
+        BatchRunner runner = new BatchRunner(config);
+
+        BatchRunner.Result first = runner.runOne(0);
+        BatchRunner.Result second = runner.runOne(0);
+
+        assertThat(second.pathWalls).isEqualTo(first.pathWalls);
+        assertThat(second.pathLength).isEqualTo(first.pathLength);
+    }
+
+    @Test
+    void run_pipelineMode_matchesPoolModeInMazeOrder() {
+        String[] common = {"--rows", "12", "--cols", "12", "--count", "10", "--seed", "5", "--carver", "random"};
+        BatchConfig poolConfig = BatchConfig.parse(common);
+        BatchConfig pipelineConfig = BatchConfig.parse(common);
+        pipelineConfig.mode = "pipeline";
+        pipelineConfig.generateThreads = 2;
+        pipelineConfig.carveThreads = 2;
+        pipelineConfig.solveThreads = 3;
+        pipelineConfig.queueCapacity = 1;
+        PrintStream sink = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+
+        List<BatchRunner.Result> expected = new BatchRunner(poolConfig).run(sink);
+        List<BatchRunner.Result> actual = new BatchRunner(pipelineConfig).run(sink);
+
+        assertThat(actual).extracting(r -> r.index).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(actual).extracting(r -> r.pathLength)
+            .containsExactlyElementsOf(expected.stream().map(r -> r.pathLength).collect(Collectors.toList()));
+    }
+
+    @Test
+    void pipeline_reportsEveryItemForEachStage() {
+        BatchConfig config = BatchConfig.parse(
+            "--rows", "10", "--cols", "10", "--count", "7", "--mode", "pipeline", "--carve-threads", "2");
+        MazePipeline pipeline = new MazePipeline(config);
+        List<BatchRunner.Result> results = new ArrayList<>();
+
+        pipeline.run(results::add);
+
+        assertThat(results).hasSize(7);
+        assertThat(pipeline.stages()).extracting(MazePipeline.Stage::name).containsExactly("generate", "carve", "solve");
+        assertThat(pipeline.stages()).allMatch(stage -> stage.items() == 7 && stage.throughput() > 0);
+    }
+
+    @Test
+    void pipeline_whenStageThrows_throwsIllegalState() {
+        BatchConfig config = new BatchConfig() {
+            @Override
+            public MazeCarver createCarver(long mazeSeed) {
+                throw new IllegalArgumentException("carver failed");
+            }
+        };
+        config.rows = 5;
+        config.cols = 5;
+        config.count = 20;
+        config.mode = "pipeline";
+        config.queueCapacity = 1;
+
+        assertThatThrownBy(() -> new MazePipeline(config).run(result -> { }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage("carver failed");
+    }
+
+    @Test
+    void pipeline_whenStageThrowsWhileWorkersAreStillStarting_throwsIllegalState() {
+        BatchConfig config = new BatchConfig() {
+            @Override
+            public MazeBaseGenerator createGenerator(long mazeSeed) {
+                throw new IllegalArgumentException("generator failed");
+            }
+        };
+        config.count = 20;
+        config.mode = "pipeline";
+        // Enough later workers that the generator usually fails before they have all been started.
+        config.carveThreads = 100;
+        config.solveThreads = 100;
+
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> new MazePipeline(config).run(result -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("generator failed");
+        }
+    }
+}
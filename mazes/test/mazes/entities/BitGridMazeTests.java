@@ -0,0 +1,143 @@
+package mazes.entities;
+
+import edu.washington.cse373.BaseTest;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import mazes.logic.MazeSolver;
+import mazes.logic.carvers.EllerMazeCarver;
+import mazes.logic.carvers.MazeCarver;
+import mazes.logic.carvers.RandomMazeCarver;
+import mazes.logic.carvers.RandomizedKruskalMazeCarver;
+import mazes.logic.generators.GridGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+public class BitGridMazeTests extends BaseTest {
+    private static final Rectangle BOUNDS = new Rectangle(0, 0, 803, 611);
+
+    @Test
+    void toMaze_matchesGridGenerator() {
+        GridGenerator generator = new GridGenerator(7, 9);
+        Maze expected = generator.generateBaseMaze(BOUNDS);
+        Maze actual = generator.generateBitGridMaze(BOUNDS).toMaze();
+
+        assertThat(actual.getRooms()).hasSameSizeAs(expected.getRooms());
+        assertThat(new HashSet<>(actual.getRooms())).isEqualTo(expected.getRooms());
+        assertThat(actual.getRemovableWalls()).hasSameSizeAs(expected.getRemovableWalls());
+        assertThat(new HashSet<>(actual.getRemovableWalls())).isEqualTo(expected.getRemovableWalls());
+        assertThat(actual.getRemovableWalls()).containsAll(expected.getRemovableWalls());
+        assertThat(actual.getStart()).isEqualTo(expected.getStart());
+        assertThat(actual.getEnd()).isEqualTo(expected.getEnd());
+    }
+
+    @Test
+    void removeWall_updatesBothSidesAndViews() {
+        BitGridMaze grid = new BitGridMaze(3, 4, BOUNDS);
+        int cell = grid.cell(1, 1);
+
+        grid.removeWall(cell, BitGridMaze.EAST);
+        grid.removeWall(cell, BitGridMaze.NORTH);
+
+        assertThat(grid.hasWall(cell, BitGridMaze.EAST)).isFalse();
+        assertThat(grid.hasWall(grid.cell(2, 1), BitGridMaze.WEST)).isFalse();
+        assertThat(grid.hasWall(grid.cell(1, 0), BitGridMaze.SOUTH)).isFalse();
+        assertThat(grid.hasWall(cell, BitGridMaze.SOUTH)).isTrue();
+        int[] neighbors = new int[4];
+        assertThat(grid.openNeighbors(cell, neighbors)).isEqualTo(2);
+        assertThat(neighbors).startsWith(grid.cell(2, 1), grid.cell(1, 0));
+        assertThat(grid.removedWalls()).containsExactlyInAnyOrder(
+            grid.wall(cell, BitGridMaze.EAST), grid.wall(cell, BitGridMaze.NORTH));
+        assertThat(grid.presentWalls()).hasSize((int) grid.numInteriorWalls() - 2)
+            .doesNotContain(grid.wall(cell, BitGridMaze.EAST));
+    }
+
+    @Test
+    void removeWall_onOutsideOfGrid_throwsIllegalArgument() {
+        BitGridMaze grid = new BitGridMaze(3, 4, BOUNDS);
+
+        assertThat(grid.hasWall(0, BitGridMaze.NORTH)).isTrue();
+        assertThatThrownBy(() -> grid.removeWall(0, BitGridMaze.WEST))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> grid.removeWall(grid.cell(3, 2), BitGridMaze.SOUTH))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void carveMaze_withEller_removesSpanningTree() {
+        BitGridMaze grid = new BitGridMaze(30, 40, BOUNDS);
+
+        MazeCarver.CarvedMaze carved = new EllerMazeCarver(1).carveMaze(grid);
+
+        assertThat(grid.numRemovedWalls()).isEqualTo(30 * 40 - 1);
+        assertThat(carved.pathways()).hasSize(30 * 40 - 1);
+        assertThat(new MazeSolver(new DijkstraShortestPathFinder<>()).solveMaze(grid)).isPresent();
+    }
+
+    @Test
+    void carveMaze_withGraphCarver_removesSpanningTree() {
+        BitGridMaze grid = new BitGridMaze(20, 20, BOUNDS);
+
+        new RandomizedKruskalMazeCarver(1).carveMaze(grid);
+
+        assertThat(grid.numRemovedWalls()).isEqualTo(20 * 20 - 1);
+    }
+
+    @Test
+    void solveMaze_matchesSolvingThePathwaysGraph() {
+        for (long seed = 0; seed < 5; seed++) {
+            BitGridMaze grid = new BitGridMaze(15, 12, BOUNDS);
+            MazeCarver.CarvedMaze carved = new RandomMazeCarver(0.4, seed).carveMaze(grid);
+            MazeSolver solver = new MazeSolver(new DijkstraShortestPathFinder<>());
+            Maze maze = grid.toMaze();
+
+            Optional<List<Wall>> expected = solver.solveMaze(
+                new HashSet<>(carved.pathways()), maze.getStart(), maze.getEnd());
+            Optional<List<Wall>> actual = solver.solveMaze(grid);
+
+            assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+            if (expected.isPresent()) {
+                assertThat(length(actual.get())).isCloseTo(length(expected.get()), within(1e-9));
+                assertThat(carved.pathways()).containsAll(actual.get());
+            }
+        }
+    }
+
+    @Test
+    void solveMaze_withAllWalls_returnsEmpty() {
+        BitGridMaze grid = new BitGridMaze(3, 3, BOUNDS);
+
+        assertThat(new MazeSolver(new DijkstraShortestPathFinder<>()).solveMaze(grid)).isEmpty();
+    }
+
+    @Test
+    void solveMaze_withNoWalls_findsPathOfFewestSteps() {
+        BitGridMaze grid = new BitGridMaze(40, 50, BOUNDS);
+        for (int cell = 0; cell < grid.numCells(); cell++) {
+            if (grid.neighbor(cell, BitGridMaze.EAST) >= 0) {
+                grid.removeWall(cell, BitGridMaze.EAST);
+            }
+            if (grid.neighbor(cell, BitGridMaze.SOUTH) >= 0) {
+                grid.removeWall(cell, BitGridMaze.SOUTH);
+            }
+        }
+
+        Optional<List<Wall>> path = new MazeSolver(new DijkstraShortestPathFinder<>()).solveMaze(grid);
+
+        assertThat(path).isPresent();
+        assertThat(path.get()).hasSize(39 + 49);
+    }
+
+    @Test
+    void solveMaze_withOneCell_returnsEmptyPath() {
+        BitGridMaze grid = new BitGridMaze(1, 1, BOUNDS);
+
+        assertThat(new MazeSolver(new DijkstraShortestPathFinder<>()).solveMaze(grid)).contains(List.of());
+    }
+
+    private static double length(List<Wall> path) {
+        return path.stream().mapToDouble(Wall::getDistance).sum();
+    }
+}
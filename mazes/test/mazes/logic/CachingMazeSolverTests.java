@@ -0,0 +1,181 @@
+package mazes.logic;
+
+import edu.washington.cse373.BaseTest;
+import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
+import graphs.shortestpaths.AStarShortestPathFinder;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.logic.carvers.KruskalMazeCarver;
+import mazes.logic.generators.GridGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class CachingMazeSolverTests extends BaseTest {
+
+    private static Maze grid(int size) {
+        return new GridGenerator(size, size).generateBaseMaze(new Rectangle(0, 0, 40 * size, 40 * size));
+    }
+
+    private static Set<Wall> carve(Maze maze) {
+        return new KruskalMazeCarver(new KruskalMinimumSpanningTreeFinder<>(), 373)
+            .carveMaze(maze).pathways();
+    }
+
+    @Test
+    void solveMaze_returnsSamePathsAsMazeSolver() {
+        Maze maze = grid(12);
+        Set<Wall> pathways = carve(maze);
+        MazeSolver expected = new MazeSolver(new DijkstraShortestPathFinder<>());
+        CachingMazeSolver solver = new CachingMazeSolver();
+
+        List<Room> rooms = new ArrayList<>(maze.getRooms());
+        for (Room end : rooms) {
+            Optional<List<Wall>> actual = solver.solveMaze(pathways, maze.getStart(), end);
+            assertThat(actual).isEqualTo(expected.solveMaze(pathways, maze.getStart(), end));
+        }
+        assertThat(solver.treeMisses()).isEqualTo(1);
+        assertThat(solver.treeHits()).isEqualTo(rooms.size() - 1);
+        assertThat(solver.graphMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void solveMaze_withEqualPathwaysInDifferentOrder_hitsCache() {
+        Maze maze = grid(8);
+        Set<Wall> pathways = carve(maze);
+        List<Wall> reversed = new ArrayList<>(pathways);
+        Collections.reverse(reversed);
+        CachingMazeSolver solver = new CachingMazeSolver();
+
+        solver.solveMaze(pathways, maze.getStart(), maze.getEnd());
+        solver.solveMaze(new LinkedHashSet<>(reversed), maze.getStart(), maze.getEnd());
+
+        assertThat(solver.treeHits()).isEqualTo(1);
+        assertThat(solver.treeMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void solveMaze_fromNewStartInSameMaze_reusesGraph() {
+        Maze maze = grid(8);
+        Set<Wall> pathways = carve(maze);
+        CachingMazeSolver solver = new CachingMazeSolver();
+
+        solver.solveMaze(pathways, maze.getStart(), maze.getEnd());
+        solver.solveMaze(pathways, maze.getEnd(), maze.getStart());
+
+        assertThat(solver.graphMisses()).isEqualTo(1);
+        assertThat(solver.graphHits()).isEqualTo(1);
+        assertThat(solver.treeMisses()).isEqualTo(2);
+        assertThat(solver.size()).isEqualTo(3);
+    }
+
+    @Test
+    void solveMaze_withChangedPathways_missesCache() {
+        Maze maze = grid(8);
+        Set<Wall> pathways = carve(maze);
+        CachingMazeSolver solver = new CachingMazeSolver();
+
+        solver.solveMaze(pathways, maze.getStart(), maze.getEnd());
+        Set<Wall> changed = new HashSet<>(pathways);
+        Wall removed = changed.iterator().next();
+        changed.remove(removed);
+        Optional<List<Wall>> path = solver.solveMaze(changed, maze.getStart(), maze.getEnd());
+
+        assertThat(solver.graphMisses()).isEqualTo(2);
+        assertThat(path).isEqualTo(new MazeSolver(new DijkstraShortestPathFinder<>())
+            .solveMaze(changed, maze.getStart(), maze.getEnd()));
+        assertThat(CachingMazeSolver.fingerprint(changed))
+            .isEqualTo(CachingMazeSolver.fingerprint(pathways) - CachingMazeSolver.fingerprint(removed));
+    }
+
+    @Test
+    void solveMaze_pastMaxEntries_evictsLeastRecentlyUsed() {
+        CachingMazeSolver solver = new CachingMazeSolver(new DijkstraShortestPathFinder<>(), 4, Long.MAX_VALUE);
+        Maze first = grid(6);
+        Set<Wall> firstPathways = carve(first);
+        Maze second = grid(7);
+        Set<Wall> secondPathways = carve(second);
+        Maze third = grid(8);
+        Set<Wall> thirdPathways = carve(third);
+
+        solver.solveMaze(firstPathways, first.getStart(), first.getEnd());
+        solver.solveMaze(secondPathways, second.getStart(), second.getEnd());
+        solver.solveMaze(firstPathways, first.getStart(), first.getEnd());
+        solver.solveMaze(thirdPathways, third.getStart(), third.getEnd());
+
+        assertThat(solver.size()).isEqualTo(4);
+        assertThat(solver.evictions()).isEqualTo(2);
+        solver.solveMaze(firstPathways, first.getStart(), first.getEnd());
+        assertThat(solver.treeHits()).isEqualTo(2);
+        solver.solveMaze(secondPathways, second.getStart(), second.getEnd());
+        assertThat(solver.graphMisses()).isEqualTo(4);
+    }
+
+    @Test
+    void solveMaze_pastMaxBytes_keepsEstimateWithinLimit() {
+        CachingMazeSolver solver = new CachingMazeSolver(new DijkstraShortestPathFinder<>(), 100, 20_000);
+        for (int size = 4; size < 12; size++) {
+            Maze maze = grid(size);
+            assertThat(solver.solveMaze(carve(maze), maze.getStart(), maze.getEnd())).isPresent();
+            assertThat(solver.estimatedBytes()).isLessThanOrEqualTo(20_000);
+        }
+        assertThat(solver.evictions()).isPositive();
+    }
+
+    @Test
+    void solveMaze_withAStar_cachesEachPathAndReusesGraph() {
+        Maze maze = grid(8);
+        Set<Wall> pathways = carve(maze);
+        MazeSolver expected = new MazeSolver(new DijkstraShortestPathFinder<>());
+        CachingMazeSolver solver = new CachingMazeSolver(new AStarShortestPathFinder<>(MazeHeuristics.EUCLIDEAN),
+            1000, CachingMazeSolver.DEFAULT_MAX_BYTES);
+
+        List<Room> rooms = new ArrayList<>(maze.getRooms());
+        for (int round = 0; round < 2; round++) {
+            for (Room end : rooms) {
+                // A Kruskal maze is a tree, so the shortest path is unique.
+                assertThat(solver.solveMaze(pathways, maze.getStart(), end))
+                    .isEqualTo(expected.solveMaze(pathways, maze.getStart(), end));
+            }
+        }
+        assertThat(solver.pathMisses()).isEqualTo(rooms.size());
+        assertThat(solver.pathHits()).isEqualTo(rooms.size());
+        assertThat(solver.graphMisses()).isEqualTo(1);
+        assertThat(solver.graphHits()).isEqualTo(rooms.size() - 1);
+        assertThat(solver.treeMisses()).isEqualTo(0);
+    }
+
+    @Test
+    void solveMaze_withFingerprintedWallSet_hitsCacheAfterEdits() {
+        Maze maze = grid(8);
+        Set<Wall> pathways = carve(maze);
+        FingerprintedWallSet fingerprinted = new FingerprintedWallSet(pathways);
+        CachingMazeSolver solver = new CachingMazeSolver();
+
+        solver.solveMaze(pathways, maze.getStart(), maze.getEnd());
+        Wall wall = pathways.iterator().next();
+        fingerprinted.remove(wall);
+        fingerprinted.add(wall);
+        solver.solveMaze(fingerprinted, maze.getStart(), maze.getEnd());
+
+        assertThat(solver.treeHits()).isEqualTo(1);
+        assertThat(solver.treeMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_withNonPositiveLimit_throwsIllegalArgument() {
+        assertThatThrownBy(() -> new CachingMazeSolver(new DijkstraShortestPathFinder<>(), 0, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CachingMazeSolver(new DijkstraShortestPathFinder<>(), 1, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package mazes.logic;
+
+import edu.washington.cse373.BaseTest;
+import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.logic.carvers.KruskalMazeCarver;
+import mazes.logic.generators.GridGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+public class FingerprintedWallSetTests extends BaseTest {
+
+    private static List<Wall> walls() {
+        Maze maze = new GridGenerator(6, 6).generateBaseMaze(new Rectangle(0, 0, 240, 240));
+        Set<Wall> pathways = new KruskalMazeCarver(new KruskalMinimumSpanningTreeFinder<>(), 373)
+            .carveMaze(maze).pathways();
+        return new ArrayList<>(pathways);
+    }
+
+    @Test
+    void fingerprint_afterAddsAndRemoves_matchesRecomputed() {
+        List<Wall> walls = walls();
+        FingerprintedWallSet set = new FingerprintedWallSet();
+        for (Wall wall : walls) {
+            assertThat(set.add(wall)).isTrue();
+        }
+        assertThat(set.add(walls.get(0))).isFalse();
+        assertThat(set.fingerprint()).isEqualTo(CachingMazeSolver.fingerprint(walls));
+
+        for (int i = 0; i < walls.size(); i += 3) {
+            assertThat(set.remove(walls.get(i))).isTrue();
+        }
+        assertThat(set.remove(walls.get(0))).isFalse();
+        assertThat(set.fingerprint()).isEqualTo(CachingMazeSolver.fingerprint(set));
+        assertThat(set).hasSize(walls.size() - (walls.size() + 2) / 3);
+    }
+
+    @Test
+    void iteratorRemove_updatesFingerprint() {
+        FingerprintedWallSet set = new FingerprintedWallSet(walls());
+        Iterator<Wall> it = set.iterator();
+        it.next();
+        it.remove();
+        assertThat(set.fingerprint()).isEqualTo(CachingMazeSolver.fingerprint(new ArrayList<>(set)));
+    }
+
+    @Test
+    void clear_resetsFingerprint() {
+        FingerprintedWallSet set = new FingerprintedWallSet(walls());
+        set.clear();
+        assertThat(set).isEmpty();
+        assertThat(set.fingerprint()).isEqualTo(0);
+    }
+}
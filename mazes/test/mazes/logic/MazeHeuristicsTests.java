@@ -0,0 +1,44 @@
+package mazes.logic;
+
+import edu.washington.cse373.BaseTest;
+import graphs.shortestpaths.AStarShortestPathFinder;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.logic.generators.GridGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+public class MazeHeuristicsTests extends BaseTest {
+
+    private static double lengthOf(List<Wall> walls) {
+        return walls.stream().mapToDouble(Wall::getDistance).sum();
+    }
+
+    @Test
+    void aStarWithEuclidean_onPartiallyOpenGrid_findsSamePathLengthAsDijkstra() {
+        Maze maze = new GridGenerator(30, 30).generateBaseMaze(new Rectangle(0, 0, 600, 600));
+        // Open a random 70% of the walls, so that there are many routes of different lengths.
+        Random rand = new Random(373);
+        Set<Wall> pathways = new HashSet<>();
+        for (Wall wall : maze.getRemovableWalls()) {
+            if (rand.nextDouble() < 0.7) {
+                pathways.add(wall);
+            }
+        }
+
+        MazeSolver dijkstra = new MazeSolver(new DijkstraShortestPathFinder<>());
+        MazeSolver aStar = new MazeSolver(new AStarShortestPathFinder<>(MazeHeuristics.EUCLIDEAN));
+        Optional<List<Wall>> expected = dijkstra.solveMaze(pathways, maze.getStart(), maze.getEnd());
+        Optional<List<Wall>> actual = aStar.solveMaze(pathways, maze.getStart(), maze.getEnd());
+
+        assertThat(actual).isPresent();
+        assertThat(lengthOf(actual.get())).isCloseTo(lengthOf(expected.get()), within(1e-6));
+    }
+}
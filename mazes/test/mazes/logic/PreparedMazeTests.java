@@ -0,0 +1,45 @@
+package mazes.logic;
+
+import edu.washington.cse373.BaseTest;
+import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import mazes.entities.Maze;
+import mazes.entities.Room;
+import mazes.entities.Wall;
+import mazes.logic.carvers.KruskalMazeCarver;
+import mazes.logic.carvers.MazeCarver;
+import mazes.logic.generators.HexagonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class PreparedMazeTests extends BaseTest {
+
+    @Test
+    void solveMaze_onPreparedMaze_matchesSolvingPathways() {
+        Maze maze = new HexagonGenerator(30).generateBaseMaze(new Rectangle(0, 0, 600, 600));
+        MazeCarver.CarvedMaze carved = new KruskalMazeCarver(new KruskalMinimumSpanningTreeFinder<>(), 373)
+            .carveMaze(maze);
+        PreparedMaze prepared = new PreparedMaze(carved);
+        MazeSolver solver = new MazeSolver(new DijkstraShortestPathFinder<>());
+
+        assertThat(prepared.numPathways()).isEqualTo(carved.pathways().size());
+        for (Room end : maze.getRooms()) {
+            Optional<List<Wall>> expected = solver.solveMaze(carved.pathways(), maze.getStart(), end);
+            assertThat(solver.solveMaze(prepared, maze.getStart(), end)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void solveMaze_onPreparedMazeWithoutPath_returnsEmpty() {
+        Maze maze = new HexagonGenerator(10).generateBaseMaze(new Rectangle(0, 0, 600, 600));
+        PreparedMaze prepared = new PreparedMaze(Set.of());
+        MazeSolver solver = new MazeSolver(new DijkstraShortestPathFinder<>());
+
+        assertThat(prepared.graph().numVertices()).isZero();
+        assertThat(solver.solveMaze(prepared, maze.getStart(), maze.getEnd())).isEmpty();
+    }
+}
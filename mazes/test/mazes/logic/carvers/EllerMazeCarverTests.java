@@ -0,0 +1,40 @@
+package mazes.logic.carvers;
+
+import mazes.entities.Maze;
+import mazes.logic.generators.HexagonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.util.Random;
+
+public class EllerMazeCarverTests extends KruskalMazeCarverTests {
+    @Override
+    protected MazeCarver createMazeCarver() {
+        return new EllerMazeCarver();
+    }
+
+    @Override
+    protected MazeCarver createMazeCarver(long seed) {
+        return new EllerMazeCarver(seed);
+    }
+
+    @Test
+    void choose_onNonGridMaze_throwsIllegalArgument() {
+        Maze maze = new HexagonGenerator(10).generateBaseMaze(new Rectangle(0, 0, 800, 800));
+
+        assertThatThrownBy(() -> createMazeCarver().chooseWallsToRemove(maze.getRemovableWalls()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nextRow_afterLastRow_throwsIllegalState() {
+        EllerRowCarver carver = new EllerRowCarver(3, new Random(0));
+        boolean[] eastOpen = new boolean[3];
+        boolean[] southOpen = new boolean[3];
+        carver.nextRow(true, eastOpen, southOpen);
+
+        assertThat(eastOpen).containsExactly(true, true, false);
+        assertThatThrownBy(() -> carver.nextRow(true, eastOpen, southOpen))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
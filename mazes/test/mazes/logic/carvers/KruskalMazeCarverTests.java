@@ -1,5 +1,6 @@
 package mazes.logic.carvers;
 
+import disjointsets.IntDisjointSets;
 import edu.washington.cse373.BaseTest;
 import graphs.minspantrees.KruskalMinimumSpanningTreeFinder;
 import mazes.entities.Maze;
@@ -48,4 +49,35 @@ public class KruskalMazeCarverTests extends BaseTest {
             .as("walls to remove should be different when using different random seeds.")
             .isNotEqualTo(removeTwo);
     }
+
+    @Test
+    void choose_returnsSpanningTree() {
+        Maze maze = generateMaze();
+
+        Set<Wall> walls = createMazeCarver(3).chooseWallsToRemove(maze.getRemovableWalls());
+
+        WallTopology topology = new WallTopology(walls);
+        assertThat(topology.numRooms())
+            .as("removed walls should touch every room")
+            .isEqualTo(NUM_ROWS * NUM_COLS);
+        IntDisjointSets sets = new IntDisjointSets(topology.numRooms());
+        for (int r = 0; r < topology.numRooms(); r++) {
+            sets.makeSet();
+        }
+        for (int w = 0; w < topology.numWalls(); w++) {
+            assertThat(sets.union(topology.room1(w), topology.room2(w)))
+                .as("removed walls should not form a cycle")
+                .isTrue();
+        }
+    }
+
+    @Test
+    void choose_withSameSeed_returnsSameWalls() {
+        Maze maze = generateMaze();
+
+        Set<Wall> removeOne = createMazeCarver(4).chooseWallsToRemove(maze.getRemovableWalls());
+        Set<Wall> removeTwo = createMazeCarver(4).chooseWallsToRemove(maze.getRemovableWalls());
+
+        assertThat(removeOne).isEqualTo(removeTwo);
+    }
 }
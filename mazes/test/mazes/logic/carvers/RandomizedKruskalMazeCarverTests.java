@@ -0,0 +1,13 @@
+package mazes.logic.carvers;
+
+public class RandomizedKruskalMazeCarverTests extends KruskalMazeCarverTests {
+    @Override
+    protected MazeCarver createMazeCarver() {
+        return new RandomizedKruskalMazeCarver();
+    }
+
+    @Override
+    protected MazeCarver createMazeCarver(long seed) {
+        return new RandomizedKruskalMazeCarver(seed);
+    }
+}
@@ -0,0 +1,13 @@
+package mazes.logic.carvers;
+
+public class RecursiveBacktrackerMazeCarverTests extends KruskalMazeCarverTests {
+    @Override
+    protected MazeCarver createMazeCarver() {
+        return new RecursiveBacktrackerMazeCarver();
+    }
+
+    @Override
+    protected MazeCarver createMazeCarver(long seed) {
+        return new RecursiveBacktrackerMazeCarver(seed);
+    }
+}
@@ -0,0 +1,13 @@
+package mazes.logic.carvers;
+
+public class WilsonMazeCarverTests extends KruskalMazeCarverTests {
+    @Override
+    protected MazeCarver createMazeCarver() {
+        return new WilsonMazeCarver();
+    }
+
+    @Override
+    protected MazeCarver createMazeCarver(long seed) {
+        return new WilsonMazeCarver(seed);
+    }
+}
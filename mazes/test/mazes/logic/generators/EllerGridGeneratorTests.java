@@ -0,0 +1,99 @@
+package mazes.logic.generators;
+
+import disjointsets.IntDisjointSets;
+import edu.washington.cse373.BaseTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+public class EllerGridGeneratorTests extends BaseTest {
+
+    /** Checks that the streamed passages form a spanning tree of the grid. */
+    private static class TreeCheckingSink implements StreamingMazeGenerator.RowSink {
+        IntDisjointSets sets;
+        int width;
+        long rows;
+        int passages;
+        boolean cycle;
+
+        @Override
+        public void begin(int width, long height) {
+            this.width = width;
+            this.sets = new IntDisjointSets((int) (width * height));
+            for (long i = 0; i < width * height; i++) {
+                this.sets.makeSet();
+            }
+        }
+
+        @Override
+        public void acceptRow(long row, boolean[] eastOpen, boolean[] southOpen) {
+            int base = (int) row * this.width;
+            for (int c = 0; c < this.width; c++) {
+                if (c + 1 < this.width && eastOpen[c]) {
+                    join(base + c, base + c + 1);
+                }
+                if (southOpen[c]) {
+                    join(base + c, base + this.width + c);
+                }
+            }
+            this.rows++;
+        }
+
+        private void join(int cell1, int cell2) {
+            this.passages++;
+            this.cycle |= !this.sets.union(cell1, cell2);
+        }
+    }
+
+    @Test
+    void generate_returnsSpanningTree() {
+        TreeCheckingSink sink = new TreeCheckingSink();
+
+        new EllerGridGenerator(50, 30, 373).generate(sink);
+
+        assertThat(sink.rows).isEqualTo(50);
+        assertThat(sink.cycle).isFalse();
+        assertThat(sink.passages).isEqualTo(50 * 30 - 1);
+        assertThat(sink.sets.numSets()).isEqualTo(1);
+    }
+
+    @Test
+    void generate_withSingleColumn_returnsStraightCorridor() {
+        TreeCheckingSink sink = new TreeCheckingSink();
+
+        new EllerGridGenerator(10, 1, 0).generate(sink);
+
+        assertThat(sink.passages).isEqualTo(9);
+        assertThat(sink.sets.numSets()).isEqualTo(1);
+    }
+
+    @Test
+    void generate_withSameSeed_returnsSameMaze() {
+        assertThat(render(20, 20, 5)).isEqualTo(render(20, 20, 5));
+        assertThat(render(20, 20, 5)).isNotEqualTo(render(20, 20, 6));
+    }
+
+    @Test
+    void asciiSink_writesTwoLinesPerRowPlusBorder() {
+        String[] lines = render(3, 4, 1).split("\\R");
+
+        assertThat(lines).hasSize(1 + 2 * 3);
+        assertThat(lines[0]).isEqualTo("+--+--+--+--+");
+        assertThat(lines[lines.length - 1]).isEqualTo("+--+--+--+--+");
+        assertThat(lines[lines.length - 2]).isEqualTo("|           |");
+    }
+
+    @Test
+    void constructor_withNoRows_throwsIllegalArgument() {
+        assertThatThrownBy(() -> new EllerGridGenerator(0, 5, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String render(long rows, int cols, long seed) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new EllerGridGenerator(rows, cols, seed).generate(
+            new AsciiRowSink(new PrintStream(bytes, true, StandardCharsets.UTF_8)));
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,108 @@
+package mazes.storage;
+
+import edu.washington.cse373.BaseTest;
+import graphs.EdgeWithData;
+import graphs.shortestpaths.DijkstraShortestPathFinder;
+import graphs.shortestpaths.ShortestPath;
+import mazes.entities.Maze;
+import mazes.entities.Wall;
+import mazes.logic.MazeSolver;
+import mazes.logic.carvers.MazeCarver;
+import mazes.logic.carvers.RandomMazeCarver;
+import mazes.logic.carvers.RandomizedKruskalMazeCarver;
+import mazes.logic.generators.GridGenerator;
+import mazes.logic.generators.HexagonGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class MazeFileTests extends BaseTest {
+    private static final Rectangle BOUNDS = new Rectangle(0, 0, 800, 600);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void open_afterWrite_hasSameRoomsAndWalls() throws IOException {
+        Maze maze = new GridGenerator(12, 17).generateBaseMaze(BOUNDS);
+        MazeCarver.CarvedMaze carved = new RandomizedKruskalMazeCarver(3).carveMaze(maze);
+        Path path = this.tempDir.resolve("grid.maze");
+
+        MazeFile.write(path, maze, carved);
+        MappedMaze mapped = MazeFile.open(path);
+
+        assertThat(mapped.numRooms()).isEqualTo(12 * 17);
+        assertThat(mapped.numWalls()).isEqualTo(carved.walls().size() + carved.pathways().size());
+        assertThat(mapped.center(mapped.start())).isEqualTo(maze.getStart().getCenter());
+        assertThat(mapped.center(mapped.end())).isEqualTo(maze.getEnd().getCenter());
+
+        Set<List<Object>> expectedPathways = new HashSet<>();
+        for (Wall wall : carved.pathways()) {
+            expectedPathways.add(List.of(wall.getRoom1().getCenter(), wall.getRoom2().getCenter(),
+                wall.getDividingLine().start, wall.getDividingLine().end));
+        }
+        Set<List<Object>> actualPathways = new HashSet<>();
+        for (int w = 0; w < mapped.numWalls(); w++) {
+            if (mapped.isPathway(w)) {
+                actualPathways.add(List.of(mapped.center(mapped.room1(w)), mapped.center(mapped.room2(w)),
+                    mapped.dividingLine(w).start, mapped.dividingLine(w).end));
+            }
+        }
+        assertThat(actualPathways).isEqualTo(expectedPathways);
+        assertThat(mapped.allEdges()).hasSize(carved.pathways().size());
+    }
+
+    @Test
+    void findShortestPath_onMappedMaze_matchesMazeSolver() throws IOException {
+        for (long seed = 0; seed < 3; seed++) {
+            Maze maze = new HexagonGenerator(15).generateBaseMaze(BOUNDS);
+            MazeCarver.CarvedMaze carved = new RandomMazeCarver(0.5, seed).carveMaze(maze);
+            Path path = this.tempDir.resolve("hexagon" + seed + ".maze");
+            MazeFile.write(path, maze, carved);
+            MappedMaze mapped = MazeFile.open(path);
+
+            Optional<List<Wall>> expected = new MazeSolver(new DijkstraShortestPathFinder<>())
+                .solveMaze(carved.pathways(), maze.getStart(), maze.getEnd());
+            ShortestPath<Integer, EdgeWithData<Integer, Integer>> actual =
+                new DijkstraShortestPathFinder<MappedMaze, Integer, EdgeWithData<Integer, Integer>>()
+                    .findShortestPath(mapped, mapped.start(), mapped.end());
+
+            assertThat(actual.exists()).isEqualTo(expected.isPresent());
+            if (expected.isPresent()) {
+                double expectedLength = expected.get().stream().mapToDouble(Wall::getDistance).sum();
+                assertThat(actual.totalWeight()).isCloseTo(expectedLength, within(1e-6));
+                for (EdgeWithData<Integer, Integer> edge : actual.edges()) {
+                    assertThat(mapped.isPathway(edge.data())).isTrue();
+                }
+            }
+        }
+    }
+
+    @Test
+    void open_withoutMagicNumber_throwsIOException() throws IOException {
+        Path path = this.tempDir.resolve("not-a-maze");
+        Files.write(path, new byte[100]);
+
+        assertThatThrownBy(() -> MazeFile.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void open_truncatedFile_throwsIOException() throws IOException {
+        Maze maze = new GridGenerator(5, 5).generateBaseMaze(BOUNDS);
+        Path path = this.tempDir.resolve("truncated.maze");
+        MazeFile.write(path, maze, new RandomizedKruskalMazeCarver(0).carveMaze(maze));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 8));
+
+        assertThatThrownBy(() -> MazeFile.open(path)).isInstanceOf(IOException.class);
+    }
+}